@@ -0,0 +1,33 @@
+package com.budgetwise.api.analytics;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Read access to one user's transactions held column-wise in memory: the day (epoch day), the
+ * category (a small index into the user's categories) and the amount in minor units of every
+ * transaction, ordered by day. Only valid inside {@link SpendingColumnsCache#read}.
+ */
+public interface SpendingColumns {
+
+    // Number of transactions
+    int size();
+
+    int categoryCount();
+
+    UUID categoryId(int categoryIndex);
+
+    // The index of a category, or -1 if the user has no transaction in it
+    int categoryIndex(UUID categoryId);
+
+    // Visits the transactions of the half-open date range in day order
+    void scan(LocalDate startDate, LocalDate endExclusive, RowVisitor visitor);
+
+    // Totals of the half-open date range in minor units, indexed by category index
+    long[] sumByCategory(LocalDate startDate, LocalDate endExclusive);
+
+    @FunctionalInterface
+    interface RowVisitor {
+        void visit(int epochDay, int categoryIndex, long amount);
+    }
+}
@@ -0,0 +1,11 @@
+package com.budgetwise.api.analytics;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+public interface SpendingColumnsCache {
+    // Runs an aggregation over the user's columns, loading them first if they are not cached;
+    // empty if the user has too many transactions to hold in memory
+    <T> Optional<T> read(UUID userId, Function<SpendingColumns, T> query);
+}
@@ -0,0 +1,8 @@
+package com.budgetwise.api.analytics.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// One transaction as loaded into the spending columns, the amount in minor units
+public record SpendingColumnRow(LocalDateTime transactionDate, UUID categoryId, long amount) {
+}
@@ -0,0 +1,170 @@
+package com.budgetwise.api.analytics.impl;
+
+import com.budgetwise.api.analytics.SpendingColumns;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * One user's transactions as three parallel primitive arrays sorted by day, 16 bytes per
+ * transaction. A date range is found by binary search and then read as a contiguous slice.
+ * Writes insert or remove in place by shifting the tail, which for the usual write near today is
+ * a short copy. Not thread-safe: the cache synchronizes on the store around every read and write.
+ */
+class SpendingColumnStore implements SpendingColumns {
+
+    // Array headers, the category table and the store itself, roughly
+    private static final long FIXED_BYTES = 256;
+    private static final long BYTES_PER_ROW = Integer.BYTES + Integer.BYTES + Long.BYTES;
+    private static final long BYTES_PER_CATEGORY = 96;
+
+    private int[] days;
+    private int[] categories;
+    private long[] amounts;
+    private int size;
+
+    private final List<UUID> categoryIds = new ArrayList<>();
+    private final Map<UUID, Integer> categoryIndexes = new HashMap<>();
+
+    SpendingColumnStore(int capacity) {
+        days = new int[capacity];
+        categories = new int[capacity];
+        amounts = new long[capacity];
+    }
+
+    // Appends a row during the initial load, which reads rows in day order
+    void append(int day, UUID categoryId, long amount) {
+        ensureCapacity(size + 1);
+        days[size] = day;
+        categories[size] = indexOrAdd(categoryId);
+        amounts[size] = amount;
+        size++;
+    }
+
+    void add(int day, UUID categoryId, long amount) {
+        ensureCapacity(size + 1);
+        int position = firstAfter(day);
+        System.arraycopy(days, position, days, position + 1, size - position);
+        System.arraycopy(categories, position, categories, position + 1, size - position);
+        System.arraycopy(amounts, position, amounts, position + 1, size - position);
+        days[position] = day;
+        categories[position] = indexOrAdd(categoryId);
+        amounts[position] = amount;
+        size++;
+    }
+
+    // Removes one row with these values; false if there is none, which means the store is out of date
+    boolean remove(int day, UUID categoryId, long amount) {
+        Integer category = categoryIndexes.get(categoryId);
+        if (category == null) {
+            return false;
+        }
+        for (int i = firstAtOrAfter(day); i < size && days[i] == day; i++) {
+            if (categories[i] == category && amounts[i] == amount) {
+                System.arraycopy(days, i + 1, days, i, size - i - 1);
+                System.arraycopy(categories, i + 1, categories, i, size - i - 1);
+                System.arraycopy(amounts, i + 1, amounts, i, size - i - 1);
+                size--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void trimToSize() {
+        if (days.length > size) {
+            days = Arrays.copyOf(days, size);
+            categories = Arrays.copyOf(categories, size);
+            amounts = Arrays.copyOf(amounts, size);
+        }
+    }
+
+    // Approximate heap footprint, counting allocated rather than used capacity
+    long bytes() {
+        return FIXED_BYTES + days.length * BYTES_PER_ROW + categoryIds.size() * BYTES_PER_CATEGORY;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int categoryCount() {
+        return categoryIds.size();
+    }
+
+    @Override
+    public UUID categoryId(int categoryIndex) {
+        return categoryIds.get(categoryIndex);
+    }
+
+    @Override
+    public int categoryIndex(UUID categoryId) {
+        Integer index = categoryIndexes.get(categoryId);
+        return index == null ? -1 : index;
+    }
+
+    @Override
+    public void scan(LocalDate startDate, LocalDate endExclusive, RowVisitor visitor) {
+        int end = firstAtOrAfter(Math.toIntExact(endExclusive.toEpochDay()));
+        for (int i = firstAtOrAfter(Math.toIntExact(startDate.toEpochDay())); i < end; i++) {
+            visitor.visit(days[i], categories[i], amounts[i]);
+        }
+    }
+
+    @Override
+    public long[] sumByCategory(LocalDate startDate, LocalDate endExclusive) {
+        long[] totals = new long[categoryIds.size()];
+        int end = firstAtOrAfter(Math.toIntExact(endExclusive.toEpochDay()));
+        for (int i = firstAtOrAfter(Math.toIntExact(startDate.toEpochDay())); i < end; i++) {
+            totals[categories[i]] += amounts[i];
+        }
+        return totals;
+    }
+
+    private int indexOrAdd(UUID categoryId) {
+        Integer index = categoryIndexes.get(categoryId);
+        if (index == null) {
+            index = categoryIds.size();
+            categoryIds.add(categoryId);
+            categoryIndexes.put(categoryId, index);
+        }
+        return index;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > days.length) {
+            // Grows by an eighth: the footprint counts against a shared budget, so slack is kept small
+            int newCapacity = Math.max(capacity, days.length + (days.length >> 3) + 16);
+            days = Arrays.copyOf(days, newCapacity);
+            categories = Arrays.copyOf(categories, newCapacity);
+            amounts = Arrays.copyOf(amounts, newCapacity);
+        }
+    }
+
+    // The first position whose day is >= day
+    private int firstAtOrAfter(int day) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (days[middle] < day) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    // The first position whose day is > day
+    private int firstAfter(int day) {
+        return day == Integer.MAX_VALUE ? size : firstAtOrAfter(day + 1);
+    }
+}
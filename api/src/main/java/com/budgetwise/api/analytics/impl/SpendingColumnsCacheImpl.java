@@ -0,0 +1,301 @@
+package com.budgetwise.api.analytics.impl;
+
+import com.budgetwise.api.analytics.SpendingColumns;
+import com.budgetwise.api.analytics.SpendingColumnsCache;
+import com.budgetwise.api.analytics.dto.SpendingColumnRow;
+import com.budgetwise.api.global.money.Money;
+import com.budgetwise.api.transaction.TransactionRepository;
+import com.budgetwise.api.transaction.event.TransactionWriteTracker;
+import com.budgetwise.api.transaction.event.TransactionsChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the transactions of recently active users in memory as {@link SpendingColumnStore}s, so
+ * their aggregations are loops over primitive arrays instead of database queries. A store is
+ * loaded with one scan the first time its user is read and then kept current from
+ * {@link TransactionsChangedEvent}s; a load that overlapped a write of the user serves its read but
+ * is not kept (see {@link TransactionWriteTracker}). Stores are kept in least-recently-used order
+ * and the oldest are dropped once their total footprint exceeds {@code analytics.columns.max-size};
+ * a store is reloaded once it is older than {@code analytics.columns.ttl}, which bounds the effect
+ * of changes made outside the application. A load stops once it passes
+ * {@code analytics.columns.max-rows-per-user} transactions: such a user is never held in memory,
+ * {@link #read} returns empty so the caller reads the database instead, and the user is not scanned
+ * again until {@code analytics.columns.oversized-ttl} has passed.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SpendingColumnsCacheImpl implements SpendingColumnsCache {
+
+    private final TransactionRepository transactionRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+    private final TransactionWriteTracker writeTracker;
+
+    @Value("${analytics.columns.max-size:256MB}")
+    private DataSize maxSize;
+
+    @Value("${analytics.columns.max-rows-per-user:1000000}")
+    private int maxRowsPerUser;
+
+    @Value("${analytics.columns.ttl:1h}")
+    private Duration ttl;
+
+    @Value("${analytics.columns.oversized-ttl:10m}")
+    private Duration oversizedTtl;
+
+    // Access-ordered, guarded by "this"
+    private final LinkedHashMap<UUID, CachedStore> stores = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    // Users over max-rows-per-user and the nanoTime until which they are not scanned, guarded by "this"
+    private final Map<UUID, Long> oversizedUntil = new HashMap<>();
+
+    private TransactionTemplate readOnlyTransaction;
+    private Counter hits;
+    private Counter misses;
+    private Counter oversized;
+    private Counter evictions;
+
+    @PostConstruct
+    void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        hits = requests("hit");
+        misses = requests("miss");
+        oversized = requests("oversized");
+        evictions = Counter.builder("analytics.columns.evictions")
+                .description("Spending column stores dropped to stay under analytics.columns.max-size")
+                .register(meterRegistry);
+        Gauge.builder("analytics.columns.bytes", this, SpendingColumnsCacheImpl::totalBytes)
+                .description("Approximate heap footprint of the cached spending columns")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("analytics.columns.users", this, SpendingColumnsCacheImpl::userCount)
+                .description("Users whose spending columns are cached")
+                .register(meterRegistry);
+    }
+
+    private Counter requests(String result) {
+        return Counter.builder("analytics.columns.requests")
+                .description("Reads of the spending columns, by whether the user's store was cached or is too large to cache")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public <T> Optional<T> read(UUID userId, Function<SpendingColumns, T> query) {
+        SpendingColumnStore store = getOrLoad(userId);
+        if (store == null) {
+            return Optional.empty();
+        }
+        synchronized (store) {
+            return Optional.ofNullable(query.apply(store));
+        }
+    }
+
+    @EventListener
+    public synchronized void onTransactionsChanged(TransactionsChangedEvent event) {
+        UUID userId = event.userId();
+        CachedStore cached = stores.get(userId);
+        if (cached == null) {
+            return;
+        }
+
+        SpendingColumnStore store = cached.store();
+
+        boolean consistent = true;
+        long bytesBefore;
+        long bytesAfter;
+        int rows;
+        synchronized (store) {
+            bytesBefore = store.bytes();
+            for (TransactionsChangedEvent.Change change : event.changes()) {
+                int day = Math.toIntExact(change.date().toEpochDay());
+                long amount = Money.toMinorUnits(change.amount());
+                if (change.added()) {
+                    store.add(day, change.categoryId(), amount);
+                } else if (!store.remove(day, change.categoryId(), amount)) {
+                    consistent = false;
+                    break;
+                }
+            }
+            bytesAfter = store.bytes();
+            rows = store.size();
+        }
+
+        if (!consistent || rows > maxRowsPerUser) {
+            // Reloaded on the next read
+            log.debug("Dropping the spending columns of user {}", userId);
+            stores.remove(userId);
+            totalBytes -= bytesBefore;
+            if (rows > maxRowsPerUser) {
+                markOversized(userId);
+            }
+            return;
+        }
+        totalBytes += bytesAfter - bytesBefore;
+        evictOverBudget();
+    }
+
+    // Null if the user has more than maxRowsPerUser transactions
+    private SpendingColumnStore getOrLoad(UUID userId) {
+        synchronized (this) {
+            if (isOversized(userId)) {
+                oversized.increment();
+                return null;
+            }
+            CachedStore cached = stores.get(userId);
+            if (cached != null && System.nanoTime() - cached.loadedAt() < ttl.toNanos()) {
+                hits.increment();
+                return cached.store();
+            }
+            if (cached != null) {
+                drop(userId, cached);
+            }
+        }
+        misses.increment();
+
+        // The scan runs outside the lock so one user's load never blocks other users
+        TransactionWriteTracker.Load load = writeTracker.startLoad(userId);
+        SpendingColumnStore store;
+        try {
+            store = readOnlyTransaction.execute(status -> load(userId));
+        } catch (RuntimeException e) {
+            writeTracker.finishLoad(load);
+            throw e;
+        }
+        if (store == null) {
+            writeTracker.finishLoad(load);
+            log.debug("User {} has more than {} transactions, not caching their spending columns", userId, maxRowsPerUser);
+            synchronized (this) {
+                markOversized(userId);
+            }
+            oversized.increment();
+            return null;
+        }
+
+        CachedStore loaded = new CachedStore(store, System.nanoTime());
+        boolean installed = false;
+        synchronized (this) {
+            if (!stores.containsKey(userId)) {
+                stores.put(userId, loaded);
+                totalBytes += store.bytes();
+                evictOverBudget();
+                installed = true;
+            }
+        }
+        // Installed first, so a write that starts after this check finds the store and updates it
+        if (!writeTracker.finishLoad(load) && installed) {
+            synchronized (this) {
+                if (stores.get(userId) == loaded) {
+                    drop(userId, loaded);
+                }
+            }
+        }
+        // A result that is not kept is still served once; the next read loads fresh data
+        return store;
+    }
+
+    // Caller holds "this"
+    private void drop(UUID userId, CachedStore cached) {
+        stores.remove(userId);
+        synchronized (cached.store()) {
+            totalBytes -= cached.store().bytes();
+        }
+    }
+
+    // Null as soon as the user turns out to have more than maxRowsPerUser transactions
+    private SpendingColumnStore load(UUID userId) {
+        SpendingColumnStore store = new SpendingColumnStore(1024);
+        // One row past the cap tells a user over it from a user exactly at it
+        try (Stream<SpendingColumnRow> rows =
+                     transactionRepository.streamSpendingColumnRows(userId, Limit.of(maxRowsPerUser + 1))) {
+            Iterator<SpendingColumnRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                SpendingColumnRow row = iterator.next();
+                if (store.size() == maxRowsPerUser) {
+                    return null;
+                }
+                store.append(
+                        Math.toIntExact(row.transactionDate().toLocalDate().toEpochDay()),
+                        row.categoryId(),
+                        row.amount());
+            }
+        }
+        store.trimToSize();
+        return store;
+    }
+
+    // Caller holds "this"
+    private boolean isOversized(UUID userId) {
+        Long until = oversizedUntil.get(userId);
+        if (until == null) {
+            return false;
+        }
+        if (System.nanoTime() - until < 0) {
+            return true;
+        }
+        oversizedUntil.remove(userId);
+        return false;
+    }
+
+    // Caller holds "this"
+    private void markOversized(UUID userId) {
+        long now = System.nanoTime();
+        oversizedUntil.values().removeIf(until -> now - until >= 0);
+        oversizedUntil.put(userId, now + oversizedTtl.toNanos());
+    }
+
+    private void evictOverBudget() {
+        int evicted = 0;
+        Iterator<Map.Entry<UUID, CachedStore>> eldest = stores.entrySet().iterator();
+        // Always keep the most recently used store, even if it alone exceeds the budget
+        while (totalBytes > maxSize.toBytes() && stores.size() > 1 && eldest.hasNext()) {
+            SpendingColumnStore store = eldest.next().getValue().store();
+            synchronized (store) {
+                totalBytes -= store.bytes();
+            }
+            evicted++;
+            eldest.remove();
+        }
+        if (evicted > 0) {
+            evictions.increment(evicted);
+            log.debug("Evicted {} spending column stores to stay under {}.", evicted, maxSize);
+        }
+    }
+
+    private synchronized double totalBytes() {
+        return totalBytes;
+    }
+
+    private synchronized double userCount() {
+        return stores.size();
+    }
+
+    private record CachedStore(SpendingColumnStore store, long loadedAt) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.budgetwise.api.batch;
+
+import com.budgetwise.api.batch.dto.BatchRequest;
+import com.budgetwise.api.batch.dto.BatchResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/batch")
+@RequiredArgsConstructor
+@Tag(name = "Batch", description = "Endpoint for running many transaction, category and budget operations at once")
+public class BatchController {
+
+    private final BatchService batchService;
+
+    // Always 200: the outcome of each operation is reported in its own result
+    @PostMapping
+    public ResponseEntity<BatchResponse> executeBatch(@Valid @RequestBody BatchRequest request) {
+        return ResponseEntity.ok(batchService.execute(request));
+    }
+}
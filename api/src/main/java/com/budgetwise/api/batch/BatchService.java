@@ -0,0 +1,8 @@
+package com.budgetwise.api.batch;
+
+import com.budgetwise.api.batch.dto.BatchRequest;
+import com.budgetwise.api.batch.dto.BatchResponse;
+
+public interface BatchService {
+    BatchResponse execute(BatchRequest request);
+}
@@ -0,0 +1,19 @@
+package com.budgetwise.api.batch.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+@Builder
+public class BatchItemResult {
+    // Position of the operation in the request
+    private int index;
+    // HTTP status the operation would have produced as a single request
+    private int status;
+    private UUID id;
+    // The created or updated resource; null for deletes and failures
+    private Object data;
+    private String error;
+}
@@ -0,0 +1,36 @@
+package com.budgetwise.api.batch.dto;
+
+import com.budgetwise.api.batch.enums.BatchAction;
+import com.budgetwise.api.batch.enums.BatchEntityType;
+import com.budgetwise.api.budget.dto.BudgetRequest;
+import com.budgetwise.api.category.dto.CategoryRequest;
+import com.budgetwise.api.transaction.dto.TransactionRequest;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.UUID;
+
+/**
+ * One operation of a batch. {@code id} is required for updates and deletes; the payload matching
+ * {@code entity} is required for creates and updates.
+ */
+@Data
+public class BatchOperation {
+    @NotNull(message = "Action is required")
+    private BatchAction action;
+
+    @NotNull(message = "Entity type is required")
+    private BatchEntityType entity;
+
+    private UUID id;
+
+    @Valid
+    private TransactionRequest transaction;
+
+    @Valid
+    private CategoryRequest category;
+
+    @Valid
+    private BudgetRequest budget;
+}
@@ -0,0 +1,18 @@
+package com.budgetwise.api.batch.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BatchRequest {
+    @NotEmpty(message = "At least one operation is required")
+    @Size(max = 500, message = "A batch can contain at most 500 operations")
+    private List<@Valid BatchOperation> operations;
+
+    // When true, a single failed operation rolls back the whole batch
+    private boolean atomic = false;
+}
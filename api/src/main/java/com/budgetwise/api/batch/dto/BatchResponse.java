@@ -0,0 +1,16 @@
+package com.budgetwise.api.batch.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class BatchResponse {
+    private int succeeded;
+    private int failed;
+    // True when the batch was atomic and rolled back because of a failed operation
+    private boolean rolledBack;
+    private List<BatchItemResult> results;
+}
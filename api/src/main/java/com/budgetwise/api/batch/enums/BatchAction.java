@@ -0,0 +1,15 @@
+package com.budgetwise.api.batch.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum BatchAction {
+    CREATE("Create"),
+    UPDATE("Update"),
+    DELETE("Delete");
+
+    private final String name;
+
+}
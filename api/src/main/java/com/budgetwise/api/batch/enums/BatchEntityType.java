@@ -0,0 +1,15 @@
+package com.budgetwise.api.batch.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum BatchEntityType {
+    TRANSACTION("Transaction"),
+    CATEGORY("Category"),
+    BUDGET("Budget");
+
+    private final String name;
+
+}
@@ -0,0 +1,323 @@
+package com.budgetwise.api.batch.impl;
+
+import com.budgetwise.api.batch.BatchService;
+import com.budgetwise.api.batch.dto.BatchItemResult;
+import com.budgetwise.api.batch.dto.BatchOperation;
+import com.budgetwise.api.batch.dto.BatchRequest;
+import com.budgetwise.api.batch.dto.BatchResponse;
+import com.budgetwise.api.batch.enums.BatchAction;
+import com.budgetwise.api.budget.Budget;
+import com.budgetwise.api.budget.BudgetAlertService;
+import com.budgetwise.api.budget.BudgetRepository;
+import com.budgetwise.api.budget.dto.BudgetRequest;
+import com.budgetwise.api.budget.mapper.BudgetMapper;
+import com.budgetwise.api.category.Category;
+import com.budgetwise.api.category.CategoryRepository;
+import com.budgetwise.api.category.dto.CategoryRequest;
+import com.budgetwise.api.category.enums.CategoryType;
+import com.budgetwise.api.category.mapper.CategoryMapper;
+import com.budgetwise.api.dataversion.UserOwned;
+import com.budgetwise.api.exception.ResourceNotFoundException;
+import com.budgetwise.api.security.SecurityUtils;
+import com.budgetwise.api.sync.SyncService;
+import com.budgetwise.api.sync.enums.SyncEntityType;
+import com.budgetwise.api.transaction.DescriptionAutocompleteService;
+import com.budgetwise.api.transaction.Transaction;
+import com.budgetwise.api.transaction.TransactionRepository;
+import com.budgetwise.api.transaction.dto.TransactionRequest;
+import com.budgetwise.api.transaction.mapper.TransactionMapper;
+import com.budgetwise.api.user.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Runs a list of transaction, category and budget operations in one database transaction.
+ * The current user is resolved once and every referenced entity is loaded up front in one query
+ * per type, so ownership is verified once per distinct entity. Writes are flushed together at the
+ * end, letting Hibernate send them as JDBC batches, and budget alerts run once per touched
+ * category-month afterwards. An operation that fails is reported in its result; the others still
+ * apply unless the batch is atomic.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchServiceImpl implements BatchService {
+
+    private final TransactionRepository transactionRepository;
+    private final CategoryRepository categoryRepository;
+    private final BudgetRepository budgetRepository;
+    private final TransactionMapper transactionMapper;
+    private final CategoryMapper categoryMapper;
+    private final BudgetMapper budgetMapper;
+    private final BudgetAlertService budgetAlertService;
+    private final DescriptionAutocompleteService descriptionAutocompleteService;
+    private final SyncService syncService;
+    private final SecurityUtils securityUtils;
+
+    @Override
+    @Transactional
+    public BatchResponse execute(BatchRequest request) {
+        BatchSession session = new BatchSession(securityUtils.getCurrentUser(), request.getOperations());
+
+        List<BatchItemResult> results = new ArrayList<>();
+        for (int i = 0; i < request.getOperations().size(); i++) {
+            results.add(session.apply(i, request.getOperations().get(i)));
+        }
+        int failed = (int) results.stream().filter(r -> r.getError() != null).count();
+
+        if (request.isAtomic() && failed > 0) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return BatchResponse.builder()
+                    .succeeded(0)
+                    .failed(failed)
+                    .rolledBack(true)
+                    .results(results)
+                    .build();
+        }
+
+        transactionRepository.flush();
+        session.touchedCategoryMonths.forEach((categoryId, months) -> months.forEach(month ->
+                budgetAlertService.checkBudget(session.user, session.categories.get(categoryId), month)));
+
+        log.info("Batch of {} operations for user {}: {} succeeded, {} failed.",
+                results.size(), session.user.getUsername(), results.size() - failed, failed);
+
+        return BatchResponse.builder()
+                .succeeded(results.size() - failed)
+                .failed(failed)
+                .rolledBack(false)
+                .results(results)
+                .build();
+    }
+
+    private final class BatchSession {
+        private final User user;
+        private final Map<UUID, Category> categories;
+        private final Map<UUID, Transaction> transactions;
+        private final Map<UUID, Budget> budgets;
+        private final Set<UUID> deleted = new HashSet<>();
+        private final Map<UUID, Set<YearMonth>> touchedCategoryMonths = new LinkedHashMap<>();
+
+        private BatchSession(User user, List<BatchOperation> operations) {
+            this.user = user;
+
+            Set<UUID> categoryIds = new LinkedHashSet<>();
+            Set<UUID> transactionIds = new LinkedHashSet<>();
+            Set<UUID> budgetIds = new LinkedHashSet<>();
+            for (BatchOperation operation : operations) {
+                if (operation.getTransaction() != null && operation.getTransaction().getCategoryId() != null) {
+                    categoryIds.add(operation.getTransaction().getCategoryId());
+                }
+                if (operation.getBudget() != null && operation.getBudget().getCategoryId() != null) {
+                    categoryIds.add(operation.getBudget().getCategoryId());
+                }
+                if (operation.getId() != null) {
+                    switch (operation.getEntity()) {
+                        case TRANSACTION -> transactionIds.add(operation.getId());
+                        case CATEGORY -> categoryIds.add(operation.getId());
+                        case BUDGET -> budgetIds.add(operation.getId());
+                    }
+                }
+            }
+
+            this.categories = byId(categoryRepository.findAllById(categoryIds), Category::getId);
+            this.transactions = byId(transactionRepository.findWithCategoryByIdIn(transactionIds), Transaction::getId);
+            this.budgets = byId(budgetRepository.findWithCategoryByIdIn(budgetIds), Budget::getId);
+        }
+
+        private BatchItemResult apply(int index, BatchOperation operation) {
+            try {
+                return switch (operation.getEntity()) {
+                    case TRANSACTION -> applyTransaction(index, operation);
+                    case CATEGORY -> applyCategory(index, operation);
+                    case BUDGET -> applyBudget(index, operation);
+                };
+            } catch (ResourceNotFoundException e) {
+                return failure(index, operation, HttpStatus.NOT_FOUND, e.getMessage());
+            } catch (AccessDeniedException e) {
+                return failure(index, operation, HttpStatus.UNAUTHORIZED, e.getMessage());
+            } catch (IllegalArgumentException e) {
+                return failure(index, operation, HttpStatus.BAD_REQUEST, e.getMessage());
+            } catch (IllegalStateException e) {
+                return failure(index, operation, HttpStatus.CONFLICT, e.getMessage());
+            }
+        }
+
+        private BatchItemResult applyTransaction(int index, BatchOperation operation) {
+            if (operation.getAction() == BatchAction.DELETE) {
+                Transaction transaction = owned(transactions, requireId(operation), "Transaction");
+                descriptionAutocompleteService.descriptionRemoved(
+                        user.getId(), transaction.getDescription(), transaction.getCategory().getId());
+                syncService.recordDeletion(user, SyncEntityType.TRANSACTION, transaction.getId());
+                transactionRepository.delete(transaction);
+                deleted.add(transaction.getId());
+                return success(index, HttpStatus.NO_CONTENT, transaction.getId(), null);
+            }
+
+            TransactionRequest request = requirePayload(operation.getTransaction(), operation);
+            Category category = owned(categories, request.getCategoryId(), "Category");
+
+            Transaction transaction;
+            HttpStatus status;
+            if (operation.getAction() == BatchAction.CREATE) {
+                transaction = Transaction.builder()
+                        .user(user)
+                        .isCreatedAutomatically(false)
+                        .build();
+                status = HttpStatus.CREATED;
+            } else {
+                transaction = owned(transactions, requireId(operation), "Transaction");
+                descriptionAutocompleteService.descriptionRemoved(
+                        user.getId(), transaction.getDescription(), transaction.getCategory().getId());
+                status = HttpStatus.OK;
+            }
+            transaction.setAmount(request.getAmount());
+            transaction.setDescription(request.getDescription());
+            transaction.setTransactionDate(request.getTransactionDate());
+            transaction.setCategory(category);
+
+            Transaction saved = transactionRepository.save(transaction);
+            descriptionAutocompleteService.descriptionAdded(
+                    user.getId(), saved.getDescription(), category, saved.getTransactionDate());
+            touchedCategoryMonths.computeIfAbsent(category.getId(), id -> new HashSet<>())
+                    .add(YearMonth.from(saved.getTransactionDate()));
+            return success(index, status, saved.getId(), transactionMapper.toDto(saved));
+        }
+
+        private BatchItemResult applyCategory(int index, BatchOperation operation) {
+            if (operation.getAction() == BatchAction.DELETE) {
+                Category category = owned(categories, requireId(operation), "Category");
+                // Same rule as the single delete; the check also sees transactions created earlier in this batch
+                if (transactionRepository.existsByCategory(category)) {
+                    throw new IllegalStateException("Cannot delete category with existing transactions.");
+                }
+                syncService.recordDeletion(user, SyncEntityType.CATEGORY, category.getId());
+                categoryRepository.delete(category);
+                deleted.add(category.getId());
+                return success(index, HttpStatus.NO_CONTENT, category.getId(), null);
+            }
+
+            CategoryRequest request = requirePayload(operation.getCategory(), operation);
+            Category category;
+            HttpStatus status;
+            if (operation.getAction() == BatchAction.CREATE) {
+                category = Category.builder().user(user).build();
+                status = HttpStatus.CREATED;
+            } else {
+                category = owned(categories, requireId(operation), "Category");
+                status = HttpStatus.OK;
+            }
+            category.setName(request.getName());
+            category.setDescription(request.getDescription());
+            category.setCategoryType(CategoryType.valueOf(request.getCategoryType().toUpperCase()));
+            category.setColor(request.getColor());
+
+            Category saved = categoryRepository.save(category);
+            return success(index, status, saved.getId(), categoryMapper.toDto(saved));
+        }
+
+        private BatchItemResult applyBudget(int index, BatchOperation operation) {
+            if (operation.getAction() == BatchAction.DELETE) {
+                Budget budget = owned(budgets, requireId(operation), "Budget");
+                syncService.recordDeletion(user, SyncEntityType.BUDGET, budget.getId());
+                budgetRepository.delete(budget);
+                deleted.add(budget.getId());
+                return success(index, HttpStatus.NO_CONTENT, budget.getId(), null);
+            }
+
+            BudgetRequest request = requirePayload(operation.getBudget(), operation);
+            Budget budget;
+            HttpStatus status;
+            if (operation.getAction() == BatchAction.CREATE) {
+                Category category = owned(categories, request.getCategoryId(), "Category");
+                YearMonth month = YearMonth.parse(request.getBudgetMonth());
+                // Checked here because a unique constraint violation at flush would fail the whole batch
+                if (budgetRepository.findByUserAndCategoryAndBudgetMonth(user, category, month.atDay(1)).isPresent()) {
+                    throw new IllegalStateException("A budget for this category and month already exists.");
+                }
+                budget = Budget.builder()
+                        .budgetMonth(month.atDay(1))
+                        .user(user)
+                        .category(category)
+                        .build();
+                status = HttpStatus.CREATED;
+            } else {
+                // As with the single update, only the amount and auto-renew status can change
+                budget = owned(budgets, requireId(operation), "Budget");
+                status = HttpStatus.OK;
+            }
+            budget.setBudgetAmount(request.getBudgetAmount());
+            budget.setAutoRenew(request.getAutoRenew());
+
+            Budget saved = budgetRepository.save(budget);
+            return success(index, status, saved.getId(), budgetMapper.toDto(saved));
+        }
+
+        // Looks up a preloaded entity and verifies that it belongs to the current user
+        private <T extends UserOwned> T owned(Map<UUID, T> loaded, UUID id, String type) {
+            T entity = loaded.get(id);
+            if (entity == null || deleted.contains(id)) {
+                throw new ResourceNotFoundException(type + " not found with id: " + id);
+            }
+            if (!entity.getUser().getId().equals(user.getId())) {
+                throw new AccessDeniedException("You do not have permission to access this " + type.toLowerCase());
+            }
+            return entity;
+        }
+    }
+
+    private static UUID requireId(BatchOperation operation) {
+        if (operation.getId() == null) {
+            throw new IllegalArgumentException("An id is required to " + operation.getAction().getName().toLowerCase()
+                    + " a " + operation.getEntity().getName().toLowerCase() + ".");
+        }
+        return operation.getId();
+    }
+
+    private static <T> T requirePayload(T payload, BatchOperation operation) {
+        if (payload == null) {
+            throw new IllegalArgumentException("The " + operation.getEntity().getName().toLowerCase()
+                    + " payload is required to " + operation.getAction().getName().toLowerCase() + " it.");
+        }
+        return payload;
+    }
+
+    private static <T> Map<UUID, T> byId(List<T> entities, Function<T, UUID> idGetter) {
+        return entities.stream().collect(Collectors.toMap(idGetter, Function.identity()));
+    }
+
+    private static BatchItemResult success(int index, HttpStatus status, UUID id, Object data) {
+        return BatchItemResult.builder()
+                .index(index)
+                .status(status.value())
+                .id(id)
+                .data(data)
+                .build();
+    }
+
+    private static BatchItemResult failure(int index, BatchOperation operation, HttpStatus status, String error) {
+        return BatchItemResult.builder()
+                .index(index)
+                .status(status.value())
+                .id(operation.getId())
+                .error(error)
+                .build();
+    }
+}
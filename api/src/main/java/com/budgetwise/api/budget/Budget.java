@@ -1,6 +1,9 @@
 package com.budgetwise.api.budget;
 
 import com.budgetwise.api.category.Category;
+import com.budgetwise.api.dashboard.DashboardCacheListener;
+import com.budgetwise.api.dataversion.UserDataVersionListener;
+import com.budgetwise.api.dataversion.UserOwned;
 import com.budgetwise.api.user.User;
 import jakarta.persistence.*;
 import lombok.*;
@@ -18,13 +21,16 @@ import static org.hibernate.annotations.UuidGenerator.Style.TIME;
 @Entity
 @Table(name = "budgets", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"user_id", "category_id", "budget_month"})
+}, indexes = {
+        @Index(name = "idx_budgets_user_month", columnList = "user_id, budget_month")
 })
 @Getter
 @Setter
 @NoArgsConstructor
 @Builder
 @AllArgsConstructor
-public class Budget {
+@EntityListeners({UserDataVersionListener.class, DashboardCacheListener.class})
+public class Budget implements UserOwned {
 
     @Id
     @GeneratedValue
@@ -42,6 +48,10 @@ public class Budget {
     @Column(name = "auto_renew", nullable = false, columnDefinition = "boolean DEFAULT false")
     private boolean autoRenew = false;
 
+    // Set once the projected month-end spend first exceeded the amount; written by a bulk update
+    @Column(name = "forecast_alerted_at")
+    private Instant forecastAlertedAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -57,4 +67,12 @@ public class Budget {
     @UpdateTimestamp
     @Column(name = "updated_at")
     private Instant updatedAt;
+
+    // The month is forecast against the new amount, so its pace alert may be sent again
+    public void setBudgetAmount(BigDecimal budgetAmount) {
+        if (this.budgetAmount != null && (budgetAmount == null || this.budgetAmount.compareTo(budgetAmount) != 0)) {
+            forecastAlertedAt = null;
+        }
+        this.budgetAmount = budgetAmount;
+    }
 }
@@ -1,7 +1,12 @@
 package com.budgetwise.api.budget;
 
+import com.budgetwise.api.category.Category;
 import com.budgetwise.api.transaction.Transaction;
+import com.budgetwise.api.user.User;
+
+import java.time.YearMonth;
 
 public interface BudgetAlertService {
     void checkBudgetAfterTransaction(Transaction transaction);
+    void checkBudget(User user, Category category, YearMonth month);
 }
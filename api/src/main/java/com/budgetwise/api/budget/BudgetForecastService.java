@@ -0,0 +1,13 @@
+package com.budgetwise.api.budget;
+
+import com.budgetwise.api.budget.dto.BudgetForecast;
+import com.budgetwise.api.global.money.Money;
+
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.UUID;
+
+public interface BudgetForecastService {
+    // Forecasts of one user's budgets in a month, given as category id -> budget amount, keyed by category id
+    Map<UUID, BudgetForecast> forecast(UUID userId, YearMonth month, Map<UUID, Money> budgetAmountsByCategory);
+}
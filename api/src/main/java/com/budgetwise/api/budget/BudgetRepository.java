@@ -3,21 +3,39 @@ package com.budgetwise.api.budget;
 import com.budgetwise.api.category.Category;
 import com.budgetwise.api.dashboard.dto.BudgetProgress;
 import com.budgetwise.api.user.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface BudgetRepository extends JpaRepository<Budget, UUID> {
-    // Finds budgets for a user within a given start and end date (inclusive)
+    // Finds budgets for a user within a given start and end date (inclusive), with their categories
+    @EntityGraph(attributePaths = "category")
     List<Budget> findByUserAndBudgetMonthBetween(
             User user, LocalDate startDate, LocalDate endDate
     );
 
+    @EntityGraph(attributePaths = "category")
+    Optional<Budget> findWithCategoryById(UUID id);
+
+    @EntityGraph(attributePaths = "category")
+    List<Budget> findWithCategoryByIdIn(Collection<UUID> ids);
+
+    // All budgets of a user, or those created or updated after the given instant, for sync
+    @EntityGraph(attributePaths = "category")
+    List<Budget> findByUser(User user);
+
+    @EntityGraph(attributePaths = "category")
+    List<Budget> findByUserAndUpdatedAtAfter(User user, Instant since);
+
     Optional<Budget> findByUserAndCategoryAndBudgetMonth(
             User user, Category category, LocalDate budgetMonth
     );
@@ -32,21 +50,44 @@ public interface BudgetRepository extends JpaRepository<Budget, UUID> {
     // --- METHOD FOR DASHBOARD ---
 
     /**
-     * Finds all budgets for a user in a given month and calculates the total spent for each.
-     * This query fetches the raw data needed to build the BudgetProgress DTO.
+     * Finds all budgets for a user in a given month together with the total spent in each
+     * budget's category, as one grouped query: every budget of the month is joined to the daily
+     * rollups of its category over the half-open range [month, nextMonth). Both sides are read by
+     * index range (idx_budgets_user_month and idx_daily_spending_rollups_user_category_date), and
+     * no column is wrapped in a function.
      * The final calculation (amountRemaining) is done in the service layer.
      */
     @Query("SELECT new com.budgetwise.api.dashboard.dto.BudgetProgress(" +
-            "b.id, b.category.id, b.category.name, " +
-            "(SELECT COALESCE(SUM(t.amount), 0) FROM Transaction t " +
-            " WHERE t.user = b.user AND t.category = b.category " +
-            " AND FUNCTION('YEAR', t.transactionDate) = FUNCTION('YEAR', b.budgetMonth) " +
-            " AND FUNCTION('MONTH', t.transactionDate) = FUNCTION('MONTH', b.budgetMonth)), " +
-            "b.budgetAmount" +
-            ") " +
-            "FROM Budget b WHERE b.user = :user AND b.budgetMonth = :month")
+            "b.id, c.id, c.name, COALESCE(SUM(r.totalAmount), 0), b.budgetAmount) " +
+            "FROM Budget b JOIN b.category c " +
+            "LEFT JOIN DailySpendingRollup r ON r.id.userId = b.user.id AND r.id.categoryId = c.id " +
+            "AND r.id.spendingDate >= :month AND r.id.spendingDate < :nextMonth " +
+            "WHERE b.user = :user AND b.budgetMonth = :month " +
+            "GROUP BY b.id, c.id, c.name, b.budgetAmount")
     List<BudgetProgress> findBudgetProgressData(
             @Param("user") User user,
-            @Param("month") LocalDate month
+            @Param("month") LocalDate month,
+            @Param("nextMonth") LocalDate nextMonth
+    );
+
+    // --- METHODS FOR FORECAST ALERTS ---
+
+    // Budgets of a user's month in the given categories that have not had a forecast alert yet
+    @EntityGraph(attributePaths = {"category", "user"})
+    @Query("SELECT b FROM Budget b WHERE b.user.id = :userId AND b.budgetMonth = :month " +
+            "AND b.category.id IN :categoryIds AND b.forecastAlertedAt IS NULL")
+    List<Budget> findWithoutForecastAlert(
+            @Param("userId") UUID userId,
+            @Param("month") LocalDate month,
+            @Param("categoryIds") Collection<UUID> categoryIds
     );
-}
\ No newline at end of file
+
+    /**
+     * Claims the forecast alert of a budget. Returns 0 when another writer already did, so every
+     * budget is alerted at most once. A bulk update, so updatedAt and the entity listeners are
+     * not touched: clients have nothing to sync.
+     */
+    @Modifying
+    @Query("UPDATE Budget b SET b.forecastAlertedAt = :alertedAt WHERE b.id = :id AND b.forecastAlertedAt IS NULL")
+    int markForecastAlerted(@Param("id") UUID id, @Param("alertedAt") Instant alertedAt);
+}
@@ -0,0 +1,22 @@
+package com.budgetwise.api.budget.dto;
+
+import com.budgetwise.api.global.money.Money;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Projected month-end spend of a budget: what is spent so far, the recent daily pace carried over
+ * the days left, and the occurrences of recurring transactions still due this month.
+ */
+@Data
+@Builder
+public class BudgetForecast {
+    private Money spentSoFar;
+    private Money dailyPace;            // Recent spend per day, excluding recurring transactions
+    private Money upcomingRecurring;
+    private Money projectedTotal;
+    private Money projectedRemaining;   // Budget amount minus projected total
+    private boolean projectedOverBudget;
+    private int daysElapsed;
+    private int daysRemaining;
+}
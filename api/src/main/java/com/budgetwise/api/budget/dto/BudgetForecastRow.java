@@ -0,0 +1,8 @@
+package com.budgetwise.api.budget.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// One transaction of the forecast month, as loaded by TransactionRepository, the amount in minor units
+public record BudgetForecastRow(UUID categoryId, LocalDateTime transactionDate, long amount, boolean recurring) {
+}
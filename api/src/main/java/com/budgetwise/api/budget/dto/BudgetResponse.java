@@ -21,4 +21,5 @@ public class BudgetResponse {
     private boolean autoRenew;
     private UUID categoryId;
     private String categoryName;
+    private BudgetForecast forecast;
 }
\ No newline at end of file
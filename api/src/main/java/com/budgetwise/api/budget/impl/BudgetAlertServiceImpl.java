@@ -2,23 +2,37 @@ package com.budgetwise.api.budget.impl;
 
 import com.budgetwise.api.budget.Budget;
 import com.budgetwise.api.budget.BudgetAlertService;
+import com.budgetwise.api.budget.BudgetForecastService;
 import com.budgetwise.api.budget.BudgetRepository;
+import com.budgetwise.api.budget.dto.BudgetForecast;
+import com.budgetwise.api.category.Category;
+import com.budgetwise.api.global.money.Money;
 import com.budgetwise.api.notification.EmailService;
 import com.budgetwise.api.notification.Notification;
 import com.budgetwise.api.notification.NotificationRepository;
 import com.budgetwise.api.transaction.Transaction;
 import com.budgetwise.api.transaction.TransactionRepository;
+import com.budgetwise.api.transaction.event.TransactionsChangedEvent;
 import com.budgetwise.api.user.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.io.IOException;
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.time.Instant;
 import java.time.YearMonth;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -29,55 +43,124 @@ public class BudgetAlertServiceImpl implements BudgetAlertService {
     private final TransactionRepository transactionRepository;
     private final NotificationRepository notificationRepository;
     private final EmailService emailService;
+    private final BudgetForecastService budgetForecastService;
 
     @Value("${budget.alert.threshold}")
     private double alertThreshold;
 
+    @Value("${budget.forecast.alert-enabled:true}")
+    private boolean forecastAlertEnabled;
+
     /**
      * This method is called after a new transaction is created.
      * It checks if the transaction's category has a budget and if that budget has crossed the alert threshold.
      */
+    @Override
     public void checkBudgetAfterTransaction(Transaction transaction) {
-        YearMonth transactionMonth = YearMonth.from(transaction.getTransactionDate());
-
-        // Find if a budget exists for this transaction's category and month
-        budgetRepository.findByUserAndCategoryAndBudgetMonth(
+        checkBudget(
                 transaction.getUser(),
                 transaction.getCategory(),
-                transactionMonth.atDay(1)
-        ).ifPresent(budget -> {
-            // A budget exists, now let's calculate the total spending for that month
-            List<Transaction> transactionsInMonth = transactionRepository.findByUserAndCategoryAndTransactionDateBetween(
-                    transaction.getUser(),
-                    transaction.getCategory(),
-                    transactionMonth.atDay(1).atStartOfDay(),
-                    transactionMonth.atEndOfMonth().atTime(23, 59, 59)
-            );
+                YearMonth.from(transaction.getTransactionDate())
+        );
+    }
 
-            BigDecimal totalSpent = transactionsInMonth.stream()
-                    .map(Transaction::getAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+    /**
+     * Checks a single category-month against its budget, if one exists.
+     * Bulk writers call this once per affected category-month instead of once per transaction.
+     */
+    @Override
+    public void checkBudget(User user, Category category, YearMonth month) {
+        // Find if a budget exists for this category and month
+        budgetRepository.findByUserAndCategoryAndBudgetMonth(
+                user,
+                category,
+                month.atDay(1)
+        ).ifPresent(budget -> {
+            // A budget exists; the database sums the month so no transaction rows are loaded
+            Money totalSpent = Money.of(transactionRepository.sumAmountByCategory(
+                    user,
+                    category,
+                    month.atDay(1).atStartOfDay(),
+                    month.plusMonths(1).atDay(1).atStartOfDay()
+            ));
 
-            BigDecimal budgetAmount = budget.getBudgetAmount();
+            Money budgetAmount = Money.of(budget.getBudgetAmount());
 
             // Calculate the spending ratio
-            BigDecimal spendingRatio = totalSpent.divide(budgetAmount, 4, RoundingMode.HALF_UP);
-
-            if (spendingRatio.doubleValue() >= alertThreshold) {
+            if (!budgetAmount.isZero() && totalSpent.ratio(budgetAmount) >= alertThreshold) {
                 // Threshold reached! Create the notifications.
                 createAndSendAlerts(budget, totalSpent);
             }
         });
     }
 
-    private void createAndSendAlerts(Budget budget, BigDecimal totalSpent) {
+    /**
+     * Warns, once per budget, when the current month's spend is projected to exceed the budget
+     * while still being within it. Runs once the writing transaction has completed, after the
+     * forecast state has applied the change, on the bounded {@code forecastAlertExecutor} and in
+     * its own database transaction, so neither the check nor the email delays the write.
+     */
+    @Async("forecastAlertExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        if (!forecastAlertEnabled) {
+            return;
+        }
+        YearMonth currentMonth = YearMonth.now();
+        Set<UUID> categoryIds = event.changes().stream()
+                .filter(change -> change.added() && YearMonth.from(change.date()).equals(currentMonth))
+                .map(TransactionsChangedEvent.Change::categoryId)
+                .collect(Collectors.toSet());
+        if (categoryIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<Budget> budgets = budgetRepository.findWithoutForecastAlert(event.userId(), currentMonth.atDay(1), categoryIds);
+            if (budgets.isEmpty()) {
+                return;
+            }
+            Map<UUID, Money> budgetAmounts = new HashMap<>();
+            budgets.forEach(budget -> budgetAmounts.put(budget.getCategory().getId(), Money.of(budget.getBudgetAmount())));
+            Map<UUID, BudgetForecast> forecasts = budgetForecastService.forecast(event.userId(), currentMonth, budgetAmounts);
+
+            for (Budget budget : budgets) {
+                BudgetForecast forecast = forecasts.get(budget.getCategory().getId());
+                // Once the budget is actually exceeded, the threshold alert has already said so
+                if (forecast.isProjectedOverBudget()
+                        && forecast.getSpentSoFar().compareTo(Money.of(budget.getBudgetAmount())) <= 0
+                        && budgetRepository.markForecastAlerted(budget.getId(), Instant.now()) == 1) {
+                    createAndSendForecastAlert(budget, forecast);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to check budget forecasts for user {}", event.userId(), e);
+        }
+    }
+
+    private void createAndSendForecastAlert(Budget budget, BudgetForecast forecast) {
+        String message = String.format(
+                "Budget Forecast: At your current pace you will spend about $%s of your $%s budget for %s by the end of the month.",
+                forecast.getProjectedTotal().toBigDecimal().toPlainString(),
+                budget.getBudgetAmount().toPlainString(),
+                budget.getCategory().getName()
+        );
+        sendAlert(budget, "BudgetWise Forecast: " + budget.getCategory().getName(), message);
+    }
+
+    private void createAndSendAlerts(Budget budget, Money totalSpent) {
         String message = String.format(
                 "Budget Alert: You have spent $%s of your $%s budget for %s.",
-                totalSpent.toPlainString(),
+                totalSpent.toBigDecimal().toPlainString(),
                 budget.getBudgetAmount().toPlainString(),
                 budget.getCategory().getName()
         );
 
+        sendAlert(budget, "BudgetWise Alert: " + budget.getCategory().getName(), message);
+    }
+
+    private void sendAlert(Budget budget, String subject, String message) {
         // 1. Create In-App Notification
         Notification appNotification = Notification.builder()
                 .user(budget.getUser())
@@ -87,7 +170,6 @@ public class BudgetAlertServiceImpl implements BudgetAlertService {
 
         // 2. Send Email Notification
         User user = budget.getUser();
-        String subject = "BudgetWise Alert: " + budget.getCategory().getName();
 
         try {
             emailService.sendEmail(user.getEmail(), subject, message);
@@ -0,0 +1,271 @@
+package com.budgetwise.api.budget.impl;
+
+import com.budgetwise.api.budget.BudgetForecastService;
+import com.budgetwise.api.budget.dto.BudgetForecast;
+import com.budgetwise.api.budget.dto.BudgetForecastRow;
+import com.budgetwise.api.global.money.Money;
+import com.budgetwise.api.recurringtransaction.RecurringTransaction;
+import com.budgetwise.api.recurringtransaction.RecurringTransactionRepository;
+import com.budgetwise.api.recurringtransaction.enums.ScheduleType;
+import com.budgetwise.api.transaction.TransactionRepository;
+import com.budgetwise.api.transaction.event.TransactionWriteTracker;
+import com.budgetwise.api.transaction.event.TransactionsChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Projects each budget's month-end spend as spent so far, plus the recent daily pace times the
+ * days left, plus the occurrences of active recurring rules still due in the month.
+ * <p>
+ * The pace is an exponentially weighted moving average of the daily spend without the rows
+ * generated by recurring rules, which are forecast from their schedule instead of being smeared
+ * over the month. The state behind it (running sum, per-day spend, the average and the number of
+ * days folded into it) is kept per (user, month, category) and loaded once from the month's
+ * transactions. Committed changes are then applied to it in O(1) from
+ * {@link TransactionsChangedEvent}, and reads only fold in the days that have passed since the
+ * last read, so neither writes nor reads rescan the month.
+ * <p>
+ * A state whose load overlapped a write of the user's transactions may or may not contain that
+ * write, so it is used for the read that loaded it but not kept; see {@link TransactionWriteTracker}.
+ */
+@Service
+@RequiredArgsConstructor
+public class BudgetForecastServiceImpl implements BudgetForecastService {
+
+    private final TransactionRepository transactionRepository;
+    private final RecurringTransactionRepository recurringRepository;
+    private final TransactionWriteTracker writeTracker;
+
+    @Value("${budget.forecast.pace-half-life-days:7}")
+    private double paceHalfLifeDays;
+
+    @Value("${budget.forecast.state-cache-size:10000}")
+    private long stateCacheSize;
+
+    @Value("${budget.forecast.state-ttl:6h}")
+    private Duration stateTtl;
+
+    // Weight of the newest day in the moving average
+    private double alpha;
+
+    private Cache<MonthKey, MonthState> states;
+
+    @PostConstruct
+    void init() {
+        if (paceHalfLifeDays <= 0) {
+            throw new IllegalStateException("budget.forecast.pace-half-life-days must be positive");
+        }
+        alpha = 1 - Math.pow(0.5, 1 / paceHalfLifeDays);
+        states = Caffeine.newBuilder()
+                .maximumSize(stateCacheSize)
+                .expireAfterWrite(stateTtl)
+                .build();
+    }
+
+    @Override
+    public Map<UUID, BudgetForecast> forecast(UUID userId, YearMonth month, Map<UUID, Money> budgetAmountsByCategory) {
+        Map<UUID, BudgetForecast> forecasts = new LinkedHashMap<>();
+        if (budgetAmountsByCategory.isEmpty()) {
+            return forecasts;
+        }
+
+        LocalDate today = LocalDate.now();
+        YearMonth currentMonth = YearMonth.from(today);
+        // Days of the month that have started, today included
+        int daysElapsed = month.isBefore(currentMonth) ? month.lengthOfMonth()
+                : month.equals(currentMonth) ? today.getDayOfMonth() : 0;
+        int daysRemaining = month.lengthOfMonth() - daysElapsed;
+
+        Map<UUID, Long> upcomingRecurring = daysRemaining == 0 ? Map.of() : upcomingRecurring(userId, month);
+
+        MonthState state = state(new MonthKey(userId, month));
+        for (Map.Entry<UUID, Money> budget : budgetAmountsByCategory.entrySet()) {
+            long spent;
+            double pace;
+            synchronized (state) {
+                CategoryPace categoryPace = state.categories.get(budget.getKey());
+                spent = categoryPace == null ? 0 : categoryPace.total;
+                pace = categoryPace == null ? 0 : categoryPace.paceAt(daysElapsed, alpha);
+            }
+            long recurring = upcomingRecurring.getOrDefault(budget.getKey(), 0L);
+            Money projected = Money.ofMinor(spent + Math.round(pace * daysRemaining) + recurring);
+            Money budgetAmount = budget.getValue();
+            forecasts.put(budget.getKey(), BudgetForecast.builder()
+                    .spentSoFar(Money.ofMinor(spent))
+                    .dailyPace(Money.ofMinor(Math.round(pace)))
+                    .upcomingRecurring(Money.ofMinor(recurring))
+                    .projectedTotal(projected)
+                    .projectedRemaining(budgetAmount.minus(projected))
+                    .projectedOverBudget(projected.compareTo(budgetAmount) > 0)
+                    .daysElapsed(daysElapsed)
+                    .daysRemaining(daysRemaining)
+                    .build());
+        }
+        return forecasts;
+    }
+
+    @EventListener
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        for (TransactionsChangedEvent.Change change : event.changes()) {
+            // A state whose load overlapped this write is dropped by its loader even if it is updated here
+            states.asMap().computeIfPresent(new MonthKey(event.userId(), YearMonth.from(change.date())), (key, state) -> {
+                long amount = Money.toMinorUnits(change.amount());
+                synchronized (state) {
+                    state.apply(change.categoryId(), change.date(), change.added() ? amount : -amount, change.recurring(), alpha);
+                }
+                return state;
+            });
+        }
+    }
+
+    private MonthState state(MonthKey key) {
+        MonthState cached = states.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        TransactionWriteTracker.Load load = writeTracker.startLoad(key.userId());
+        MonthState loaded;
+        try {
+            loaded = load(key);
+        } catch (RuntimeException e) {
+            writeTracker.finishLoad(load);
+            throw e;
+        }
+        MonthState installed = states.asMap().putIfAbsent(key, loaded);
+        if (installed != null) {
+            writeTracker.finishLoad(load);
+            return installed;
+        }
+        if (!writeTracker.finishLoad(load)) {
+            states.asMap().remove(key, loaded);
+        }
+        return loaded;
+    }
+
+    private MonthState load(MonthKey key) {
+        MonthState state = new MonthState(key.month());
+        List<BudgetForecastRow> rows = transactionRepository.findForecastRows(
+                key.userId(),
+                key.month().atDay(1).atStartOfDay(),
+                key.month().plusMonths(1).atDay(1).atStartOfDay());
+        for (BudgetForecastRow row : rows) {
+            state.apply(row.categoryId(), row.transactionDate().toLocalDate(),
+                    row.amount(), row.recurring(), alpha);
+        }
+        return state;
+    }
+
+    /**
+     * Sums, per category, the occurrences of the user's active recurring rules from their next
+     * execution date to the end of the month. A rule due today or earlier has not been executed
+     * yet, so its occurrence still counts.
+     */
+    private Map<UUID, Long> upcomingRecurring(UUID userId, YearMonth month) {
+        LocalDate monthStart = month.atDay(1);
+        LocalDate monthEnd = month.atEndOfMonth();
+        Map<UUID, Long> totals = new HashMap<>();
+        for (RecurringTransaction rule : recurringRepository.findActiveByUserIdDueBefore(userId, monthEnd.plusDays(1))) {
+            LocalDate last = rule.getEndDate() != null && rule.getEndDate().isBefore(monthEnd) ? rule.getEndDate() : monthEnd;
+            long amount = Money.toMinorUnits(rule.getAmount());
+            int occurrences = 0;
+            for (LocalDate date = rule.getNextExecutionDate(); !date.isAfter(last); date = next(date, rule.getScheduleType())) {
+                // The scheduler dates each transaction on its occurrence, so earlier ones fall in earlier months
+                if (!date.isBefore(monthStart)) {
+                    occurrences++;
+                }
+            }
+            if (occurrences > 0) {
+                totals.merge(rule.getCategory().getId(), amount * occurrences, Long::sum);
+            }
+        }
+        return totals;
+    }
+
+    private static LocalDate next(LocalDate date, ScheduleType scheduleType) {
+        return switch (scheduleType) {
+            case DAILY -> date.plusDays(1);
+            case WEEKLY -> date.plusWeeks(1);
+            case MONTHLY -> date.plusMonths(1);
+            case YEARLY -> date.plusYears(1);
+        };
+    }
+
+    private record MonthKey(UUID userId, YearMonth month) {
+    }
+
+    // The per-category state of one user and month, guarded by its own monitor
+    private static final class MonthState {
+
+        private final YearMonth month;
+        private final Map<UUID, CategoryPace> categories = new HashMap<>();
+
+        private MonthState(YearMonth month) {
+            this.month = month;
+        }
+
+        void apply(UUID categoryId, LocalDate date, long amount, boolean recurring, double alpha) {
+            categories.computeIfAbsent(categoryId, id -> new CategoryPace(month.lengthOfMonth()))
+                    .apply(date.getDayOfMonth(), amount, recurring, alpha);
+        }
+    }
+
+    /**
+     * Running sum and moving average of one category in one month. Days 1..foldedDays are folded
+     * into the average; later days are only held in dailySpend until a read reaches them.
+     */
+    private static final class CategoryPace {
+
+        private long total;
+        private final long[] dailySpend;
+        private double average;
+        private int foldedDays;
+
+        private CategoryPace(int days) {
+            this.dailySpend = new long[days];
+        }
+
+        void apply(int day, long amount, boolean recurring, double alpha) {
+            total += amount;
+            if (recurring) {
+                return;
+            }
+            dailySpend[day - 1] += amount;
+            if (day <= foldedDays) {
+                // The day's weight has decayed once for every day folded in after it
+                average += alpha * Math.pow(1 - alpha, foldedDays - day) * amount;
+            }
+        }
+
+        /**
+         * The average daily spend over the first {@code days} days, most recent days weighted
+         * most. Dividing by the total weight of those days corrects the start-of-month bias of an
+         * average that begins at zero.
+         */
+        double paceAt(int days, double alpha) {
+            while (foldedDays < days) {
+                average = (1 - alpha) * average + alpha * dailySpend[foldedDays];
+                foldedDays++;
+            }
+            if (days == 0) {
+                return 0;
+            }
+            // A read for fewer days than already folded, e.g. after the clock moved back, uses all of them
+            return average / (1 - Math.pow(1 - alpha, foldedDays));
+        }
+    }
+}
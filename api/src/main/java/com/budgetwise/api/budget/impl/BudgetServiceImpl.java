@@ -1,15 +1,20 @@
 package com.budgetwise.api.budget.impl;
 
 import com.budgetwise.api.budget.Budget;
+import com.budgetwise.api.budget.BudgetForecastService;
 import com.budgetwise.api.budget.BudgetRepository;
 import com.budgetwise.api.budget.BudgetService;
+import com.budgetwise.api.budget.dto.BudgetForecast;
 import com.budgetwise.api.budget.dto.BudgetRequest;
 import com.budgetwise.api.budget.dto.BudgetResponse;
 import com.budgetwise.api.budget.mapper.BudgetMapper;
 import com.budgetwise.api.category.Category;
 import com.budgetwise.api.category.CategoryRepository;
 import com.budgetwise.api.exception.ResourceNotFoundException;
+import com.budgetwise.api.global.money.Money;
 import com.budgetwise.api.security.SecurityUtils;
+import com.budgetwise.api.sync.SyncService;
+import com.budgetwise.api.sync.enums.SyncEntityType;
 import com.budgetwise.api.user.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
@@ -18,7 +23,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -29,6 +36,8 @@ public class BudgetServiceImpl implements BudgetService {
     private final CategoryRepository categoryRepository;
     private final SecurityUtils securityUtils;
     private final BudgetMapper budgetMapper;
+    private final SyncService syncService;
+    private final BudgetForecastService budgetForecastService;
 
     @Override
     @Transactional
@@ -65,12 +74,15 @@ public class BudgetServiceImpl implements BudgetService {
         LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
 
         List<Budget> budgets = budgetRepository.findByUserAndBudgetMonthBetween(currentUser, startDate, endDate);
-        return budgetMapper.toDtoList(budgets);
+        return withForecasts(currentUser.getId(), YearMonth.from(startDate), budgetMapper.toDtoList(budgets));
     }
 
     @Override
     public BudgetResponse getBudgetById(UUID id) {
-        return budgetMapper.toDto(findBudgetAndVerifyOwnership(id));
+        Budget budget = findBudgetAndVerifyOwnership(id);
+        BudgetResponse response = budgetMapper.toDto(budget);
+        withForecasts(budget.getUser().getId(), YearMonth.from(budget.getBudgetMonth()), List.of(response));
+        return response;
     }
 
     @Override
@@ -91,12 +103,22 @@ public class BudgetServiceImpl implements BudgetService {
     @Transactional
     public void deleteBudget(UUID id) {
         Budget budget = findBudgetAndVerifyOwnership(id);
+        syncService.recordDeletion(budget.getUser(), SyncEntityType.BUDGET, budget.getId());
         budgetRepository.delete(budget);
     }
 
+    // Adds the projected month-end spend to budgets of one user and month
+    private List<BudgetResponse> withForecasts(UUID userId, YearMonth month, List<BudgetResponse> responses) {
+        Map<UUID, Money> budgetAmounts = new HashMap<>();
+        responses.forEach(response -> budgetAmounts.put(response.getCategoryId(), Money.of(response.getBudgetAmount())));
+        Map<UUID, BudgetForecast> forecasts = budgetForecastService.forecast(userId, month, budgetAmounts);
+        responses.forEach(response -> response.setForecast(forecasts.get(response.getCategoryId())));
+        return responses;
+    }
+
     private Budget findBudgetAndVerifyOwnership(UUID budgetId) {
         User currentUser = securityUtils.getCurrentUser();
-        Budget budget = budgetRepository.findById(budgetId)
+        Budget budget = budgetRepository.findWithCategoryById(budgetId)
                 .orElseThrow(() -> new ResourceNotFoundException("Budget not found with id: " + budgetId));
         if (!budget.getUser().getId().equals(currentUser.getId())) {
             throw new AccessDeniedException("You do not have permission to access this budget");
@@ -12,6 +12,7 @@ import static org.mapstruct.MappingConstants.ComponentModel.SPRING;
 public interface BudgetMapper {
     @Mapping(target = "categoryId", source = "category.id")
     @Mapping(target = "categoryName", source = "category.name")
+    @Mapping(target = "forecast", ignore = true)
     BudgetResponse toDto(Budget budget);
 
     List<BudgetResponse> toDtoList(List<Budget> budgets);
@@ -2,7 +2,11 @@ package com.budgetwise.api.category;
 
 import com.budgetwise.api.budget.Budget;
 import com.budgetwise.api.category.enums.CategoryType;
+import com.budgetwise.api.dashboard.DashboardCacheListener;
+import com.budgetwise.api.dataversion.UserDataVersionListener;
+import com.budgetwise.api.dataversion.UserOwned;
 import com.budgetwise.api.recurringtransaction.RecurringTransaction;
+import com.budgetwise.api.transaction.DescriptionAutocompleteListener;
 import com.budgetwise.api.transaction.Transaction;
 import com.budgetwise.api.transactiontemplate.TransactionTemplate;
 import com.budgetwise.api.user.User;
@@ -27,7 +31,8 @@ import static org.hibernate.annotations.UuidGenerator.Style.TIME;
 @NoArgsConstructor
 @Builder
 @AllArgsConstructor
-public class Category {
+@EntityListeners({UserDataVersionListener.class, DashboardCacheListener.class, DescriptionAutocompleteListener.class})
+public class Category implements UserOwned {
 
     @Id
     @GeneratedValue
@@ -3,10 +3,14 @@ package com.budgetwise.api.category;
 import com.budgetwise.api.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
 public interface CategoryRepository extends JpaRepository<Category, UUID> {
     // Finds all categories for a specific user, ordered by creation date descending
     List<Category> findByUserOrderByCreatedAtDesc(User currentUser);
+
+    // Categories created or updated after the given instant, for incremental sync
+    List<Category> findByUserAndUpdatedAtAfter(User user, Instant since);
 }
\ No newline at end of file
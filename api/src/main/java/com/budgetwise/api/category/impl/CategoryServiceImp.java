@@ -9,6 +9,8 @@ import com.budgetwise.api.category.enums.CategoryType;
 import com.budgetwise.api.category.mapper.CategoryMapper;
 import com.budgetwise.api.exception.ResourceNotFoundException;
 import com.budgetwise.api.security.SecurityUtils;
+import com.budgetwise.api.sync.SyncService;
+import com.budgetwise.api.sync.enums.SyncEntityType;
 import com.budgetwise.api.transaction.TransactionRepository;
 import com.budgetwise.api.user.User;
 import lombok.RequiredArgsConstructor;
@@ -26,6 +28,7 @@ public class CategoryServiceImp implements CategoryService {
     private final CategoryMapper categoryMapper;
     private final TransactionRepository transactionRepository;
     private final SecurityUtils securityUtils;
+    private final SyncService syncService;
 
     @Override
     @Transactional
@@ -75,6 +78,7 @@ public class CategoryServiceImp implements CategoryService {
         if (transactionRepository.existsByCategory(category)) {
             throw new IllegalStateException("Cannot delete category with existing transactions.");
         }
+        syncService.recordDeletion(category.getUser(), SyncEntityType.CATEGORY, category.getId());
         categoryRepository.delete(category);
     }
 
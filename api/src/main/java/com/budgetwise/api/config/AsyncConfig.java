@@ -0,0 +1,34 @@
+package com.budgetwise.api.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableAsync
+@Slf4j
+public class AsyncConfig {
+
+    /**
+     * Runs the forecast alert checks after a write has committed, off the committing thread. The
+     * queue is bounded; a check that does not fit is dropped, and the next change of the same
+     * budget's category checks again because no alert was recorded.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor forecastAlertExecutor(
+            @Value("${budget.forecast.alert-executor.pool-size:2}") int poolSize,
+            @Value("${budget.forecast.alert-executor.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix("forecast-alert-");
+        executor.setRejectedExecutionHandler((task, pool) ->
+                log.warn("Forecast alert queue is full, dropping a check"));
+        return executor;
+    }
+}
@@ -1,15 +1,21 @@
 package com.budgetwise.api.config;
 
+import com.budgetwise.api.dataversion.DataVersionEtagInterceptor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.lang.NonNull;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig {
 
+    private final DataVersionEtagInterceptor dataVersionEtagInterceptor;
+
     @Value("${cors.allowed-origins}")
     private String[] allowedOrigins;
 
@@ -22,7 +28,17 @@ public class WebConfig {
                         .allowedOrigins(allowedOrigins)
                         .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
                         .allowedHeaders("*")
-                        .allowCredentials(true);
+                        .allowCredentials(true)
+                        .exposedHeaders("ETag", "Idempotent-Replayed");
+            }
+
+            @Override
+            public void addInterceptors(@NonNull InterceptorRegistry registry) {
+                // Read views whose payload depends only on the user's data and the request
+                registry.addInterceptor(dataVersionEtagInterceptor)
+                        .addPathPatterns("/transactions", "/transactions/page", "/categories",
+                                "/budgets", "/notifications", "/dashboard/stats", "/dashboard/comparison",
+                                "/dashboard/amount-distribution");
             }
         };
     }
@@ -0,0 +1,10 @@
+package com.budgetwise.api.dashboard;
+
+import com.budgetwise.api.dashboard.dto.AmountDistributionResponse;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+public interface DashboardAmountDistributionService {
+    AmountDistributionResponse getAmountDistribution(YearMonth startMonth, YearMonth endMonth, UUID categoryId, Integer bins);
+}
@@ -0,0 +1,37 @@
+package com.budgetwise.api.dashboard;
+
+import com.budgetwise.api.budget.Budget;
+import com.budgetwise.api.category.Category;
+import com.budgetwise.api.recurringtransaction.RecurringTransaction;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Entity listener that tells the dashboard cache about budget, category and recurring transaction
+ * writes; the latter change the budget forecasts. Transaction
+ * writes reach the cache as TransactionsChangedEvents instead, which carry the affected days.
+ * The cache is looked up lazily for the same reason as in UserDataVersionListener.
+ */
+@Component
+@RequiredArgsConstructor
+public class DashboardCacheListener {
+
+    private final ObjectProvider<DashboardStatsCache> dashboardStatsCache;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (entity instanceof Budget budget && budget.getUser() != null) {
+            dashboardStatsCache.getObject().budgetChanged(budget.getUser().getId(), budget.getBudgetMonth());
+        } else if (entity instanceof Category category && category.getUser() != null) {
+            dashboardStatsCache.getObject().categoryChanged(category.getUser().getId());
+        } else if (entity instanceof RecurringTransaction rule && rule.getUser() != null) {
+            dashboardStatsCache.getObject().categoryChanged(rule.getUser().getId());
+        }
+    }
+}
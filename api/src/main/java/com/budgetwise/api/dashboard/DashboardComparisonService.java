@@ -0,0 +1,9 @@
+package com.budgetwise.api.dashboard;
+
+import com.budgetwise.api.dashboard.dto.CategoryComparisonResponse;
+
+import java.time.LocalDate;
+
+public interface DashboardComparisonService {
+    CategoryComparisonResponse getCategoryComparison(LocalDate startDate, LocalDate endDate);
+}
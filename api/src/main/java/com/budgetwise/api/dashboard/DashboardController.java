@@ -1,16 +1,22 @@
 package com.budgetwise.api.dashboard;
 
+import com.budgetwise.api.dashboard.dto.AmountDistributionResponse;
+import com.budgetwise.api.dashboard.dto.CategoryComparisonResponse;
 import com.budgetwise.api.dashboard.dto.DashboardStatsResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/dashboard")
@@ -19,6 +25,9 @@ import java.time.LocalDate;
 public class DashboardController {
 
     private final DashboardService dashboardService;
+    private final DashboardComparisonService dashboardComparisonService;
+    private final DashboardStreamService dashboardStreamService;
+    private final DashboardAmountDistributionService dashboardAmountDistributionService;
 
     @GetMapping("/stats")
     public ResponseEntity<DashboardStatsResponse> getDashboardStats(
@@ -27,4 +36,33 @@ public class DashboardController {
     ) {
         return ResponseEntity.ok(dashboardService.getDashboardStats(startDate, endDate));
     }
-}
\ No newline at end of file
+
+    // Per-category totals of the period against the previous period, last year and rolling monthly averages
+    @GetMapping("/comparison")
+    public ResponseEntity<CategoryComparisonResponse> getCategoryComparison(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {
+        return ResponseEntity.ok(dashboardComparisonService.getCategoryComparison(startDate, endDate));
+    }
+
+    // Amount percentiles and histogram per category over whole months (yyyy-MM), by default the last twelve
+    @GetMapping("/amount-distribution")
+    public ResponseEntity<AmountDistributionResponse> getAmountDistribution(
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth startMonth,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth endMonth,
+            @RequestParam(required = false) UUID categoryId,
+            @RequestParam(required = false) Integer bins
+    ) {
+        return ResponseEntity.ok(dashboardAmountDistributionService.getAmountDistribution(startMonth, endMonth, categoryId, bins));
+    }
+
+    // Live totals of the range: one "snapshot" event, then a "delta" event per committed change
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamDashboard(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {
+        return dashboardStreamService.subscribe(startDate, endDate);
+    }
+}
@@ -0,0 +1,28 @@
+package com.budgetwise.api.dashboard;
+
+import com.budgetwise.api.dashboard.dto.DashboardStatsResponse;
+import com.budgetwise.api.user.User;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Caches dashboard responses per (user, data version, startDate, endDate). A committed write on any
+ * node moves the user's data version, so older entries are no longer read. On the writing node,
+ * entries are also dropped when the write changes data they were computed from: transactions on a
+ * day inside the entry's previous period, requested period or budget month, a budget of its budget
+ * month, or any of the user's categories.
+ */
+public interface DashboardStatsCache {
+
+    /**
+     * Returns the cached response, or computes it with {@code loader}. Concurrent misses for the
+     * same key share one computation.
+     */
+    DashboardStatsResponse get(User user, LocalDate startDate, LocalDate endDate, Supplier<DashboardStatsResponse> loader);
+
+    void budgetChanged(UUID userId, LocalDate budgetMonth);
+
+    void categoryChanged(UUID userId);
+}
@@ -0,0 +1,12 @@
+package com.budgetwise.api.dashboard;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
+
+public interface DashboardStreamService {
+    /**
+     * Opens a live stream of dashboard changes for the current user within the given range.
+     */
+    SseEmitter subscribe(LocalDate startDate, LocalDate endDate);
+}
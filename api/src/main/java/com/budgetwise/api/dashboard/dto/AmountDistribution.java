@@ -0,0 +1,22 @@
+package com.budgetwise.api.dashboard.dto;
+
+import com.budgetwise.api.category.enums.CategoryType;
+import com.budgetwise.api.global.money.Money;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+public class AmountDistribution {
+    private UUID categoryId;
+    private String categoryName;
+    private CategoryType categoryType;
+    private long transactionCount;
+    private Money p50;   // A typical transaction
+    private Money p90;
+    private Money p99;   // Anything above is unusually large
+    private List<AmountHistogramBin> histogram;   // Log-scale bins, smallest amounts first
+}
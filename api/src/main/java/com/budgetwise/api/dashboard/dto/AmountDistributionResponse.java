@@ -0,0 +1,17 @@
+package com.budgetwise.api.dashboard.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+public class AmountDistributionResponse {
+    private LocalDate startDate;
+    private LocalDate endDate;
+    // Every percentile and bin bound is within this fraction of the exact amount
+    private double relativeAccuracy;
+    private List<AmountDistribution> categories;   // Ordered by transaction count, largest first
+}
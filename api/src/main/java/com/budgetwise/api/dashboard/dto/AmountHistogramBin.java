@@ -0,0 +1,7 @@
+package com.budgetwise.api.dashboard.dto;
+
+import com.budgetwise.api.global.money.Money;
+
+// Transactions with an amount in (lowerBound, upperBound]; both bounds are exact to within 1%
+public record AmountHistogramBin(Money lowerBound, Money upperBound, long transactionCount) {
+}
@@ -1,5 +1,7 @@
 package com.budgetwise.api.dashboard.dto;
 
+import com.budgetwise.api.budget.dto.BudgetForecast;
+import com.budgetwise.api.global.money.Money;
 import lombok.Data;
 
 import java.math.BigDecimal;
@@ -10,9 +12,10 @@ public class BudgetProgress {
     private UUID budgetId;
     private UUID categoryId;
     private String categoryName;
-    private BigDecimal amountSpent;
-    private BigDecimal budgetAmount;
-    private BigDecimal amountRemaining;
+    private Money amountSpent;
+    private Money budgetAmount;
+    private Money amountRemaining;
+    private BudgetForecast forecast;
 
     // Constructor that will be used by the JPQL query
     public BudgetProgress(
@@ -25,7 +28,7 @@ public class BudgetProgress {
         this.budgetId = budgetId;
         this.categoryId = categoryId;
         this.categoryName = categoryName;
-        this.amountSpent = amountSpent;
-        this.budgetAmount = budgetAmount;
+        this.amountSpent = Money.of(amountSpent);
+        this.budgetAmount = Money.of(budgetAmount);
     }
 }
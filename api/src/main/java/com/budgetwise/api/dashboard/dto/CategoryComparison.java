@@ -0,0 +1,30 @@
+package com.budgetwise.api.dashboard.dto;
+
+import com.budgetwise.api.category.enums.CategoryType;
+import com.budgetwise.api.global.money.Money;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+@Builder
+public class CategoryComparison {
+    private UUID categoryId;
+    private String categoryName;
+    private CategoryType categoryType;
+    private Money currentAmount;
+
+    private Money previousPeriodAmount;
+    private Money previousPeriodChange;
+    private Double previousPeriodChangePercent;   // null when the previous period is zero
+
+    private Money samePeriodLastYearAmount;
+    private Money samePeriodLastYearChange;
+    private Double samePeriodLastYearChangePercent;
+
+    // Average monthly amount over the 3, 6 and 12 months before the period
+    private Money averageLast3Months;
+    private Money averageLast6Months;
+    private Money averageLast12Months;
+}
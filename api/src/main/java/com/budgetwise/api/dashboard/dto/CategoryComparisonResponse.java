@@ -0,0 +1,19 @@
+package com.budgetwise.api.dashboard.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+public class CategoryComparisonResponse {
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private LocalDate previousStartDate;
+    private LocalDate previousEndDate;
+    private LocalDate lastYearStartDate;
+    private LocalDate lastYearEndDate;
+    private List<CategoryComparison> categories;   // Ordered by current amount, largest first
+}
@@ -0,0 +1,9 @@
+package com.budgetwise.api.dashboard.dto;
+
+import com.budgetwise.api.category.enums.CategoryType;
+import com.budgetwise.api.global.money.Money;
+
+import java.util.UUID;
+
+public record CategorySlice(UUID categoryId, String categoryName, CategoryType categoryType, Money totalAmount) {
+}
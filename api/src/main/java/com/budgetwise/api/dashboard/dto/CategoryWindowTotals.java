@@ -0,0 +1,16 @@
+package com.budgetwise.api.dashboard.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+// A category's totals in each comparison window; windows without rows are null
+public record CategoryWindowTotals(
+        UUID categoryId,
+        BigDecimal current,
+        BigDecimal previousPeriod,
+        BigDecimal samePeriodLastYear,
+        BigDecimal last3Months,
+        BigDecimal last6Months,
+        BigDecimal last12Months
+) {
+}
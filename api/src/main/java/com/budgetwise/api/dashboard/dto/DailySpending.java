@@ -15,4 +15,10 @@ public class DailySpending {
         this.date = new java.sql.Date(date.getTime()).toLocalDate();
         this.totalAmount = (totalAmount == null) ? BigDecimal.ZERO : BigDecimal.valueOf(totalAmount);
     }
+
+    // Constructor for the daily rollup query
+    public DailySpending(LocalDate date, BigDecimal totalAmount) {
+        this.date = date;
+        this.totalAmount = (totalAmount == null) ? BigDecimal.ZERO : totalAmount;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.budgetwise.api.dashboard.dto;
+
+import com.budgetwise.api.global.money.Money;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Pushed on /dashboard/stream. A "snapshot" event carries every category and day of the
+ * subscribed range, a "delta" event only those changed by one write, with their new totals.
+ */
+@Data
+@Builder
+public class DashboardDelta {
+    private Money totalIncome;
+    private Money totalExpense;
+    private Money netSavings;
+    private List<CategorySlice> categories;
+    private List<DailySpending> spendingTrend;   // Expense per day
+}
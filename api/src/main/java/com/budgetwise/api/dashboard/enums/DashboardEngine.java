@@ -0,0 +1,20 @@
+package com.budgetwise.api.dashboard.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// How /dashboard/stats is computed, selected with dashboard.engine
+@Getter
+@RequiredArgsConstructor
+public enum DashboardEngine {
+    // One aggregate query per figure
+    QUERIES("Queries"),
+    // The same queries, run concurrently on the dashboard query pool
+    CONCURRENT("Concurrent"),
+    // One ordered scan of the rollups, aggregated in memory
+    SINGLE_PASS("Single Pass"),
+    // One loop over the user's transactions cached column-wise in memory
+    COLUMNAR("Columnar");
+
+    private final String name;
+}
@@ -0,0 +1,202 @@
+package com.budgetwise.api.dashboard.impl;
+
+import com.budgetwise.api.analytics.SpendingColumns;
+import com.budgetwise.api.analytics.SpendingColumnsCache;
+import com.budgetwise.api.budget.Budget;
+import com.budgetwise.api.budget.BudgetRepository;
+import com.budgetwise.api.category.Category;
+import com.budgetwise.api.category.CategoryRepository;
+import com.budgetwise.api.category.enums.CategoryType;
+import com.budgetwise.api.dashboard.dto.*;
+import com.budgetwise.api.global.money.Money;
+import com.budgetwise.api.transaction.TransactionRepository;
+import com.budgetwise.api.user.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Computes the dashboard from the user's cached spending columns: one loop over the in-memory
+ * slice covering the previous period, the requested period and the budget month, with the same
+ * accumulators as {@link SinglePassDashboardEngine}. Category names and types, the month's budgets
+ * and the one day holding the largest expense are read from the database; the transactions are
+ * only read when the user's columns are not cached yet. A user with too many transactions to cache
+ * gets the {@link SinglePassDashboardEngine} result, computed from the daily rollups.
+ */
+@Component
+@RequiredArgsConstructor
+class ColumnarDashboardEngine {
+
+    private final SpendingColumnsCache spendingColumnsCache;
+    private final CategoryRepository categoryRepository;
+    private final BudgetRepository budgetRepository;
+    private final TransactionRepository transactionRepository;
+    private final SinglePassDashboardEngine singlePassEngine;
+
+    DashboardStatsResponse compute(User user, LocalDate startDate, LocalDate endDate) {
+        LocalDate endExclusive = endDate.plusDays(1);
+        int days = (int) ChronoUnit.DAYS.between(startDate, endExclusive);
+        LocalDate previousStart = startDate.minusDays(days);
+        LocalDate budgetMonth = startDate.withDayOfMonth(1);
+        LocalDate budgetMonthEnd = budgetMonth.plusMonths(1);
+
+        LocalDate scanStart = previousStart.isBefore(budgetMonth) ? previousStart : budgetMonth;
+        LocalDate scanEnd = endExclusive.isAfter(budgetMonthEnd) ? endExclusive : budgetMonthEnd;
+
+        Map<UUID, Category> categoriesById = new HashMap<>();
+        categoryRepository.findByUserOrderByCreatedAtDesc(user)
+                .forEach(category -> categoriesById.put(category.getId(), category));
+
+        Optional<Aggregation> scanned = spendingColumnsCache.read(user.getId(), columns -> {
+            Aggregation result = new Aggregation(columns, categoriesById, startDate, days, previousStart, budgetMonth);
+            columns.scan(scanStart, scanEnd, result);
+            return result;
+        });
+        if (scanned.isEmpty()) {
+            return singlePassEngine.compute(user, startDate, endDate);
+        }
+        Aggregation aggregation = scanned.get();
+
+        List<CategorySpending> expenseBreakdown = new ArrayList<>();
+        Map<UUID, Long> budgetMonthTotals = new HashMap<>();
+        for (int i = 0; i < aggregation.categories.length; i++) {
+            Category category = aggregation.categories[i];
+            if (category == null) {
+                continue;
+            }
+            if (aggregation.categoryTotals[i] > 0 && category.getCategoryType() == CategoryType.EXPENSE) {
+                expenseBreakdown.add(new CategorySpending(category.getName(), toDecimal(aggregation.categoryTotals[i])));
+            }
+            budgetMonthTotals.put(category.getId(), aggregation.budgetMonthTotals[i]);
+        }
+        expenseBreakdown.sort(Comparator.comparing(CategorySpending::getTotalAmount).reversed());
+
+        List<DailySpending> spendingTrend = new ArrayList<>();
+        for (int i = 0; i < days; i++) {
+            if (aggregation.daily[i] > 0) {
+                spendingTrend.add(new DailySpending(startDate.plusDays(i), toDecimal(aggregation.daily[i])));
+            }
+        }
+
+        List<BudgetProgress> budgetProgress = new ArrayList<>();
+        for (Budget budget : budgetRepository.findByUserAndBudgetMonthBetween(user, budgetMonth, budgetMonth)) {
+            BudgetProgress progress = new BudgetProgress(
+                    budget.getId(),
+                    budget.getCategory().getId(),
+                    budget.getCategory().getName(),
+                    toDecimal(budgetMonthTotals.getOrDefault(budget.getCategory().getId(), 0L)),
+                    budget.getBudgetAmount()
+            );
+            progress.setAmountRemaining(progress.getBudgetAmount().minus(progress.getAmountSpent()));
+            budgetProgress.add(progress);
+        }
+
+        TopTransaction biggestExpense = null;
+        if (aggregation.maxExpenseCategory != null) {
+            LocalDate day = LocalDate.ofEpochDay(aggregation.maxExpenseDay);
+            biggestExpense = transactionRepository.findTopTransactionInCategory(
+                    user, aggregation.maxExpenseCategory, day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+        }
+
+        return DashboardStatsResponse.builder()
+                .totalIncome(Money.ofMinor(aggregation.income))
+                .totalExpense(Money.ofMinor(aggregation.expense))
+                .netSavings(Money.ofMinor(aggregation.income - aggregation.expense))
+                .expenseBreakdown(expenseBreakdown)
+                .spendingTrend(spendingTrend)
+                .budgetProgress(budgetProgress)
+                .previousPeriodExpense(Money.ofMinor(aggregation.previousExpense))
+                .biggestExpense(biggestExpense)
+                .build();
+    }
+
+    private static BigDecimal toDecimal(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, Money.SCALE);
+    }
+
+    /**
+     * The accumulators of one scan, indexed by the columns' category index. Built and filled while
+     * the columns are locked; category types are resolved once up front so the loop only reads
+     * primitive arrays.
+     */
+    private static final class Aggregation implements SpendingColumns.RowVisitor {
+
+        private final Category[] categories;
+        private final boolean[] expenseCategory;
+        private final long[] categoryTotals;
+        private final long[] budgetMonthTotals;
+        private final long[] daily;
+
+        private final int startDay;
+        private final int endDay;
+        private final int previousStartDay;
+        private final int budgetMonthDay;
+        private final int budgetMonthEndDay;
+
+        private long income;
+        private long expense;
+        private long previousExpense;
+        private long maxExpense = -1;
+        private int maxExpenseDay;
+        private UUID maxExpenseCategory;
+
+        private Aggregation(SpendingColumns columns, Map<UUID, Category> categoriesById,
+                            LocalDate startDate, int days, LocalDate previousStart, LocalDate budgetMonth) {
+            int categoryCount = columns.categoryCount();
+            categories = new Category[categoryCount];
+            expenseCategory = new boolean[categoryCount];
+            for (int i = 0; i < categoryCount; i++) {
+                // Null for a category deleted since the columns were loaded; its rows are skipped
+                categories[i] = categoriesById.get(columns.categoryId(i));
+                expenseCategory[i] = categories[i] != null && categories[i].getCategoryType() == CategoryType.EXPENSE;
+            }
+            categoryTotals = new long[categoryCount];
+            budgetMonthTotals = new long[categoryCount];
+            daily = new long[days];
+
+            startDay = Math.toIntExact(startDate.toEpochDay());
+            endDay = startDay + days;
+            previousStartDay = Math.toIntExact(previousStart.toEpochDay());
+            budgetMonthDay = Math.toIntExact(budgetMonth.toEpochDay());
+            budgetMonthEndDay = Math.toIntExact(budgetMonth.plusMonths(1).toEpochDay());
+        }
+
+        @Override
+        public void visit(int day, int category, long amount) {
+            if (categories[category] == null) {
+                return;
+            }
+            if (day >= budgetMonthDay && day < budgetMonthEndDay) {
+                budgetMonthTotals[category] += amount;
+            }
+            if (day >= previousStartDay && day < startDay) {
+                if (expenseCategory[category]) {
+                    previousExpense += amount;
+                }
+            } else if (day >= startDay && day < endDay) {
+                categoryTotals[category] += amount;
+                if (!expenseCategory[category]) {
+                    income += amount;
+                    return;
+                }
+                expense += amount;
+                daily[day - startDay] += amount;
+                if (amount > maxExpense) {
+                    maxExpense = amount;
+                    maxExpenseDay = day;
+                    maxExpenseCategory = categories[category].getId();
+                }
+            }
+        }
+    }
+}
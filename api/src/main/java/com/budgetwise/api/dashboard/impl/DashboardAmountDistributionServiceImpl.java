@@ -0,0 +1,164 @@
+package com.budgetwise.api.dashboard.impl;
+
+import com.budgetwise.api.category.Category;
+import com.budgetwise.api.category.CategoryRepository;
+import com.budgetwise.api.dashboard.DashboardAmountDistributionService;
+import com.budgetwise.api.dashboard.dto.AmountDistribution;
+import com.budgetwise.api.dashboard.dto.AmountDistributionResponse;
+import com.budgetwise.api.dashboard.dto.AmountHistogramBin;
+import com.budgetwise.api.global.money.Money;
+import com.budgetwise.api.rollup.AmountBuckets;
+import com.budgetwise.api.rollup.MonthlyAmountHistogramRepository;
+import com.budgetwise.api.rollup.dto.AmountBucketCount;
+import com.budgetwise.api.security.SecurityUtils;
+import com.budgetwise.api.user.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Amount percentiles and histograms per category, read from the monthly amount histograms instead
+ * of the transactions. The months of the period are merged by the database, which adds their
+ * bucket counts; percentiles and bins are then read off the merged buckets, at most a few thousand
+ * per category whatever the number of transactions. See {@link AmountBuckets} for the error bound.
+ */
+@Service
+@RequiredArgsConstructor
+public class DashboardAmountDistributionServiceImpl implements DashboardAmountDistributionService {
+
+    private static final int DEFAULT_MONTHS = 12;
+    private static final int MAX_RANGE_YEARS = 10;
+    private static final int DEFAULT_BINS = 10;
+    private static final int MAX_BINS = 50;
+
+    private final MonthlyAmountHistogramRepository histogramRepository;
+    private final CategoryRepository categoryRepository;
+    private final SecurityUtils securityUtils;
+
+    @Override
+    public AmountDistributionResponse getAmountDistribution(YearMonth startMonth, YearMonth endMonth, UUID categoryId, Integer bins) {
+        User currentUser = securityUtils.getCurrentUser();
+
+        int binCount = (bins != null) ? bins : DEFAULT_BINS;
+        if (binCount < 1 || binCount > MAX_BINS) {
+            throw new IllegalArgumentException("Bins must be between 1 and " + MAX_BINS + ".");
+        }
+        // If no months are provided, default to the last twelve months including the current one
+        if (endMonth == null) {
+            endMonth = YearMonth.now();
+        }
+        if (startMonth == null) {
+            startMonth = endMonth.minusMonths(DEFAULT_MONTHS - 1);
+        }
+        if (endMonth.isBefore(startMonth)) {
+            throw new IllegalArgumentException("endMonth must not be before startMonth");
+        }
+        if (endMonth.isAfter(startMonth.plusYears(MAX_RANGE_YEARS))) {
+            throw new IllegalArgumentException("The range must not be longer than " + MAX_RANGE_YEARS + " years");
+        }
+
+        List<AmountBucketCount> rows = histogramRepository.sumBucketsByCategory(
+                currentUser.getId(), categoryId, startMonth.atDay(1), endMonth.plusMonths(1).atDay(1));
+
+        Map<UUID, Category> categories = new HashMap<>();
+        categoryRepository.findByUserOrderByCreatedAtDesc(currentUser)
+                .forEach(category -> categories.put(category.getId(), category));
+
+        // Rows arrive ordered by category, then bucket
+        List<AmountDistribution> distributions = new ArrayList<>();
+        int from = 0;
+        while (from < rows.size()) {
+            int to = from;
+            while (to < rows.size() && rows.get(to).categoryId().equals(rows.get(from).categoryId())) {
+                to++;
+            }
+            Category category = categories.get(rows.get(from).categoryId());
+            if (category != null) {
+                distributions.add(toDistribution(category, rows.subList(from, to), binCount));
+            }
+            from = to;
+        }
+        distributions.sort(Comparator.comparingLong(AmountDistribution::getTransactionCount).reversed());
+
+        return AmountDistributionResponse.builder()
+                .startDate(startMonth.atDay(1))
+                .endDate(endMonth.atEndOfMonth())
+                .relativeAccuracy(AmountBuckets.RELATIVE_ACCURACY)
+                .categories(distributions)
+                .build();
+    }
+
+    private static AmountDistribution toDistribution(Category category, List<AmountBucketCount> buckets, int binCount) {
+        long total = 0;
+        for (AmountBucketCount bucket : buckets) {
+            total += bucket.transactionCount();
+        }
+        return AmountDistribution.builder()
+                .categoryId(category.getId())
+                .categoryName(category.getName())
+                .categoryType(category.getCategoryType())
+                .transactionCount(total)
+                .p50(quantile(buckets, total, 0.50))
+                .p90(quantile(buckets, total, 0.90))
+                .p99(quantile(buckets, total, 0.99))
+                .histogram(histogram(buckets, binCount))
+                .build();
+    }
+
+    /**
+     * The estimate of the bucket holding the transaction of rank q * (count - 1) in amount order,
+     * i.e. the lower of the two middle amounts for an even count.
+     */
+    static Money quantile(List<AmountBucketCount> buckets, long total, double q) {
+        double rank = q * (total - 1);
+        long seen = 0;
+        for (AmountBucketCount bucket : buckets) {
+            seen += bucket.transactionCount();
+            if (seen > rank) {
+                return Money.ofMinor(AmountBuckets.estimate(bucket.bucketIndex()));
+            }
+        }
+        return Money.ofMinor(AmountBuckets.estimate(buckets.get(buckets.size() - 1).bucketIndex()));
+    }
+
+    /**
+     * Groups the buckets between the smallest and the largest amount into at most binCount bins
+     * of equal width on a log scale, empty bins included so the shape is kept. Amounts of zero or
+     * less get a bin of their own.
+     */
+    static List<AmountHistogramBin> histogram(List<AmountBucketCount> buckets, int binCount) {
+        List<AmountHistogramBin> bins = new ArrayList<>();
+        int first = 0;
+        if (buckets.get(0).bucketIndex() == AmountBuckets.NON_POSITIVE_BUCKET) {
+            bins.add(new AmountHistogramBin(Money.ZERO, Money.ZERO, buckets.get(0).transactionCount()));
+            first = 1;
+        }
+        if (first == buckets.size()) {
+            return bins;
+        }
+
+        int lowest = buckets.get(first).bucketIndex();
+        int highest = buckets.get(buckets.size() - 1).bucketIndex();
+        int width = (highest - lowest + binCount) / binCount;   // Rounded up
+        long[] counts = new long[(highest - lowest) / width + 1];
+        for (int i = first; i < buckets.size(); i++) {
+            counts[(buckets.get(i).bucketIndex() - lowest) / width] += buckets.get(i).transactionCount();
+        }
+        for (int bin = 0; bin < counts.length; bin++) {
+            int firstBucket = lowest + bin * width;
+            int lastBucket = Math.min(firstBucket + width - 1, highest);
+            bins.add(new AmountHistogramBin(
+                    Money.ofMinor(AmountBuckets.lowerBound(firstBucket)),
+                    Money.ofMinor(AmountBuckets.upperBound(lastBucket)),
+                    counts[bin]));
+        }
+        return bins;
+    }
+}
@@ -0,0 +1,266 @@
+package com.budgetwise.api.dashboard.impl;
+
+import com.budgetwise.api.category.Category;
+import com.budgetwise.api.category.CategoryRepository;
+import com.budgetwise.api.dashboard.DashboardComparisonService;
+import com.budgetwise.api.dashboard.dto.CategoryComparison;
+import com.budgetwise.api.dashboard.dto.CategoryComparisonResponse;
+import com.budgetwise.api.dashboard.dto.CategoryWindowTotals;
+import com.budgetwise.api.global.money.Money;
+import com.budgetwise.api.rollup.DailySpendingRollupRepository;
+import com.budgetwise.api.security.SecurityUtils;
+import com.budgetwise.api.transaction.event.TransactionsChangedEvent;
+import com.budgetwise.api.user.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Compares each category's total in a period with the previous period of the same length, the same
+ * dates a year earlier and its monthly average over the preceding 3, 6 and 12 months.
+ * <p>
+ * All windows come from two conditional-aggregation queries over the daily rollups, however long
+ * the period: one for the days before the period (the previous period, the rolling windows and
+ * usually the whole of last year's window) and one for the period itself. The first part only
+ * changes when a past transaction is written, so it is cached per (user, startDate, endDate) and
+ * dropped when a committed change falls on one of its days.
+ */
+@Service
+@RequiredArgsConstructor
+public class DashboardComparisonServiceImpl implements DashboardComparisonService {
+
+    private static final int MAX_RANGE_YEARS = 10;
+
+    // Indexes into the per-category accumulators
+    private static final int CURRENT = 0;
+    private static final int PREVIOUS = 1;
+    private static final int LAST_YEAR = 2;
+    private static final int LAST_3_MONTHS = 3;
+    private static final int LAST_6_MONTHS = 4;
+    private static final int LAST_12_MONTHS = 5;
+
+    private final DailySpendingRollupRepository rollupRepository;
+    private final CategoryRepository categoryRepository;
+    private final SecurityUtils securityUtils;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${dashboard.comparison.history-cache-size:5000}")
+    private long historyCacheSize;
+
+    // Writes on other nodes do not invalidate this node's entries; the ttl bounds how long they stay stale
+    @Value("${dashboard.comparison.history-cache-ttl:10m}")
+    private Duration historyCacheTtl;
+
+    private Cache<HistoryKey, CompletableFuture<List<CategoryWindowTotals>>> historyCache;
+    private Counter historyHits;
+    private Counter historyMisses;
+
+    @PostConstruct
+    void init() {
+        historyCache = Caffeine.newBuilder()
+                .maximumSize(historyCacheSize)
+                .expireAfterWrite(historyCacheTtl)
+                .build();
+        historyHits = historyRequests("hit");
+        historyMisses = historyRequests("miss");
+    }
+
+    private Counter historyRequests(String result) {
+        return Counter.builder("dashboard.comparison.history_cache.requests")
+                .description("Lookups of the cached pre-period aggregates of /dashboard/comparison")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public CategoryComparisonResponse getCategoryComparison(LocalDate startDate, LocalDate endDate) {
+        User currentUser = securityUtils.getCurrentUser();
+
+        // If no dates are provided, default to the current month
+        if (startDate == null || endDate == null) {
+            YearMonth currentMonth = YearMonth.now();
+            startDate = currentMonth.atDay(1);
+            endDate = currentMonth.atEndOfMonth();
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("endDate must not be before startDate");
+        }
+        if (endDate.isAfter(startDate.plusYears(MAX_RANGE_YEARS))) {
+            throw new IllegalArgumentException("The range must not be longer than " + MAX_RANGE_YEARS + " years");
+        }
+
+        Windows windows = new Windows(startDate, endDate);
+        UUID userId = currentUser.getId();
+
+        Map<UUID, long[]> totals = new LinkedHashMap<>();
+        history(userId, windows).forEach(row -> accumulate(totals, row));
+        windows.sum(rollupRepository, userId, windows.currentStart(), windows.currentEnd())
+                .forEach(row -> accumulate(totals, row));
+
+        Map<UUID, Category> categories = new LinkedHashMap<>();
+        categoryRepository.findByUserOrderByCreatedAtDesc(currentUser)
+                .forEach(category -> categories.put(category.getId(), category));
+
+        List<CategoryComparison> comparisons = new ArrayList<>(totals.size());
+        totals.forEach((categoryId, amounts) -> {
+            Category category = categories.get(categoryId);
+            if (category != null) {
+                comparisons.add(toComparison(category, amounts));
+            }
+        });
+        comparisons.sort(Comparator.comparing(CategoryComparison::getCurrentAmount).reversed());
+
+        return CategoryComparisonResponse.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .previousStartDate(windows.previousStart())
+                .previousEndDate(windows.currentStart().minusDays(1))
+                .lastYearStartDate(windows.lastYearStart())
+                .lastYearEndDate(windows.lastYearEnd().minusDays(1))
+                .categories(comparisons)
+                .build();
+    }
+
+    @EventListener
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        historyCache.asMap().keySet().removeIf(key -> key.userId().equals(event.userId())
+                && event.changes().stream().anyMatch(change -> key.windows().coversHistory(change.date())));
+    }
+
+    /**
+     * Returns the totals of the days before the period, from the cache when possible. Concurrent
+     * misses share one query; an entry invalidated while its query runs is not kept.
+     */
+    private List<CategoryWindowTotals> history(UUID userId, Windows windows) {
+        HistoryKey key = new HistoryKey(userId, windows.currentStart(), windows.currentEnd());
+        CompletableFuture<List<CategoryWindowTotals>> cached = historyCache.getIfPresent(key);
+        if (cached == null) {
+            CompletableFuture<List<CategoryWindowTotals>> created = new CompletableFuture<>();
+            cached = historyCache.asMap().putIfAbsent(key, created);
+            if (cached == null) {
+                historyMisses.increment();
+                try {
+                    List<CategoryWindowTotals> rows = windows.sum(
+                            rollupRepository, userId, windows.scanStart(), windows.currentStart());
+                    created.complete(rows);
+                    return rows;
+                } catch (RuntimeException e) {
+                    historyCache.asMap().remove(key, created);
+                    created.completeExceptionally(e);
+                    throw e;
+                }
+            }
+        }
+        historyHits.increment();
+        try {
+            return cached.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private static void accumulate(Map<UUID, long[]> totals, CategoryWindowTotals row) {
+        long[] amounts = totals.computeIfAbsent(row.categoryId(), id -> new long[6]);
+        amounts[CURRENT] += Money.toMinorUnits(row.current());
+        amounts[PREVIOUS] += Money.toMinorUnits(row.previousPeriod());
+        amounts[LAST_YEAR] += Money.toMinorUnits(row.samePeriodLastYear());
+        amounts[LAST_3_MONTHS] += Money.toMinorUnits(row.last3Months());
+        amounts[LAST_6_MONTHS] += Money.toMinorUnits(row.last6Months());
+        amounts[LAST_12_MONTHS] += Money.toMinorUnits(row.last12Months());
+    }
+
+    private static CategoryComparison toComparison(Category category, long[] amounts) {
+        Money current = Money.ofMinor(amounts[CURRENT]);
+        Money previous = Money.ofMinor(amounts[PREVIOUS]);
+        Money lastYear = Money.ofMinor(amounts[LAST_YEAR]);
+        return CategoryComparison.builder()
+                .categoryId(category.getId())
+                .categoryName(category.getName())
+                .categoryType(category.getCategoryType())
+                .currentAmount(current)
+                .previousPeriodAmount(previous)
+                .previousPeriodChange(current.minus(previous))
+                .previousPeriodChangePercent(changePercent(current, previous))
+                .samePeriodLastYearAmount(lastYear)
+                .samePeriodLastYearChange(current.minus(lastYear))
+                .samePeriodLastYearChangePercent(changePercent(current, lastYear))
+                .averageLast3Months(Money.ofMinor(amounts[LAST_3_MONTHS]).dividedBy(3))
+                .averageLast6Months(Money.ofMinor(amounts[LAST_6_MONTHS]).dividedBy(6))
+                .averageLast12Months(Money.ofMinor(amounts[LAST_12_MONTHS]).dividedBy(12))
+                .build();
+    }
+
+    private static Double changePercent(Money current, Money before) {
+        if (before.isZero()) {
+            return null;
+        }
+        return Math.round((current.ratio(before) - 1) * 10_000) / 100.0;
+    }
+
+    /**
+     * The comparison windows of a period, all half-open. The previous period and the rolling
+     * windows end where the period starts; last year's window is the period moved back a year.
+     */
+    private record Windows(LocalDate currentStart, LocalDate currentEnd, LocalDate previousStart,
+                           LocalDate lastYearStart, LocalDate lastYearEnd, LocalDate scanStart) {
+
+        Windows(LocalDate startDate, LocalDate endDate) {
+            this(startDate, endDate.plusDays(1),
+                    startDate.minusDays(ChronoUnit.DAYS.between(startDate, endDate) + 1),
+                    startDate.minusYears(1), endDate.plusDays(1).minusYears(1),
+                    earliest(startDate.minusDays(ChronoUnit.DAYS.between(startDate, endDate) + 1),
+                            startDate.minusYears(1), startDate.minusMonths(12)));
+        }
+
+        // Whether a change on this day alters the cached totals of the days before the period
+        boolean coversHistory(LocalDate date) {
+            return !date.isBefore(scanStart) && date.isBefore(currentStart);
+        }
+
+        List<CategoryWindowTotals> sum(DailySpendingRollupRepository repository, UUID userId,
+                                       LocalDate from, LocalDate to) {
+            return repository.sumByCategoryInWindows(userId, from, to,
+                    currentStart, currentEnd, previousStart, lastYearStart, lastYearEnd,
+                    currentStart.minusMonths(3), currentStart.minusMonths(6), currentStart.minusMonths(12));
+        }
+
+        private static LocalDate earliest(LocalDate first, LocalDate... others) {
+            LocalDate earliest = first;
+            for (LocalDate other : others) {
+                if (other.isBefore(earliest)) {
+                    earliest = other;
+                }
+            }
+            return earliest;
+        }
+    }
+
+    private record HistoryKey(UUID userId, LocalDate startDate, LocalDate endExclusive) {
+
+        Windows windows() {
+            return new Windows(startDate, endExclusive.minusDays(1));
+        }
+    }
+}
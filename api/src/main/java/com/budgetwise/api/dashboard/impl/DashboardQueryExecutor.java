@@ -0,0 +1,205 @@
+package com.budgetwise.api.dashboard.impl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs the independent dashboard queries of one request, either one after another on the request
+ * thread or fanned out on a shared bounded pool.
+ * <p>
+ * In concurrent mode each query runs in its own read-only transaction, and therefore on its own
+ * connection, with {@code query-timeout} as its transaction timeout. A request never runs more
+ * than {@code max-connections-per-request} queries at once: it starts that many lanes which take
+ * queries from the request's list until it is empty. The pool itself is capped below the
+ * connection pool size so dashboards cannot starve writes. When the pool is saturated, lanes run
+ * on the request thread instead of queueing without bound.
+ * <p>
+ * Every query's latency is recorded in the {@code dashboard.query} timer, tagged with its name
+ * and the mode.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+class DashboardQueryExecutor {
+
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${dashboard.concurrent.pool-size:8}")
+    private int poolSize;
+
+    @Value("${dashboard.concurrent.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Value("${dashboard.concurrent.max-connections-per-request:3}")
+    private int maxConnectionsPerRequest;
+
+    @Value("${dashboard.concurrent.query-timeout:2s}")
+    private Duration queryTimeout;
+
+    @Value("${dashboard.concurrent.request-timeout:5s}")
+    private Duration requestTimeout;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int connectionPoolSize;
+
+    private ThreadPoolExecutor executor;
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void start() {
+        // Leave at least half of the connection pool to everything else
+        int maxPoolSize = Math.max(1, connectionPoolSize / 2);
+        if (poolSize > maxPoolSize) {
+            log.warn("dashboard.concurrent.pool-size {} exceeds half of the connection pool, using {}", poolSize, maxPoolSize);
+            poolSize = maxPoolSize;
+        }
+        maxConnectionsPerRequest = Math.max(1, Math.min(maxConnectionsPerRequest, poolSize));
+
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "dashboard-query-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        meterRegistry.gauge("dashboard.query.pool.active", executor, ThreadPoolExecutor::getActiveCount);
+        meterRegistry.gauge("dashboard.query.pool.queued", executor, pool -> pool.getQueue().size());
+
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        readOnlyTransaction.setTimeout(Math.max(1, (int) queryTimeout.toSeconds()));
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    Batch sequential() {
+        return new Batch(false);
+    }
+
+    Batch concurrent() {
+        return new Batch(true);
+    }
+
+    /**
+     * The queries of one dashboard request. Add them all, call {@link #start()}, then read the
+     * results through the suppliers returned by {@link #add}.
+     */
+    final class Batch {
+
+        private final boolean concurrent;
+        private final List<Query<?>> queries = new ArrayList<>();
+        private long deadlineNanos;
+
+        private Batch(boolean concurrent) {
+            this.concurrent = concurrent;
+        }
+
+        <T> Supplier<T> add(String name, Supplier<T> query) {
+            Query<T> added = new Query<>(name, query, Timer.builder("dashboard.query")
+                    .description("Latency of one dashboard query")
+                    .tag("query", name)
+                    .tag("mode", concurrent ? "concurrent" : "sequential")
+                    .register(meterRegistry));
+            queries.add(added);
+            return () -> await(added);
+        }
+
+        void start() {
+            if (!concurrent) {
+                queries.forEach(Query::runInline);
+                return;
+            }
+
+            deadlineNanos = System.nanoTime() + requestTimeout.toNanos();
+            Queue<Query<?>> pending = new ConcurrentLinkedQueue<>(queries);
+            int lanes = Math.min(maxConnectionsPerRequest, queries.size());
+            for (int i = 0; i < lanes; i++) {
+                executor.execute(() -> {
+                    Query<?> query;
+                    while ((query = pending.poll()) != null) {
+                        runInOwnTransaction(query);
+                    }
+                });
+            }
+        }
+
+        private <T> void runInOwnTransaction(Query<T> query) {
+            if (!query.result.isDone()) {
+                query.run(() -> readOnlyTransaction.execute(status -> query.query.get()));
+            }
+        }
+
+        private <T> T await(Query<T> query) {
+            try {
+                if (!concurrent) {
+                    return query.result.get();
+                }
+                return query.result.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                queries.forEach(other -> other.result.cancel(false));
+                throw new QueryTimeoutException("Dashboard query '" + query.name + "' timed out");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for dashboard query '" + query.name + "'", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new IllegalStateException("Dashboard query '" + query.name + "' failed", e.getCause());
+            }
+        }
+    }
+
+    private record Query<T>(String name, Supplier<T> query, Timer timer, CompletableFuture<T> result) {
+
+        Query(String name, Supplier<T> query, Timer timer) {
+            this(name, query, timer, new CompletableFuture<>());
+        }
+
+        void runInline() {
+            run(query);
+        }
+
+        void run(Supplier<T> execution) {
+            long started = System.nanoTime();
+            try {
+                result.complete(execution.get());
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            } finally {
+                timer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
@@ -1,21 +1,34 @@
 package com.budgetwise.api.dashboard.impl;
 
+import com.budgetwise.api.budget.BudgetForecastService;
 import com.budgetwise.api.budget.BudgetRepository;
+import com.budgetwise.api.budget.dto.BudgetForecast;
 import com.budgetwise.api.category.enums.CategoryType;
 import com.budgetwise.api.dashboard.DashboardService;
+import com.budgetwise.api.dashboard.DashboardStatsCache;
 import com.budgetwise.api.dashboard.dto.*;
+import com.budgetwise.api.dashboard.enums.DashboardEngine;
+import com.budgetwise.api.global.money.Money;
+import com.budgetwise.api.rollup.DailySpendingRollupRepository;
 import com.budgetwise.api.security.SecurityUtils;
 import com.budgetwise.api.transaction.TransactionRepository;
 import com.budgetwise.api.user.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
@@ -23,7 +36,28 @@ public class DashboardServiceImpl implements DashboardService {
 
     private final TransactionRepository transactionRepository;
     private final BudgetRepository budgetRepository;
+    private final DailySpendingRollupRepository rollupRepository;
     private final SecurityUtils securityUtils;
+    private final SinglePassDashboardEngine singlePassEngine;
+    private final ColumnarDashboardEngine columnarEngine;
+    private final DashboardQueryExecutor queryExecutor;
+    private final DashboardStatsCache dashboardStatsCache;
+    private final BudgetForecastService budgetForecastService;
+    private final MeterRegistry meterRegistry;
+
+    // QUERIES, CONCURRENT, SINGLE_PASS or COLUMNAR; all give the same response, the switch exists to compare them under load
+    @Value("${dashboard.engine:QUERIES}")
+    private DashboardEngine engine;
+
+    private Timer statsTimer;
+
+    @PostConstruct
+    void registerMetrics() {
+        statsTimer = Timer.builder("dashboard.stats")
+                .description("Time to compute /dashboard/stats")
+                .tag("engine", engine.name().toLowerCase())
+                .register(meterRegistry);
+    }
 
     @Override
     public DashboardStatsResponse getDashboardStats(LocalDate startDate, LocalDate endDate) {
@@ -36,46 +70,93 @@ public class DashboardServiceImpl implements DashboardService {
             endDate = currentMonth.atEndOfMonth();
         }
 
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.plusDays(1).atStartOfDay();
-
-        // 1. Fetch Total Income and Expense
-        BigDecimal totalIncome = transactionRepository.sumAmountByCategoryType(
-                currentUser, CategoryType.INCOME, startDateTime, endDateTime);
-        BigDecimal totalExpense = transactionRepository.sumAmountByCategoryType(
-                currentUser, CategoryType.EXPENSE, startDateTime, endDateTime);
+        LocalDate start = startDate;
+        LocalDate end = endDate;
+        return dashboardStatsCache.get(currentUser, start, end, () -> {
+            DashboardStatsResponse response = statsTimer.record(() -> switch (engine) {
+                case SINGLE_PASS -> singlePassEngine.compute(currentUser, start, end);
+                case COLUMNAR -> columnarEngine.compute(currentUser, start, end);
+                case CONCURRENT -> computeWithQueries(currentUser, start, end, queryExecutor.concurrent());
+                case QUERIES -> computeWithQueries(currentUser, start, end, queryExecutor.sequential());
+            });
+            addForecasts(currentUser, YearMonth.from(start), response.getBudgetProgress());
+            return response;
+        });
+    }
 
-        // 2. Fetch Expense Breakdown by Category
-        List<CategorySpending> expenseBreakdown = transactionRepository.findExpenseBreakdownByCategory(
-                currentUser, startDateTime, endDateTime);
+    // Budget progress is shown for the month of the start date; the forecast projects that month's end
+    private void addForecasts(User currentUser, YearMonth budgetMonth, List<BudgetProgress> budgetProgress) {
+        Map<UUID, Money> budgetAmounts = new HashMap<>();
+        budgetProgress.forEach(progress -> budgetAmounts.put(progress.getCategoryId(), progress.getBudgetAmount()));
+        Map<UUID, BudgetForecast> forecasts = budgetForecastService.forecast(currentUser.getId(), budgetMonth, budgetAmounts);
+        budgetProgress.forEach(progress -> progress.setForecast(forecasts.get(progress.getCategoryId())));
+    }
 
-        // 3. Fetch Spending Trend by Day
-        List<DailySpending> spendingTrend = transactionRepository.findSpendingTrendByDay(
-                currentUser, startDateTime, endDateTime);
+    /**
+     * Builds the response from independent aggregate queries. The batch decides whether they run
+     * one after another or concurrently; they are all added before any result is read.
+     */
+    private DashboardStatsResponse computeWithQueries(
+            User currentUser, LocalDate startDate, LocalDate endDate, DashboardQueryExecutor.Batch batch) {
+        // All aggregates are read from the daily rollups over [startDate, endDate + 1 day), so their
+        // cost depends on the number of days and categories, not on the number of transactions
+        UUID userId = currentUser.getId();
+        LocalDate endExclusive = endDate.plusDays(1);
+
+        // 1. Total Income and Expense
+        Supplier<BigDecimal> totalIncomeQuery = batch.add("total_income", () -> rollupRepository.sumAmountByCategoryType(
+                userId, CategoryType.INCOME, startDate, endExclusive));
+        Supplier<BigDecimal> totalExpenseQuery = batch.add("total_expense", () -> rollupRepository.sumAmountByCategoryType(
+                userId, CategoryType.EXPENSE, startDate, endExclusive));
+
+        // 2. Expense Breakdown by Category
+        Supplier<List<CategorySpending>> expenseBreakdownQuery = batch.add("expense_breakdown",
+                () -> rollupRepository.findExpenseBreakdownByCategory(userId, startDate, endExclusive));
+
+        // 3. Spending Trend by Day
+        Supplier<List<DailySpending>> spendingTrendQuery = batch.add("spending_trend",
+                () -> rollupRepository.findSpendingTrendByDay(userId, startDate, endExclusive));
 
         // --- LOGIC FOR COMPARATIVE PERIOD ---
         long daysInPeriod = ChronoUnit.DAYS.between(startDate, endDate) + 1;
         LocalDate previousStartDate = startDate.minusDays(daysInPeriod);
         LocalDate previousEndDate = endDate.minusDays(daysInPeriod);
 
-        BigDecimal previousPeriodExpense = transactionRepository.sumAmountByCategoryType(
-                currentUser, CategoryType.EXPENSE,
-                previousStartDate.atStartOfDay(),
-                previousEndDate.plusDays(1).atStartOfDay()
-        );
-
-        // --- ADD LOGIC FOR TOP TRANSACTION ---
-        TopTransaction biggestExpense = transactionRepository.findTopExpenseTransaction(
-                currentUser, startDateTime, endDateTime);
+        Supplier<BigDecimal> previousPeriodExpenseQuery = batch.add("previous_period_expense",
+                () -> rollupRepository.sumAmountByCategoryType(
+                        userId, CategoryType.EXPENSE, previousStartDate, previousEndDate.plusDays(1)));
+
+        // --- TOP TRANSACTION ---
+        // The rollups locate the day and category of the largest expense; only that day is read
+        Supplier<TopTransaction> biggestExpenseQuery = batch.add("biggest_expense",
+                () -> rollupRepository.findTopExpenseDay(userId, startDate, endExclusive)
+                        .map(day -> transactionRepository.findTopTransactionInCategory(
+                                currentUser,
+                                day.getId().getCategoryId(),
+                                day.getId().getSpendingDate().atStartOfDay(),
+                                day.getId().getSpendingDate().plusDays(1).atStartOfDay()))
+                        .orElse(null));
 
         // For budget progress, we typically show it for the month of the start date.
-        // 1. Fetch the raw progress data from the repository
         LocalDate budgetMonth = startDate.withDayOfMonth(1);
-        List<BudgetProgress> budgetProgressData = budgetRepository.findBudgetProgressData(currentUser, budgetMonth);
+        Supplier<List<BudgetProgress>> budgetProgressQuery = batch.add("budget_progress",
+                () -> budgetRepository.findBudgetProgressData(currentUser, budgetMonth, budgetMonth.plusMonths(1)));
+
+        batch.start();
+
+        Money totalIncome = Money.of(totalIncomeQuery.get());
+        Money totalExpense = Money.of(totalExpenseQuery.get());
+        List<CategorySpending> expenseBreakdown = expenseBreakdownQuery.get();
+        List<DailySpending> spendingTrend = spendingTrendQuery.get();
+        Money previousPeriodExpense = Money.of(previousPeriodExpenseQuery.get());
+        TopTransaction biggestExpense = biggestExpenseQuery.get();
+
+        // 1. Take the raw progress data from the repository
+        List<BudgetProgress> budgetProgressData = budgetProgressQuery.get();
 
         // 2. Iterate and perform the final calculation
         budgetProgressData.forEach(progress -> {
-            BigDecimal remaining = progress.getBudgetAmount().subtract(progress.getAmountSpent());
+            Money remaining = progress.getBudgetAmount().minus(progress.getAmountSpent());
             progress.setAmountRemaining(remaining);
         });
 
@@ -83,7 +164,7 @@ public class DashboardServiceImpl implements DashboardService {
         return DashboardStatsResponse.builder()
                 .totalIncome(totalIncome)
                 .totalExpense(totalExpense)
-                .netSavings(totalIncome.subtract(totalExpense))
+                .netSavings(totalIncome.minus(totalExpense))
                 .expenseBreakdown(expenseBreakdown)
                 .spendingTrend(spendingTrend)
                 .budgetProgress(budgetProgressData)
@@ -0,0 +1,229 @@
+package com.budgetwise.api.dashboard.impl;
+
+import com.budgetwise.api.dashboard.DashboardStatsCache;
+import com.budgetwise.api.dashboard.dto.DashboardStatsResponse;
+import com.budgetwise.api.dataversion.UserDataVersionService;
+import com.budgetwise.api.transaction.event.TransactionsChangedEvent;
+import com.budgetwise.api.user.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Bounded Caffeine cache of dashboard responses, evicted by size and by age.
+ * <p>
+ * The cache holds futures: the first request for a key inserts one and computes it on its own
+ * thread, requests arriving meanwhile wait for the same future instead of querying the database
+ * again. A failed computation is removed so that the next request retries it.
+ * <p>
+ * Keys include the user's data version, read before the response is computed. The version is
+ * shared by all nodes and moves on after every committed write, so a write on another node, or a
+ * computation that raced a write, leaves its entry under a version that is no longer asked for.
+ * <p>
+ * On the writing node, invalidation also runs after the transaction commits, which frees the
+ * memory early and closes the short gap before the version moves. It removes entries whose
+ * computation is still in flight as well. Keys are indexed per user so that a write only examines
+ * that user's entries.
+ */
+@Service
+@RequiredArgsConstructor
+public class DashboardStatsCacheImpl implements DashboardStatsCache {
+
+    private final UserDataVersionService userDataVersionService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${dashboard.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${dashboard.cache.max-entries:10000}")
+    private long maxEntries;
+
+    @Value("${dashboard.cache.ttl:10m}")
+    private Duration ttl;
+
+    private Cache<Key, CompletableFuture<DashboardStatsResponse>> cache;
+    private final Map<UUID, Set<Key>> keysByUser = new ConcurrentHashMap<>();
+
+    private Counter hits;
+    private Counter misses;
+    private Counter coalesced;
+    private Counter invalidations;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                // Runs synchronously with the eviction, so it cannot remove a key re-added later
+                .<Key, CompletableFuture<DashboardStatsResponse>>evictionListener((key, value, cause) -> unindex(key))
+                .build();
+
+        hits = requests("hit");
+        misses = requests("miss");
+        coalesced = requests("coalesced");
+        invalidations = Counter.builder("dashboard.cache.invalidations")
+                .description("Dashboard cache entries removed because of a write")
+                .register(meterRegistry);
+        meterRegistry.gauge("dashboard.cache.size", cache, Cache::estimatedSize);
+    }
+
+    private Counter requests(String result) {
+        return Counter.builder("dashboard.cache.requests")
+                .description("Dashboard cache lookups by result; coalesced requests waited for another request's computation")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public DashboardStatsResponse get(User user, LocalDate startDate, LocalDate endDate, Supplier<DashboardStatsResponse> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        Key key = new Key(user.getId(), userDataVersionService.getVersion(user.getId()), startDate, endDate);
+        CompletableFuture<DashboardStatsResponse> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return awaitCached(cached);
+        }
+
+        // Indexed before it is inserted, so an invalidation can never miss an inserted key, and again
+        // afterwards in case an eviction of the previous entry unindexed it in between
+        index(key);
+        CompletableFuture<DashboardStatsResponse> created = new CompletableFuture<>();
+        cached = cache.asMap().putIfAbsent(key, created);
+        if (cached != null) {
+            return awaitCached(cached);
+        }
+        index(key);
+
+        misses.increment();
+        try {
+            DashboardStatsResponse response = loader.get();
+            created.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            cache.asMap().remove(key, created);
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private DashboardStatsResponse awaitCached(CompletableFuture<DashboardStatsResponse> cached) {
+        (cached.isDone() ? hits : coalesced).increment();
+        try {
+            return cached.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    @EventListener
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        NavigableSet<LocalDate> dates = new TreeSet<>();
+        event.changes().forEach(change -> dates.add(change.date()));
+        invalidate(event.userId(), key -> {
+            LocalDate first = dates.ceiling(key.windowStart());
+            return first != null && first.isBefore(key.windowEnd());
+        });
+    }
+
+    @Override
+    public void budgetChanged(UUID userId, LocalDate budgetMonth) {
+        afterCommit(() -> invalidate(userId, key -> key.budgetMonth().equals(budgetMonth)));
+    }
+
+    @Override
+    public void categoryChanged(UUID userId) {
+        // Category names and types appear throughout the response
+        afterCommit(() -> invalidate(userId, key -> true));
+    }
+
+    private void invalidate(UUID userId, Predicate<Key> affected) {
+        Set<Key> keys = keysByUser.get(userId);
+        if (keys == null) {
+            return;
+        }
+        for (Key key : keys) {
+            if (affected.test(key)) {
+                // Unindexed first: a request re-adding the key in between is then either removed
+                // here or indexed again by itself
+                unindex(key);
+                cache.invalidate(key);
+                invalidations.increment();
+            }
+        }
+    }
+
+    private void index(Key key) {
+        keysByUser.compute(key.userId(), (userId, keys) -> {
+            Set<Key> indexed = keys != null ? keys : ConcurrentHashMap.newKeySet();
+            indexed.add(key);
+            return indexed;
+        });
+    }
+
+    private void unindex(Key key) {
+        keysByUser.computeIfPresent(key.userId(), (userId, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record Key(UUID userId, long dataVersion, LocalDate startDate, LocalDate endDate) {
+
+        LocalDate budgetMonth() {
+            return startDate.withDayOfMonth(1);
+        }
+
+        // The response depends on transactions of the previous period, the requested period and the
+        // budget month: [windowStart, windowEnd)
+        LocalDate windowStart() {
+            LocalDate previousStart = startDate.minusDays(ChronoUnit.DAYS.between(startDate, endDate) + 1);
+            return previousStart.isBefore(budgetMonth()) ? previousStart : budgetMonth();
+        }
+
+        LocalDate windowEnd() {
+            LocalDate endExclusive = endDate.plusDays(1);
+            LocalDate budgetMonthEnd = budgetMonth().plusMonths(1);
+            return endExclusive.isAfter(budgetMonthEnd) ? endExclusive : budgetMonthEnd;
+        }
+    }
+}
@@ -0,0 +1,503 @@
+package com.budgetwise.api.dashboard.impl;
+
+import com.budgetwise.api.category.Category;
+import com.budgetwise.api.category.CategoryRepository;
+import com.budgetwise.api.category.enums.CategoryType;
+import com.budgetwise.api.dashboard.DashboardStreamService;
+import com.budgetwise.api.dashboard.dto.CategorySlice;
+import com.budgetwise.api.dashboard.dto.DailySpending;
+import com.budgetwise.api.dashboard.dto.DashboardDelta;
+import com.budgetwise.api.global.money.Money;
+import com.budgetwise.api.rollup.DailySpendingRollupRepository;
+import com.budgetwise.api.rollup.dto.DailySpendingRollupRow;
+import com.budgetwise.api.security.SecurityUtils;
+import com.budgetwise.api.transaction.event.TransactionWriteTracker;
+import com.budgetwise.api.transaction.event.TransactionsChangedEvent;
+import com.budgetwise.api.user.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Server-Sent Events for live dashboard updates.
+ * <p>
+ * A subscription loads the totals of its range once from the daily rollups and sends them as a
+ * "snapshot" event. From then on every committed {@link TransactionsChangedEvent} of the user is
+ * applied to those totals in memory, and a "delta" event carries the new income and expense
+ * totals plus the changed categories and days; no dashboard query runs again. The load is checked
+ * with the {@link TransactionWriteTracker} and repeated if a write overlapped it, so no change is
+ * missed or counted twice.
+ * <p>
+ * Idle connections hold no thread: the request is asynchronous and events are written by a sender
+ * pool whose threads exit when idle. The committing thread only queues the changed rows on the
+ * subscription; a sender thread applies them, looks up categories created since the load, and
+ * sends one delta for everything queued meanwhile, so a client that falls behind skips
+ * intermediate states. When a slow client lets the queue fill up, the queued changes are dropped
+ * and the totals are loaded again. A send that blocks for longer than the send timeout evicts the
+ * client. A comment line is sent as heartbeat to keep proxies from closing idle streams and to
+ * detect closed connections.
+ * <p>
+ * Changes are only seen by the node that committed them; clients on other nodes catch up on their
+ * next reconnect, which the stream timeout forces periodically.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardStreamServiceImpl implements DashboardStreamService {
+
+    // Loads overlapped by writes this often in a row leave the subscription to be reloaded on a heartbeat
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    // Queued besides TransactionsChangedEvents
+    private static final Object HEARTBEAT = new Object();
+    private static final Object RELOAD = new Object();
+
+    private final DailySpendingRollupRepository rollupRepository;
+    private final CategoryRepository categoryRepository;
+    private final SecurityUtils securityUtils;
+    private final TransactionWriteTracker writeTracker;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${dashboard.stream.timeout:30m}")
+    private Duration timeout;
+
+    @Value("${dashboard.stream.max-connections:5000}")
+    private int maxConnections;
+
+    @Value("${dashboard.stream.max-connections-per-user:5}")
+    private int maxConnectionsPerUser;
+
+    @Value("${dashboard.stream.max-queued-events:16}")
+    private int maxQueuedEvents;
+
+    @Value("${dashboard.stream.sender-threads:16}")
+    private int senderThreads;
+
+    @Value("${dashboard.stream.send-timeout:10s}")
+    private Duration sendTimeout;
+
+    private final Map<UUID, List<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private ThreadPoolExecutor sender;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadCount = new AtomicInteger();
+        // At most one queued task per subscription, so the queue is bounded by max-connections
+        sender = new ThreadPoolExecutor(senderThreads, senderThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "dashboard-stream-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        sender.allowCoreThreadTimeOut(true);
+        meterRegistry.gauge("dashboard.stream.connections", connections);
+    }
+
+    @PreDestroy
+    void stop() {
+        sender.shutdownNow();
+        subscriptions.values().forEach(list -> list.forEach(subscription -> subscription.emitter.complete()));
+    }
+
+    @Override
+    public SseEmitter subscribe(LocalDate startDate, LocalDate endDate) {
+        User currentUser = securityUtils.getCurrentUser();
+
+        // If no dates are provided, default to the current month
+        if (startDate == null || endDate == null) {
+            YearMonth currentMonth = YearMonth.now();
+            startDate = currentMonth.atDay(1);
+            endDate = currentMonth.atEndOfMonth();
+        }
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("endDate must not be before startDate");
+        }
+
+        // Registered before the load, so that changes committed meanwhile are queued; the
+        // subscription is owned by this thread until release() hands it to the sender
+        Subscription subscription = new Subscription(currentUser, startDate, endDate.plusDays(1), new SseEmitter(timeout.toMillis()));
+        register(subscription);
+        subscription.emitter.onCompletion(() -> remove(subscription));
+        subscription.emitter.onTimeout(() -> remove(subscription));
+        subscription.emitter.onError(error -> remove(subscription));
+
+        try {
+            load(subscription);
+            // Not yet connected to the response, so the emitter buffers this instead of writing
+            subscription.emitter.send(subscription.snapshotEvent());
+        } catch (IOException | RuntimeException e) {
+            remove(subscription);
+            if (e instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e);
+        }
+        release(subscription);
+        return subscription.emitter;
+    }
+
+    @EventListener
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        List<Subscription> userSubscriptions = subscriptions.get(event.userId());
+        if (userSubscriptions == null) {
+            return;
+        }
+        for (Subscription subscription : userSubscriptions) {
+            if (event.changes().stream().anyMatch(change -> subscription.covers(change.date()))) {
+                offer(subscription, event);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${dashboard.stream.heartbeat:25s}")
+    public void sendHeartbeats() {
+        subscriptions.values().forEach(list -> list.forEach(subscription -> {
+            if (subscription.isIdle()) {
+                offer(subscription, subscription.stale ? RELOAD : HEARTBEAT);
+            }
+        }));
+    }
+
+    /**
+     * Evicts clients whose current send has been blocked for longer than the send timeout, e.g.
+     * because they stopped reading and the socket buffer is full.
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void evictStalledClients() {
+        long now = System.nanoTime();
+        subscriptions.values().forEach(list -> list.forEach(subscription -> {
+            synchronized (subscription) {
+                if (subscription.sendingThread == null || now - subscription.sendStartedAt <= sendTimeout.toNanos()) {
+                    return;
+                }
+                // Under the monitor, so the thread is still in this subscription's send and completes
+                // the emitter once the send returns
+                log.debug("Closing dashboard stream of user {}: a send took longer than {}", subscription.userId, sendTimeout);
+                subscription.sendingThread.interrupt();
+                remove(subscription);
+            }
+        }));
+    }
+
+    private void register(Subscription subscription) {
+        // compute() makes the limit checks and the insert atomic with remove() for this user
+        subscriptions.compute(subscription.userId, (userId, list) -> {
+            List<Subscription> userSubscriptions = (list != null) ? list : new CopyOnWriteArrayList<>();
+            if (userSubscriptions.size() >= maxConnectionsPerUser) {
+                throw new IllegalStateException("Too many open dashboard streams for this user");
+            }
+            if (connections.incrementAndGet() > maxConnections) {
+                connections.decrementAndGet();
+                throw new IllegalStateException("Too many open dashboard streams, please try again later");
+            }
+            userSubscriptions.add(subscription);
+            return userSubscriptions;
+        });
+    }
+
+    private void offer(Subscription subscription, Object item) {
+        synchronized (subscription) {
+            if (subscription.closed) {
+                return;
+            }
+            if (subscription.inbox.size() >= maxQueuedEvents) {
+                // The client is not keeping up: drop the queued changes and load the totals again
+                subscription.inbox.clear();
+                item = RELOAD;
+            }
+            subscription.inbox.add(item);
+            if (subscription.sending) {
+                return;
+            }
+            subscription.sending = true;
+        }
+        sender.execute(() -> drain(subscription));
+    }
+
+    // Hands a subscription owned by the calling thread to the sender, if anything was queued meanwhile
+    private void release(Subscription subscription) {
+        synchronized (subscription) {
+            if (subscription.inbox.isEmpty() || subscription.closed) {
+                subscription.sending = false;
+                return;
+            }
+        }
+        sender.execute(() -> drain(subscription));
+    }
+
+    private void drain(Subscription subscription) {
+        while (true) {
+            List<Object> items;
+            synchronized (subscription) {
+                if (subscription.inbox.isEmpty() || subscription.closed) {
+                    subscription.sending = false;
+                    return;
+                }
+                items = new ArrayList<>(subscription.inbox);
+                subscription.inbox.clear();
+            }
+
+            SseEmitter.SseEventBuilder event;
+            try {
+                event = process(subscription, items);
+            } catch (RuntimeException e) {
+                // E.g. the database is unavailable; the client reconnects and gets a fresh snapshot
+                log.warn("Closing dashboard stream of user {}: update failed", subscription.userId, e);
+                subscription.emitter.completeWithError(e);
+                remove(subscription);
+                continue;
+            }
+            if (event != null) {
+                send(subscription, event);
+            }
+        }
+    }
+
+    /**
+     * Applies the queued items to the totals and returns the event to send, if any. Runs on the
+     * thread that owns the subscription, outside its monitor.
+     */
+    private SseEmitter.SseEventBuilder process(Subscription subscription, List<Object> items) {
+        if (items.contains(RELOAD)) {
+            // The queued changes were committed before the new load starts, so it includes them
+            load(subscription);
+            return subscription.snapshotEvent();
+        }
+
+        Set<UUID> changedCategories = new LinkedHashSet<>();
+        Set<LocalDate> changedDays = new LinkedHashSet<>();
+        boolean heartbeat = false;
+        for (Object item : items) {
+            if (item == HEARTBEAT) {
+                heartbeat = true;
+                continue;
+            }
+            for (TransactionsChangedEvent.Change change : ((TransactionsChangedEvent) item).changes()) {
+                if (!subscription.covers(change.date())) {
+                    continue;
+                }
+                if (!subscription.categories.containsKey(change.categoryId())) {
+                    // Created after the totals were loaded
+                    categoryRepository.findById(change.categoryId()).ifPresent(subscription::addCategory);
+                }
+                long amount = Money.toMinorUnits(change.amount());
+                subscription.apply(change.categoryId(), change.date(), change.added() ? amount : -amount);
+                changedCategories.add(change.categoryId());
+                changedDays.add(change.date());
+            }
+        }
+        if (!changedCategories.isEmpty()) {
+            return subscription.deltaEvent(changedCategories, changedDays);
+        }
+        return heartbeat ? SseEmitter.event().comment("heartbeat") : null;
+    }
+
+    /**
+     * Loads the totals of the subscription's range. A load that overlapped a write of the user is
+     * repeated; if that keeps happening the last result is used and the subscription is marked
+     * stale, to be loaded again on a later heartbeat.
+     */
+    private void load(Subscription subscription) {
+        for (int attempt = 1; ; attempt++) {
+            TransactionWriteTracker.Load load = writeTracker.startLoad(subscription.userId);
+            boolean exact;
+            List<Category> categories;
+            List<DailySpendingRollupRow> rows;
+            try {
+                // Changes queued so far are either part of this load or come from a write that overlaps it
+                synchronized (subscription) {
+                    subscription.inbox.removeIf(item -> item != HEARTBEAT);
+                }
+                categories = categoryRepository.findByUserOrderByCreatedAtDesc(subscription.user);
+                rows = rollupRepository.findRowsByUserAndDateRange(
+                        subscription.userId, subscription.startDate, subscription.endExclusive);
+            } finally {
+                exact = writeTracker.finishLoad(load);
+            }
+            if (exact || attempt == MAX_LOAD_ATTEMPTS) {
+                subscription.reset(categories, rows);
+                subscription.stale = !exact;
+                return;
+            }
+        }
+    }
+
+    private void send(Subscription subscription, SseEmitter.SseEventBuilder event) {
+        synchronized (subscription) {
+            if (subscription.closed) {
+                return;
+            }
+            subscription.sendStartedAt = System.nanoTime();
+            subscription.sendingThread = Thread.currentThread();
+        }
+        try {
+            subscription.emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // The client went away; the container reports it through onError or onCompletion as well
+            log.debug("Closing dashboard stream of user {}: {}", subscription.userId, e.getMessage());
+            subscription.emitter.completeWithError(e);
+            remove(subscription);
+        } finally {
+            boolean evicted;
+            synchronized (subscription) {
+                subscription.sendingThread = null;
+                evicted = subscription.closed;
+            }
+            // Clears an interrupt from evictStalledClients, so it does not hit the next task of this thread
+            Thread.interrupted();
+            if (evicted) {
+                subscription.emitter.complete();
+            }
+        }
+    }
+
+    private void remove(Subscription subscription) {
+        synchronized (subscription) {
+            if (subscription.closed) {
+                return;
+            }
+            subscription.closed = true;
+            subscription.inbox.clear();
+        }
+        connections.decrementAndGet();
+        subscriptions.computeIfPresent(subscription.userId, (userId, list) -> {
+            list.remove(subscription);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    /**
+     * One open stream: its range, the running totals of that range and the items waiting to be
+     * applied. The queue and the flags are guarded by its monitor. The totals belong to the one
+     * thread that owns the subscription, the subscribing thread and then the sender thread that
+     * set {@code sending}, and are not read by any other.
+     */
+    private static final class Subscription {
+
+        private final User user;
+        private final UUID userId;
+        private final LocalDate startDate;
+        private final LocalDate endExclusive;
+        private final SseEmitter emitter;
+
+        private final Map<UUID, Category> categories = new HashMap<>();
+        private final Map<UUID, Long> categoryTotals = new HashMap<>();
+        private final Map<LocalDate, Long> dailyExpense = new TreeMap<>();
+        private long income;
+        private long expense;
+        private volatile boolean stale;
+
+        private final Queue<Object> inbox = new ArrayDeque<>();
+        private boolean sending = true;
+        private boolean closed;
+        private Thread sendingThread;
+        private long sendStartedAt;
+
+        private Subscription(User user, LocalDate startDate, LocalDate endExclusive, SseEmitter emitter) {
+            this.user = user;
+            this.userId = user.getId();
+            this.startDate = startDate;
+            this.endExclusive = endExclusive;
+            this.emitter = emitter;
+        }
+
+        synchronized boolean isIdle() {
+            return !sending && inbox.isEmpty() && !closed;
+        }
+
+        boolean covers(LocalDate date) {
+            return !date.isBefore(startDate) && date.isBefore(endExclusive);
+        }
+
+        void reset(List<Category> loadedCategories, List<DailySpendingRollupRow> rows) {
+            categories.clear();
+            categoryTotals.clear();
+            dailyExpense.clear();
+            income = 0;
+            expense = 0;
+            loadedCategories.forEach(this::addCategory);
+            for (DailySpendingRollupRow row : rows) {
+                apply(row.categoryId(), row.spendingDate(), row.totalAmount());
+            }
+        }
+
+        void addCategory(Category category) {
+            categories.put(category.getId(), category);
+        }
+
+        void apply(UUID categoryId, LocalDate date, long amount) {
+            Category category = categories.get(categoryId);
+            if (category == null) {
+                return;
+            }
+            categoryTotals.merge(categoryId, amount, Long::sum);
+            if (category.getCategoryType() == CategoryType.INCOME) {
+                income += amount;
+            } else {
+                expense += amount;
+                dailyExpense.merge(date, amount, Long::sum);
+            }
+        }
+
+        SseEmitter.SseEventBuilder snapshotEvent() {
+            return event("snapshot", categoryTotals.keySet(), dailyExpense.keySet());
+        }
+
+        SseEmitter.SseEventBuilder deltaEvent(Collection<UUID> changedCategories, Collection<LocalDate> changedDays) {
+            return event("delta", changedCategories, changedDays);
+        }
+
+        private SseEmitter.SseEventBuilder event(String name, Collection<UUID> categoryIds, Collection<LocalDate> days) {
+            List<CategorySlice> slices = new ArrayList<>(categoryIds.size());
+            for (UUID categoryId : categoryIds) {
+                Category category = categories.get(categoryId);
+                slices.add(new CategorySlice(categoryId, category.getName(), category.getCategoryType(),
+                        Money.ofMinor(categoryTotals.getOrDefault(categoryId, 0L))));
+            }
+            List<DailySpending> points = new ArrayList<>(days.size());
+            for (LocalDate day : days) {
+                points.add(new DailySpending(day, BigDecimal.valueOf(dailyExpense.getOrDefault(day, 0L), Money.SCALE)));
+            }
+            DashboardDelta payload = DashboardDelta.builder()
+                    .totalIncome(Money.ofMinor(income))
+                    .totalExpense(Money.ofMinor(expense))
+                    .netSavings(Money.ofMinor(income - expense))
+                    .categories(slices)
+                    .spendingTrend(points)
+                    .build();
+            return SseEmitter.event().name(name).data(payload);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.budgetwise.api.dashboard.impl;
+
+import com.budgetwise.api.budget.Budget;
+import com.budgetwise.api.budget.BudgetRepository;
+import com.budgetwise.api.category.enums.CategoryType;
+import com.budgetwise.api.dashboard.dto.*;
+import com.budgetwise.api.global.money.Money;
+import com.budgetwise.api.rollup.DailySpendingRollupRepository;
+import com.budgetwise.api.rollup.dto.DailySpendingRollupRow;
+import com.budgetwise.api.transaction.TransactionRepository;
+import com.budgetwise.api.user.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Computes the dashboard from one ordered scan of the daily rollups covering the previous period,
+ * the requested period and the budget month. Income, expense, the previous period's expense, the
+ * per-category totals, the daily series, each category's spend in the budget month and the cell
+ * holding the largest expense are all accumulated in the same pass into {@code long} minor units
+ * and primitive arrays. Besides the scan, only the month's budgets and the one day holding the
+ * largest expense are read.
+ */
+@Component
+@RequiredArgsConstructor
+class SinglePassDashboardEngine {
+
+    private final DailySpendingRollupRepository rollupRepository;
+    private final BudgetRepository budgetRepository;
+    private final TransactionRepository transactionRepository;
+
+    DashboardStatsResponse compute(User user, LocalDate startDate, LocalDate endDate) {
+        LocalDate endExclusive = endDate.plusDays(1);
+        int days = (int) ChronoUnit.DAYS.between(startDate, endExclusive);
+        LocalDate previousStart = startDate.minusDays(days);
+        LocalDate budgetMonth = startDate.withDayOfMonth(1);
+        LocalDate budgetMonthEnd = budgetMonth.plusMonths(1);
+
+        LocalDate scanStart = previousStart.isBefore(budgetMonth) ? previousStart : budgetMonth;
+        LocalDate scanEnd = endExclusive.isAfter(budgetMonthEnd) ? endExclusive : budgetMonthEnd;
+        List<DailySpendingRollupRow> rows = rollupRepository.findRowsByUserAndDateRange(user.getId(), scanStart, scanEnd);
+
+        long income = 0;
+        long expense = 0;
+        long previousExpense = 0;
+        long[] daily = new long[days];
+        long maxExpense = -1;
+        DailySpendingRollupRow maxExpenseRow = null;
+
+        // Categories are numbered in order of first appearance
+        Map<UUID, Integer> categoryIndex = new HashMap<>();
+        List<DailySpendingRollupRow> categories = new ArrayList<>();
+        long[] categoryTotals = new long[16];
+        long[] budgetMonthTotals = new long[16];
+
+        long startDay = startDate.toEpochDay();
+        long endDay = endExclusive.toEpochDay();
+        long previousStartDay = previousStart.toEpochDay();
+        long budgetMonthDay = budgetMonth.toEpochDay();
+        long budgetMonthEndDay = budgetMonthEnd.toEpochDay();
+
+        for (DailySpendingRollupRow row : rows) {
+            long day = row.spendingDate().toEpochDay();
+            long amount = row.totalAmount();
+            boolean isExpense = row.categoryType() == CategoryType.EXPENSE;
+
+            Integer index = categoryIndex.get(row.categoryId());
+            if (index == null) {
+                index = categories.size();
+                categoryIndex.put(row.categoryId(), index);
+                categories.add(row);
+                if (index == categoryTotals.length) {
+                    categoryTotals = Arrays.copyOf(categoryTotals, index * 2);
+                    budgetMonthTotals = Arrays.copyOf(budgetMonthTotals, index * 2);
+                }
+            }
+
+            if (day >= budgetMonthDay && day < budgetMonthEndDay) {
+                budgetMonthTotals[index] += amount;
+            }
+            if (day >= previousStartDay && day < startDay) {
+                if (isExpense) {
+                    previousExpense += amount;
+                }
+            } else if (day >= startDay && day < endDay) {
+                if (!isExpense) {
+                    income += amount;
+                    continue;
+                }
+                expense += amount;
+                categoryTotals[index] += amount;
+                daily[(int) (day - startDay)] += amount;
+                long max = row.maxAmount();
+                if (max > maxExpense) {
+                    maxExpense = max;
+                    maxExpenseRow = row;
+                }
+            }
+        }
+
+        List<CategorySpending> expenseBreakdown = new ArrayList<>();
+        for (int i = 0; i < categories.size(); i++) {
+            if (categoryTotals[i] > 0) {
+                expenseBreakdown.add(new CategorySpending(categories.get(i).categoryName(), toDecimal(categoryTotals[i])));
+            }
+        }
+        expenseBreakdown.sort(Comparator.comparing(CategorySpending::getTotalAmount).reversed());
+
+        List<DailySpending> spendingTrend = new ArrayList<>();
+        for (int i = 0; i < days; i++) {
+            if (daily[i] > 0) {
+                spendingTrend.add(new DailySpending(startDate.plusDays(i), toDecimal(daily[i])));
+            }
+        }
+
+        List<BudgetProgress> budgetProgress = new ArrayList<>();
+        for (Budget budget : budgetRepository.findByUserAndBudgetMonthBetween(user, budgetMonth, budgetMonth)) {
+            Integer index = categoryIndex.get(budget.getCategory().getId());
+            BudgetProgress progress = new BudgetProgress(
+                    budget.getId(),
+                    budget.getCategory().getId(),
+                    budget.getCategory().getName(),
+                    toDecimal(index == null ? 0 : budgetMonthTotals[index]),
+                    budget.getBudgetAmount()
+            );
+            progress.setAmountRemaining(progress.getBudgetAmount().minus(progress.getAmountSpent()));
+            budgetProgress.add(progress);
+        }
+
+        TopTransaction biggestExpense = null;
+        if (maxExpenseRow != null) {
+            LocalDate day = maxExpenseRow.spendingDate();
+            biggestExpense = transactionRepository.findTopTransactionInCategory(
+                    user, maxExpenseRow.categoryId(), day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+        }
+
+        return DashboardStatsResponse.builder()
+                .totalIncome(Money.ofMinor(income))
+                .totalExpense(Money.ofMinor(expense))
+                .netSavings(Money.ofMinor(income - expense))
+                .expenseBreakdown(expenseBreakdown)
+                .spendingTrend(spendingTrend)
+                .budgetProgress(budgetProgress)
+                .previousPeriodExpense(Money.ofMinor(previousExpense))
+                .biggestExpense(biggestExpense)
+                .build();
+    }
+
+    private static BigDecimal toDecimal(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, Money.SCALE);
+    }
+}
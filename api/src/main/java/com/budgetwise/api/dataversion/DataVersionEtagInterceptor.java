@@ -0,0 +1,67 @@
+package com.budgetwise.api.dataversion;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.zip.CRC32;
+
+/**
+ * Conditional GET for the list views the frontend re-fetches on every navigation. The ETag is the
+ * user's data version plus a checksum of the user, URI and query, so one version lookup decides
+ * whether the handler (and its queries) runs at all. The current date is part of the checksum
+ * because views without explicit dates default to the current month.
+ */
+@Component
+@RequiredArgsConstructor
+public class DataVersionEtagInterceptor implements HandlerInterceptor {
+
+    private final UserDataVersionService userDataVersionService;
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+        Long version = userDataVersionService.getCurrentUserVersion().orElse(null);
+        if (version == null) {
+            return true;
+        }
+
+        String etag = computeEtag(request, version);
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && matches(ifNoneMatch, etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return false;
+        }
+        return true;
+    }
+
+    private static String computeEtag(HttpServletRequest request, long version) {
+        String scope = request.getRemoteUser() + " " + request.getRequestURI() + "?" + request.getQueryString()
+                + " " + LocalDate.now();
+        CRC32 checksum = new CRC32();
+        checksum.update(scope.getBytes(StandardCharsets.UTF_8));
+        return "\"" + version + "-" + Long.toHexString(checksum.getValue()) + "\"";
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || trimmed.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
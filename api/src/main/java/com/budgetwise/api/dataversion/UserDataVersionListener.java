@@ -0,0 +1,29 @@
+package com.budgetwise.api.dataversion;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Entity listener that records a change to the owner's data whenever a user-owned entity is
+ * written. The service is looked up lazily because this listener is created while the entity
+ * manager factory, which the service's repository depends on, is still being built.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserDataVersionListener {
+
+    private final ObjectProvider<UserDataVersionService> userDataVersionService;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(UserOwned entity) {
+        if (entity.getUser() != null) {
+            userDataVersionService.getObject().markChanged(entity.getUser().getId());
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.budgetwise.api.dataversion;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface UserDataVersionService {
+    // Null when the current request is not authenticated
+    Optional<Long> getCurrentUserVersion();
+
+    // The committed version of the user's data, read from the database on every call
+    long getVersion(UUID userId);
+
+    // Bumps the user's version once the surrounding transaction commits
+    void markChanged(UUID userId);
+}
@@ -0,0 +1,8 @@
+package com.budgetwise.api.dataversion;
+
+import com.budgetwise.api.user.User;
+
+// Entities whose changes alter what their owner's read endpoints return
+public interface UserOwned {
+    User getUser();
+}
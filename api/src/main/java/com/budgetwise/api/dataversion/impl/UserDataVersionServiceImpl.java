@@ -0,0 +1,76 @@
+package com.budgetwise.api.dataversion.impl;
+
+import com.budgetwise.api.dataversion.UserDataVersionService;
+import com.budgetwise.api.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Keeps a counter per user that changes whenever any of the user's data changes. The counter lives
+ * in the users table so every node sees the same value. Bumps are collected per transaction and
+ * written after it commits: a reader can then briefly see new data under the old version, which
+ * only costs one extra full response, but never old data under the new version.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserDataVersionServiceImpl implements UserDataVersionService {
+
+    // Transaction-bound set of users changed by the current transaction
+    private static final Object PENDING_CHANGES = new Object();
+
+    private final UserRepository userRepository;
+
+    @Override
+    public Optional<Long> getCurrentUserVersion() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return Optional.empty();
+        }
+        return userRepository.findDataVersionByUsername(authentication.getName());
+    }
+
+    @Override
+    public long getVersion(UUID userId) {
+        return userRepository.findDataVersionById(userId.toString()).orElse(0L);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void markChanged(UUID userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            userRepository.incrementDataVersions(List.of(userId.toString()));
+            return;
+        }
+
+        Set<UUID> pending = (Set<UUID>) TransactionSynchronizationManager.getResource(PENDING_CHANGES);
+        if (pending == null) {
+            Set<UUID> changed = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(PENDING_CHANGES, changed);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userRepository.incrementDataVersions(changed.stream().map(UUID::toString).toList());
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_CHANGES);
+                }
+            });
+            pending = changed;
+        }
+        pending.add(userId);
+    }
+}
@@ -0,0 +1,142 @@
+package com.budgetwise.api.global.money;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * An amount of money held as a {@code long} count of minor units plus an ISO 4217 currency code.
+ * Amounts in different currencies cannot be combined or compared. The amount columns carry no
+ * currency, so amounts read from them are in {@link #NO_CURRENCY}.
+ * <p>
+ * One minor unit is 1/10,000 of the currency unit, the same scale as the {@code DECIMAL(19,4)}
+ * amount columns, so every stored value converts exactly and sums are exact integer additions.
+ * A {@code long} at that scale holds about ±922 trillion units, far beyond any real balance.
+ * Arithmetic throws {@link ArithmeticException} on overflow instead of wrapping.
+ * Sums over many rows should add minor units into a {@code long} and wrap the total once, rather
+ * than allocate an intermediate amount per row; queries feeding such loops select
+ * {@code CAST(amount * 10000 AS Long)} so no decimal is read at all.
+ * <p>
+ * Serialized to JSON as a plain decimal number, exactly as the {@link BigDecimal} fields it
+ * replaces, so API responses are unchanged.
+ */
+@JsonSerialize(using = MoneySerializer.class)
+@JsonDeserialize(using = MoneyDeserializer.class)
+public record Money(long minorUnits, String currency) implements Comparable<Money> {
+
+    public static final int SCALE = 4;
+    public static final long MINOR_UNITS_PER_UNIT = 10_000L;
+
+    // Matches the default currency code of Country, used where amounts carry no currency
+    public static final String NO_CURRENCY = "NCN";
+
+    public static final Money ZERO = new Money(0L, NO_CURRENCY);
+
+    private static final long[] POWERS_OF_TEN = {1L, 10L, 100L, 1_000L, 10_000L};
+
+    public Money {
+        Objects.requireNonNull(currency, "currency");
+    }
+
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0L ? ZERO : new Money(minorUnits, NO_CURRENCY);
+    }
+
+    /**
+     * Converts a decimal amount, rounding half-up to four decimal places. A null amount is
+     * treated as zero so that {@code SUM} results over empty sets can be passed straight in.
+     */
+    public static Money of(BigDecimal amount) {
+        return ofMinor(toMinorUnits(amount));
+    }
+
+    public static Money of(BigDecimal amount, String currency) {
+        return new Money(toMinorUnits(amount), currency);
+    }
+
+    /**
+     * Returns the minor units of a decimal amount, rounded as by {@link #of(BigDecimal)}, without
+     * creating a {@code Money}. Amounts with at most four decimal places, which is every amount
+     * read from the {@code DECIMAL(19,4)} columns, are scaled up as a {@code long} without rounding
+     * through a new {@code BigDecimal}.
+     */
+    public static long toMinorUnits(BigDecimal amount) {
+        if (amount == null) {
+            return 0L;
+        }
+        int scale = amount.scale();
+        if (scale >= 0 && scale <= SCALE) {
+            BigInteger unscaled = amount.unscaledValue();
+            if (unscaled.bitLength() < 63) {
+                return Math.multiplyExact(unscaled.longValue(), POWERS_OF_TEN[SCALE - scale]);
+            }
+        }
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    public Money minus(Money other) {
+        return withMinorUnits(Math.subtractExact(minorUnits, other.minorUnits), commonCurrency(other));
+    }
+
+    /**
+     * Returns this amount divided by {@code divisor}, rounded half-up to a whole minor unit.
+     */
+    public Money dividedBy(long divisor) {
+        BigDecimal quotient = BigDecimal.valueOf(minorUnits).divide(BigDecimal.valueOf(divisor), 0, RoundingMode.HALF_UP);
+        return withMinorUnits(quotient.longValueExact(), currency);
+    }
+
+    /**
+     * Returns this amount divided by {@code other}, or 0 when {@code other} is zero.
+     */
+    public double ratio(Money other) {
+        commonCurrency(other);
+        return other.minorUnits == 0L ? 0d : (double) minorUnits / other.minorUnits;
+    }
+
+    public boolean isZero() {
+        return minorUnits == 0L;
+    }
+
+    public boolean isNegative() {
+        return minorUnits < 0L;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        commonCurrency(other);
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    /**
+     * Formats the amount with trailing zeros removed, e.g. {@code 12.5} or {@code 40}.
+     */
+    public String toPlainString() {
+        return toBigDecimal().stripTrailingZeros().toPlainString();
+    }
+
+    @Override
+    public String toString() {
+        return toPlainString() + " " + currency;
+    }
+
+    private static Money withMinorUnits(long minorUnits, String currency) {
+        return NO_CURRENCY.equals(currency) ? ofMinor(minorUnits) : new Money(minorUnits, currency);
+    }
+
+    private String commonCurrency(Money other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException(
+                    "Cannot combine amounts in " + currency + " and " + other.currency);
+        }
+        return currency;
+    }
+}
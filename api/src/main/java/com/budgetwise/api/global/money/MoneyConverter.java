@@ -0,0 +1,25 @@
+package com.budgetwise.api.global.money;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+
+/**
+ * Stores a {@link Money} attribute in a {@code DECIMAL(19,4)} column. Not applied automatically:
+ * annotate the attribute with {@code @Convert(converter = MoneyConverter.class)}. The currency
+ * is not persisted; amounts read back are in {@link Money#NO_CURRENCY}.
+ */
+@Converter
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money attribute) {
+        return attribute == null ? null : attribute.toBigDecimal();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(BigDecimal dbData) {
+        return dbData == null ? null : Money.of(dbData);
+    }
+}
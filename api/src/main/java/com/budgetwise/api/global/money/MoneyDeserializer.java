@@ -0,0 +1,38 @@
+package com.budgetwise.api.global.money;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Reads a {@link Money} from a JSON number or numeric string, in {@link Money#NO_CURRENCY}.
+ */
+public class MoneyDeserializer extends StdDeserializer<Money> {
+
+    public MoneyDeserializer() {
+        super(Money.class);
+    }
+
+    @Override
+    public Money deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        BigDecimal amount;
+        if (parser.hasToken(JsonToken.VALUE_STRING)) {
+            try {
+                amount = new BigDecimal(parser.getText().trim());
+            } catch (NumberFormatException e) {
+                return (Money) context.handleWeirdStringValue(Money.class, parser.getText(), "not a valid amount");
+            }
+        } else {
+            amount = parser.getDecimalValue();
+        }
+        try {
+            return Money.of(amount);
+        } catch (ArithmeticException e) {
+            return (Money) context.handleWeirdNumberValue(Money.class, amount, "amount out of range");
+        }
+    }
+}
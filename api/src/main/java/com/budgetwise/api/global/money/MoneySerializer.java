@@ -0,0 +1,22 @@
+package com.budgetwise.api.global.money;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Writes a {@link Money} as a bare JSON number, the same shape as a {@code BigDecimal} amount.
+ */
+public class MoneySerializer extends StdSerializer<Money> {
+
+    public MoneySerializer() {
+        super(Money.class);
+    }
+
+    @Override
+    public void serialize(Money value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeNumber(value.toBigDecimal());
+    }
+}
@@ -0,0 +1,36 @@
+package com.budgetwise.api.idempotency;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, UUID> {
+    Optional<IdempotencyRecord> findByUsernameAndIdempotencyKey(String username, String idempotencyKey);
+
+    /**
+     * Marks a claimed key as completed. Runs in the caller's transaction and returns 0 when the
+     * claim is no longer ours, i.e. its lease expired and another request took the key over.
+     */
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.status = com.budgetwise.api.idempotency.enums.IdempotencyStatus.COMPLETED, " +
+            "r.responseStatus = :responseStatus, r.responseBody = :responseBody, r.expiresAt = :expiresAt " +
+            "WHERE r.id = :id AND r.status = com.budgetwise.api.idempotency.enums.IdempotencyStatus.IN_PROGRESS")
+    int complete(@Param("id") UUID id, @Param("responseStatus") int responseStatus,
+                 @Param("responseBody") String responseBody, @Param("expiresAt") Instant expiresAt);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.id = :id AND r.expiresAt < :now")
+    int deleteIfExpired(@Param("id") UUID id, @Param("now") Instant now);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
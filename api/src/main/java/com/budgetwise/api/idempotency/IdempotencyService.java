@@ -0,0 +1,17 @@
+package com.budgetwise.api.idempotency;
+
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+
+public interface IdempotencyService {
+    String HEADER = "Idempotency-Key";
+
+    /**
+     * Runs the action once per key and current user and replays its response for later requests
+     * with the same key. Without a key the action simply runs.
+     */
+    <T> ResponseEntity<T> execute(String idempotencyKey, String operation, Class<T> responseType, IdempotentAction<T> action) throws IOException;
+
+    int purgeExpired();
+}
@@ -0,0 +1,11 @@
+package com.budgetwise.api.idempotency;
+
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+
+// The request handling guarded by an idempotency key; receipt uploads may throw IOException
+@FunctionalInterface
+public interface IdempotentAction<T> {
+    ResponseEntity<T> execute() throws IOException;
+}
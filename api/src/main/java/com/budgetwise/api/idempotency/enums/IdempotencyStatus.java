@@ -0,0 +1,14 @@
+package com.budgetwise.api.idempotency.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum IdempotencyStatus {
+    IN_PROGRESS("In Progress"),
+    COMPLETED("Completed");
+
+    private final String name;
+
+}
@@ -0,0 +1,305 @@
+package com.budgetwise.api.idempotency.impl;
+
+import com.budgetwise.api.idempotency.IdempotencyRecord;
+import com.budgetwise.api.idempotency.IdempotencyRecordRepository;
+import com.budgetwise.api.idempotency.IdempotencyService;
+import com.budgetwise.api.idempotency.IdempotentAction;
+import com.budgetwise.api.idempotency.enums.IdempotencyStatus;
+import com.budgetwise.api.security.SecurityUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Makes POST handlers safe to retry. The first request with a given key claims it by inserting an
+ * IN_PROGRESS row (the unique constraint on username and key decides the winner across nodes), runs
+ * the handler, and stores the response. Later requests replay the stored response until it
+ * expires. Duplicates arriving while the first request still runs wait for it: on the same node
+ * through a shared future, on other nodes by polling the row.
+ * <p>
+ * The handler runs in a database transaction that also marks the row COMPLETED, so a committed
+ * result always has its stored response. The IN_PROGRESS row is only a short lease: if the node
+ * dies mid-request nothing was committed, and once the lease has expired a retry takes the key over
+ * and runs the handler. A request that outlives its lease finds its row gone and rolls back.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final long POLL_INTERVAL_MS = 100;
+
+    private final IdempotencyRecordRepository recordRepository;
+    private final SecurityUtils securityUtils;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${idempotency.ttl:24h}")
+    private Duration ttl;
+
+    @Value("${idempotency.wait-timeout:10s}")
+    private Duration waitTimeout;
+
+    // How long an IN_PROGRESS row holds the key; must exceed wait-timeout and the slowest handler
+    @Value("${idempotency.lease:30s}")
+    private Duration lease;
+
+    @Value("${idempotency.cache-size:10000}")
+    private int cacheSize;
+
+    private TransactionTemplate transactionTemplate;
+
+    // Requests currently running on this node, by username and key
+    private final Map<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    // Recently completed responses, so most replays never reach the database; guarded by itself
+    private final Map<String, StoredResponse> completed = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+            return size() > cacheSize;
+        }
+    };
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public <T> ResponseEntity<T> execute(
+            String idempotencyKey, String operation, Class<T> responseType, IdempotentAction<T> action
+    ) throws IOException {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.execute();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(HEADER + " must not be longer than " + MAX_KEY_LENGTH + " characters.");
+        }
+
+        String username = securityUtils.getCurrentUsername();
+        String scope = username + ":" + idempotencyKey;
+
+        StoredResponse cached = getCached(scope);
+        if (cached != null) {
+            return replay(cached, operation, responseType);
+        }
+
+        CompletableFuture<StoredResponse> ours = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(scope, ours);
+        if (running != null) {
+            return replay(awaitLocal(running), operation, responseType);
+        }
+
+        try {
+            Claim claim = claim(username, idempotencyKey, operation);
+            if (claim.existing() != null) {
+                ours.complete(claim.existing());
+                return replay(claim.existing(), operation, responseType);
+            }
+
+            ResponseEntity<T> response;
+            StoredResponse stored;
+            try {
+                Completed<T> completion = transactionTemplate.execute(status -> {
+                    ResponseEntity<T> result;
+                    try {
+                        result = action.execute();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    return new Completed<>(result, store(claim.recordId(), operation, result));
+                });
+                response = completion.response();
+                stored = completion.stored();
+            } catch (RuntimeException e) {
+                // Nothing was committed; release the key so that the client can retry
+                recordRepository.deleteById(claim.recordId());
+                Exception cause = (e instanceof UncheckedIOException unchecked) ? unchecked.getCause() : e;
+                ours.completeExceptionally(cause);
+                if (cause instanceof IOException ioException) {
+                    throw ioException;
+                }
+                throw e;
+            }
+
+            cache(scope, stored);
+            ours.complete(stored);
+            return response;
+        } finally {
+            inFlight.remove(scope, ours);
+        }
+    }
+
+    @Override
+    public int purgeExpired() {
+        synchronized (completed) {
+            completed.values().removeIf(StoredResponse::isExpired);
+        }
+        return recordRepository.deleteExpired(Instant.now());
+    }
+
+    /**
+     * Inserts the IN_PROGRESS row for a new key, or takes over one whose lease has expired. Returns
+     * the stored response instead if another request already completed with this key, waiting for
+     * it when it is still running elsewhere.
+     */
+    private Claim claim(String username, String idempotencyKey, String operation) {
+        Instant deadline = Instant.now().plus(waitTimeout);
+        while (true) {
+            Optional<IdempotencyRecord> existing = recordRepository.findByUsernameAndIdempotencyKey(username, idempotencyKey);
+            if (existing.isPresent() && existing.get().getExpiresAt().isBefore(Instant.now())) {
+                // Only deletes the row we read: a request that completed it meanwhile has moved its expiry
+                recordRepository.deleteIfExpired(existing.get().getId(), Instant.now());
+                continue;
+            }
+
+            if (existing.isEmpty()) {
+                try {
+                    IdempotencyRecord claimed = recordRepository.saveAndFlush(IdempotencyRecord.builder()
+                            .username(username)
+                            .idempotencyKey(idempotencyKey)
+                            .operation(operation)
+                            .status(IdempotencyStatus.IN_PROGRESS)
+                            .expiresAt(Instant.now().plus(lease))
+                            .build());
+                    return new Claim(claimed.getId(), null);
+                } catch (DataIntegrityViolationException e) {
+                    // Another node claimed the key between our read and insert; wait for its result
+                    continue;
+                }
+            }
+
+            IdempotencyRecord record = existing.get();
+            if (record.getStatus() == IdempotencyStatus.COMPLETED) {
+                StoredResponse stored = StoredResponse.of(record);
+                cache(username + ":" + idempotencyKey, stored);
+                return new Claim(null, stored);
+            }
+            if (!record.getOperation().equals(operation)) {
+                throw new IllegalArgumentException(HEADER + " was already used for a different request.");
+            }
+            if (Instant.now().isAfter(deadline)) {
+                throw new IllegalStateException("A request with this " + HEADER + " is still being processed.");
+            }
+            sleep();
+        }
+    }
+
+    /**
+     * Marks the claimed row COMPLETED in the handler's transaction. Fails, rolling the handler back,
+     * when the lease ran out and another request has taken the key over.
+     */
+    private StoredResponse store(UUID recordId, String operation, ResponseEntity<?> response) {
+        String body;
+        try {
+            body = (response.getBody() != null) ? objectMapper.writeValueAsString(response.getBody()) : null;
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        int status = response.getStatusCode().value();
+        Instant expiresAt = Instant.now().plus(ttl);
+        if (recordRepository.complete(recordId, status, body, expiresAt) == 0) {
+            throw new IllegalStateException("The request took too long and was taken over by a retry with the same "
+                    + HEADER + ".");
+        }
+        return new StoredResponse(operation, status, body, expiresAt);
+    }
+
+    private <T> ResponseEntity<T> replay(StoredResponse stored, String operation, Class<T> responseType) throws IOException {
+        if (!stored.operation().equals(operation)) {
+            throw new IllegalArgumentException(HEADER + " was already used for a different request.");
+        }
+        T body = (stored.body() != null) ? objectMapper.readValue(stored.body(), responseType) : null;
+        return ResponseEntity.status(stored.status())
+                .header("Idempotent-Replayed", "true")
+                .body(body);
+    }
+
+    private StoredResponse awaitLocal(CompletableFuture<StoredResponse> running) throws IOException {
+        try {
+            return running.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("A request with this " + HEADER + " is still being processed.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a request with the same " + HEADER + ".");
+        } catch (ExecutionException e) {
+            // The first request failed; its duplicates fail the same way
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private StoredResponse getCached(String scope) {
+        synchronized (completed) {
+            StoredResponse stored = completed.get(scope);
+            if (stored != null && stored.isExpired()) {
+                completed.remove(scope);
+                return null;
+            }
+            return stored;
+        }
+    }
+
+    private void cache(String scope, StoredResponse stored) {
+        synchronized (completed) {
+            completed.put(scope, stored);
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(POLL_INTERVAL_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a request with the same " + HEADER + ".");
+        }
+    }
+
+    // Either the id of the row we claimed or the response of a request that completed before
+    private record Claim(UUID recordId, StoredResponse existing) {
+    }
+
+    private record Completed<T>(ResponseEntity<T> response, StoredResponse stored) {
+    }
+
+    private record StoredResponse(String operation, int status, String body, Instant expiresAt) {
+        static StoredResponse of(IdempotencyRecord record) {
+            return new StoredResponse(record.getOperation(), record.getResponseStatus(),
+                    record.getResponseBody(), record.getExpiresAt());
+        }
+
+        boolean isExpired() {
+            return expiresAt.isBefore(Instant.now());
+        }
+    }
+}
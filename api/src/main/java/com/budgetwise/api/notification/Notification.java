@@ -1,5 +1,7 @@
 package com.budgetwise.api.notification;
 
+import com.budgetwise.api.dataversion.UserDataVersionListener;
+import com.budgetwise.api.dataversion.UserOwned;
 import com.budgetwise.api.user.User;
 
 import jakarta.persistence.*;
@@ -11,13 +13,16 @@ import java.time.Instant;
 import java.util.UUID;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_user_created", columnList = "user_id, created_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @Builder
 @AllArgsConstructor
-public class Notification {
+@EntityListeners(UserDataVersionListener.class)
+public class Notification implements UserOwned {
     @Id
     @GeneratedValue
     @UuidGenerator(style = UuidGenerator.Style.TIME)
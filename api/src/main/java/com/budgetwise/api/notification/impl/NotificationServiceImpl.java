@@ -1,5 +1,6 @@
 package com.budgetwise.api.notification.impl;
 
+import com.budgetwise.api.dataversion.UserDataVersionService;
 import com.budgetwise.api.exception.ResourceNotFoundException;
 import com.budgetwise.api.notification.Notification;
 import com.budgetwise.api.notification.NotificationRepository;
@@ -23,6 +24,7 @@ public class NotificationServiceImpl implements NotificationService {
     private final NotificationRepository notificationRepository;
     private final NotificationMapper notificationMapper;
     private final SecurityUtils securityUtils;
+    private final UserDataVersionService userDataVersionService;
 
     @Override
     public List<NotificationResponse> getMyNotifications() {
@@ -50,6 +52,8 @@ public class NotificationServiceImpl implements NotificationService {
     public void markAllAsRead() {
         User currentUser = securityUtils.getCurrentUser();
         notificationRepository.markAllAsReadForUser(currentUser);
+        // Bulk updates bypass the entity listeners
+        userDataVersionService.markChanged(currentUser.getId());
     }
 
 }
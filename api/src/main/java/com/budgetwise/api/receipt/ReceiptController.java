@@ -1,5 +1,6 @@
 package com.budgetwise.api.receipt;
 
+import com.budgetwise.api.idempotency.IdempotencyService;
 import com.budgetwise.api.receipt.dto.ReceiptResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -18,14 +19,19 @@ import java.util.UUID;
 public class ReceiptController {
 
     private final ReceiptService receiptService;
+    private final IdempotencyService idempotencyService;
 
     // The endpoint to upload and attach a receipt to a specific transaction
     @PostMapping("/transactions/{transactionId}/receipts")
     public ResponseEntity<ReceiptResponse> uploadReceipt(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @PathVariable UUID transactionId,
             @RequestParam("file") MultipartFile file
     ) throws IOException {
-        return new ResponseEntity<>(receiptService.attachReceiptToTransaction(transactionId, file), HttpStatus.CREATED);
+        // A replayed upload returns the first receipt instead of storing the file in S3 again
+        return idempotencyService.execute(idempotencyKey, "POST /transactions/" + transactionId + "/receipts",
+                ReceiptResponse.class,
+                () -> new ResponseEntity<>(receiptService.attachReceiptToTransaction(transactionId, file), HttpStatus.CREATED));
     }
 
     // Get all receipts for a specific transaction
@@ -2,6 +2,9 @@ package com.budgetwise.api.recurringtransaction;
 
 
 import com.budgetwise.api.category.Category;
+import com.budgetwise.api.dashboard.DashboardCacheListener;
+import com.budgetwise.api.dataversion.UserDataVersionListener;
+import com.budgetwise.api.dataversion.UserOwned;
 import com.budgetwise.api.recurringtransaction.enums.ScheduleType;
 import com.budgetwise.api.transaction.Transaction;
 import com.budgetwise.api.user.User;
@@ -22,13 +25,17 @@ import static org.hibernate.annotations.UuidGenerator.Style.TIME;
 @Entity
 @Table(name = "recurring_transactions", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"user_id", "name"})
+}, indexes = {
+        @Index(name = "idx_recurring_transactions_active_next", columnList = "is_active, next_execution_date")
 })
 @Getter
 @Setter
 @NoArgsConstructor
 @Builder
 @AllArgsConstructor
-public class RecurringTransaction {
+// Upcoming occurrences are part of the budget forecasts on /budgets and /dashboard/stats
+@EntityListeners({UserDataVersionListener.class, DashboardCacheListener.class})
+public class RecurringTransaction implements UserOwned {
 
     @Id
     @GeneratedValue
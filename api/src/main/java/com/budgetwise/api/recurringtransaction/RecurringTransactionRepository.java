@@ -1,18 +1,32 @@
 package com.budgetwise.api.recurringtransaction;
 
 import com.budgetwise.api.user.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface RecurringTransactionRepository extends JpaRepository<RecurringTransaction, UUID> {
-    // Finds all rules for a user, ordered by what's coming next
+    // Finds all rules for a user, ordered by what's coming next, with their categories in the same query
+    @EntityGraph(attributePaths = "category")
     List<RecurringTransaction> findByUserOrderByNextExecutionDateAsc(User user);
 
+    @EntityGraph(attributePaths = "category")
+    Optional<RecurringTransaction> findWithCategoryById(UUID id);
+
     @Query("SELECT rt FROM RecurringTransaction rt WHERE rt.isActive = true AND rt.nextExecutionDate <= :date")
     List<RecurringTransaction> findDueRecurringTransactions(@Param("date") LocalDate date);
-}
\ No newline at end of file
+
+    // Active rules of a user with an occurrence still to be generated before the given date
+    @Query("SELECT rt FROM RecurringTransaction rt WHERE rt.user.id = :userId AND rt.isActive = true " +
+            "AND rt.nextExecutionDate < :before")
+    List<RecurringTransaction> findActiveByUserIdDueBefore(
+            @Param("userId") UUID userId,
+            @Param("before") LocalDate before
+    );
+}
@@ -1,10 +1,12 @@
 package com.budgetwise.api.recurringtransaction.dto;
 
+import com.budgetwise.api.transaction.Transaction;
 import com.budgetwise.api.validation.ValidScheduleType;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.FutureOrPresent;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.Builder;
 import lombok.Data;
 
@@ -22,6 +24,7 @@ public class RecurringTransactionRequest {
     @DecimalMin(value = "0.01", message = "Amount must be positive")
     private BigDecimal amount;
 
+    @Size(max = Transaction.DESCRIPTION_MAX_LENGTH, message = "Description must be at most 255 characters")
     private String description;
 
     @NotNull(message = "Start date is required")
@@ -104,7 +104,7 @@ public class RecurringTransactionServiceImpl implements RecurringTransactionServ
 
     private RecurringTransaction findRuleAndVerifyOwnership(UUID ruleId) {
         User currentUser = securityUtils.getCurrentUser();
-        RecurringTransaction recurring = recurringRepository.findById(ruleId)
+        RecurringTransaction recurring = recurringRepository.findWithCategoryById(ruleId)
                 .orElseThrow(() -> new ResourceNotFoundException("Recurring transaction not found with id: " + ruleId));
         if (!recurring.getUser().getId().equals(currentUser.getId())) {
             throw new AccessDeniedException("You do not have permission to access this resource");
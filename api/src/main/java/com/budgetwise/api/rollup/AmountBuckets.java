@@ -0,0 +1,47 @@
+package com.budgetwise.api.rollup;
+
+/**
+ * The bucket layout of monthly_amount_histograms, a fixed log-scale histogram in the style of
+ * DDSketch. Bucket i holds amounts of (GAMMA^(i-1), GAMMA^i] minor units with
+ * GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY), so the estimate of a bucket is within
+ * RELATIVE_ACCURACY of every amount in it, and a quantile read from merged buckets is within
+ * RELATIVE_ACCURACY of the true amount at that rank. Histograms merge by adding counts, and
+ * removing an amount is an exact decrement, so months combine at query time and deletes need no
+ * rebuild. Amounts from 0.0001 to 10^15 need at most about 2,200 buckets per (user, month, category).
+ * <p>
+ * The bucket index is computed by the database only, with {@link #BUCKET_INDEX_SQL}, so rows
+ * written incrementally and rows backfilled by SQL always agree on the bucket of an amount.
+ */
+public final class AmountBuckets {
+
+    public static final double RELATIVE_ACCURACY = 0.01;
+
+    // Amounts of zero or less
+    public static final int NON_POSITIVE_BUCKET = -1;
+
+    /**
+     * Bucket of an amount given as minor units in parameters 1 and 2. The constant is
+     * LN(1.01 / 0.99) as a DOUBLE literal; V11__add_monthly_amount_histograms.sql uses the same.
+     */
+    static final String BUCKET_INDEX_SQL = "CASE WHEN ? <= 0 THEN -1 ELSE CEIL(LN(?) / 2.0000666706669435E-2) END";
+
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+
+    private AmountBuckets() {
+    }
+
+    // Smallest amount above the bucket, in minor units
+    public static long lowerBound(int bucket) {
+        return bucket == NON_POSITIVE_BUCKET ? 0 : Math.round(Math.pow(GAMMA, bucket - 1));
+    }
+
+    // Largest amount in the bucket, in minor units; Math.round saturates for the topmost buckets
+    public static long upperBound(int bucket) {
+        return bucket == NON_POSITIVE_BUCKET ? 0 : Math.round(Math.pow(GAMMA, bucket));
+    }
+
+    // The value with the same relative distance to both bounds, in minor units
+    public static long estimate(int bucket) {
+        return bucket == NON_POSITIVE_BUCKET ? 0 : Math.round(2 * Math.pow(GAMMA, bucket) / (GAMMA + 1));
+    }
+}
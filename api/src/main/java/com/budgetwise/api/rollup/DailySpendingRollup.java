@@ -0,0 +1,37 @@
+package com.budgetwise.api.rollup;
+
+import com.budgetwise.api.category.Category;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+
+// Totals of one user's transactions in one category on one day, see V8__add_daily_spending_rollups.sql.
+// Rows are written only with SQL by DailySpendingRollupListener and DailySpendingRollupService.
+@Entity
+@Immutable
+@Table(name = "daily_spending_rollups", indexes = {
+        @Index(name = "idx_daily_spending_rollups_user_category_date", columnList = "user_id, category_id, spending_date")
+})
+@Getter
+@NoArgsConstructor
+public class DailySpendingRollup {
+
+    @EmbeddedId
+    private DailySpendingRollupId id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "category_id", insertable = false, updatable = false)
+    private Category category;
+
+    @Column(name = "total_amount", nullable = false, precision = 19, scale = 4)
+    private BigDecimal totalAmount;
+
+    @Column(name = "transaction_count", nullable = false)
+    private int transactionCount;
+
+    @Column(name = "max_amount", nullable = false, precision = 19, scale = 4)
+    private BigDecimal maxAmount;
+}
@@ -0,0 +1,49 @@
+package com.budgetwise.api.rollup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Startup commands for the daily rollups:
+ * <ul>
+ *     <li>{@code --rebuild-rollups} rebuilds every user, {@code --rebuild-rollups=<id>,<id>} only the given users</li>
+ *     <li>{@code --verify-rollups} compares every user's rollups with their transactions and logs the differences;
+ *     {@code --verify-rollups=repair} also rebuilds the users that differ</li>
+ * </ul>
+ * The application keeps serving requests afterwards.
+ */
+@Component
+@RequiredArgsConstructor
+public class DailySpendingRollupCommandRunner implements ApplicationRunner {
+
+    private static final String REBUILD_OPTION = "rebuild-rollups";
+    private static final String VERIFY_OPTION = "verify-rollups";
+
+    private final DailySpendingRollupService rollupService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption(REBUILD_OPTION)) {
+            List<UUID> userIds = args.getOptionValues(REBUILD_OPTION).stream()
+                    .flatMap(value -> Arrays.stream(value.split(",")))
+                    .map(String::trim)
+                    .filter(value -> !value.isEmpty())
+                    .map(UUID::fromString)
+                    .toList();
+            if (userIds.isEmpty()) {
+                rollupService.rebuildAll();
+            } else {
+                rollupService.rebuild(userIds);
+            }
+        }
+        if (args.containsOption(VERIFY_OPTION)) {
+            rollupService.verifyAll(args.getOptionValues(VERIFY_OPTION).contains("repair"));
+        }
+    }
+}
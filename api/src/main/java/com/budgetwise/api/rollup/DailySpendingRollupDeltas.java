@@ -0,0 +1,243 @@
+package com.budgetwise.api.rollup;
+
+import com.budgetwise.api.global.money.Money;
+import com.budgetwise.api.transaction.event.TransactionsChangedEvent;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * The rollup changes made by one database transaction, merged per (user, day, category) cell and
+ * written just before that transaction commits, after Hibernate's final flush. A thousand-row
+ * import spread over thirty days therefore costs about thirty upserts, not a thousand.
+ * <p>
+ * Cells are written in primary key order so that concurrent transactions lock them in the same
+ * order. Sums and counts are applied as increments, which commute between concurrent writers.
+ * A maximum cannot be decremented, so a cell that lost a row at or above its maximum recomputes
+ * it from that day's transactions, a short range on idx_transactions_user_category_date.
+ * <p>
+ * The monthly amount histograms are written in the same way: the count of every distinct
+ * (user, month, category, amount) is applied as one increment, and the database puts the amount
+ * in its bucket with {@link AmountBuckets#BUCKET_INDEX_SQL}. Buckets grow with the amount, so
+ * amount order is primary key order there as well.
+ */
+class DailySpendingRollupDeltas implements BeforeTransactionCompletionProcess {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO daily_spending_rollups " +
+            "(user_id, spending_date, category_id, total_amount, transaction_count, max_amount) " +
+            "VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "total_amount = total_amount + VALUES(total_amount), " +
+            "transaction_count = transaction_count + VALUES(transaction_count), " +
+            "max_amount = GREATEST(max_amount, VALUES(max_amount))";
+
+    private static final String RECOMPUTE_MAX_SQL =
+            "UPDATE daily_spending_rollups r SET r.max_amount = COALESCE((" +
+            "SELECT MAX(t.amount) FROM transactions t " +
+            "WHERE t.user_id = r.user_id AND t.category_id = r.category_id " +
+            "AND t.transaction_date >= r.spending_date " +
+            "AND t.transaction_date < r.spending_date + INTERVAL 1 DAY), 0) " +
+            "WHERE r.user_id = ? AND r.spending_date = ? AND r.category_id = ? AND r.max_amount <= ?";
+
+    private static final String DELETE_EMPTY_SQL =
+            "DELETE FROM daily_spending_rollups " +
+            "WHERE user_id = ? AND spending_date = ? AND category_id = ? AND transaction_count <= 0";
+
+    private static final String HISTOGRAM_UPSERT_SQL =
+            "INSERT INTO monthly_amount_histograms " +
+            "(user_id, histogram_month, category_id, bucket_index, transaction_count) " +
+            "VALUES (?, ?, ?, " + AmountBuckets.BUCKET_INDEX_SQL + ", ?) " +
+            "ON DUPLICATE KEY UPDATE transaction_count = transaction_count + VALUES(transaction_count)";
+
+    private static final String HISTOGRAM_DELETE_EMPTY_SQL =
+            "DELETE FROM monthly_amount_histograms " +
+            "WHERE user_id = ? AND histogram_month = ? AND category_id = ? " +
+            "AND bucket_index = " + AmountBuckets.BUCKET_INDEX_SQL + " AND transaction_count <= 0";
+
+    private static final Comparator<HistogramKey> HISTOGRAM_KEY_ORDER = Comparator
+            .comparing(HistogramKey::userId)
+            .thenComparing(HistogramKey::month)
+            .thenComparing(HistogramKey::categoryId)
+            .thenComparingLong(HistogramKey::minorUnits);
+
+    private static final Comparator<DailySpendingRollupId> PRIMARY_KEY_ORDER = Comparator
+            .comparing(DailySpendingRollupId::getUserId)
+            .thenComparing(DailySpendingRollupId::getSpendingDate)
+            .thenComparing(DailySpendingRollupId::getCategoryId);
+
+    private final Map<DailySpendingRollupId, CellDelta> cells = new TreeMap<>(PRIMARY_KEY_ORDER);
+
+    // Net change in the number of transactions per (user, month, category, amount)
+    private final Map<HistogramKey, Integer> histogramCounts = new TreeMap<>(HISTOGRAM_KEY_ORDER);
+
+    // The individual changes, published per user once the transaction has committed
+    private final Map<UUID, List<TransactionsChangedEvent.Change>> changes = new LinkedHashMap<>();
+
+    void added(UUID userId, UUID categoryId, LocalDate date, BigDecimal amount, boolean recurring) {
+        record(userId, new TransactionsChangedEvent.Change(categoryId, date, amount, true, recurring));
+        long minorUnits = Money.toMinorUnits(amount);
+        CellDelta cell = cell(userId, categoryId, date);
+        cell.total += minorUnits;
+        cell.count++;
+        cell.maxAdded = Math.max(cell.maxAdded, minorUnits);
+        histogramCounts.merge(new HistogramKey(userId, date.withDayOfMonth(1), categoryId, minorUnits), 1, Integer::sum);
+    }
+
+    void removed(UUID userId, UUID categoryId, LocalDate date, BigDecimal amount, boolean recurring) {
+        record(userId, new TransactionsChangedEvent.Change(categoryId, date, amount, false, recurring));
+        long minorUnits = Money.toMinorUnits(amount);
+        CellDelta cell = cell(userId, categoryId, date);
+        cell.total -= minorUnits;
+        cell.count--;
+        cell.maxRemoved = Math.max(cell.maxRemoved, minorUnits);
+        histogramCounts.merge(new HistogramKey(userId, date.withDayOfMonth(1), categoryId, minorUnits), -1, Integer::sum);
+    }
+
+    boolean hasChanges(UUID userId) {
+        return changes.containsKey(userId);
+    }
+
+    Set<UUID> userIds() {
+        return changes.keySet();
+    }
+
+    List<TransactionsChangedEvent> toEvents() {
+        return changes.entrySet().stream()
+                .map(entry -> new TransactionsChangedEvent(entry.getKey(), List.copyOf(entry.getValue())))
+                .toList();
+    }
+
+    @Override
+    public void doBeforeTransactionCompletion(SessionImplementor session) {
+        if (!cells.isEmpty()) {
+            session.doWork(this::apply);
+        }
+    }
+
+    private void apply(Connection connection) throws SQLException {
+        applyCells(connection);
+        applyHistograms(connection);
+    }
+
+    private void applyCells(Connection connection) throws SQLException {
+        boolean anyRemoved = false;
+        try (PreparedStatement upsert = connection.prepareStatement(UPSERT_SQL)) {
+            for (Map.Entry<DailySpendingRollupId, CellDelta> entry : cells.entrySet()) {
+                CellDelta delta = entry.getValue();
+                setKey(upsert, entry.getKey());
+                upsert.setBigDecimal(4, toDecimal(delta.total));
+                upsert.setInt(5, delta.count);
+                upsert.setBigDecimal(6, toDecimal(Math.max(delta.maxAdded, 0)));
+                upsert.addBatch();
+                anyRemoved |= delta.maxRemoved >= 0;
+            }
+            upsert.executeBatch();
+        }
+        if (!anyRemoved) {
+            return;
+        }
+
+        try (PreparedStatement recomputeMax = connection.prepareStatement(RECOMPUTE_MAX_SQL);
+             PreparedStatement deleteEmpty = connection.prepareStatement(DELETE_EMPTY_SQL)) {
+            for (Map.Entry<DailySpendingRollupId, CellDelta> entry : cells.entrySet()) {
+                CellDelta delta = entry.getValue();
+                if (delta.maxRemoved < 0) {
+                    continue;
+                }
+                setKey(recomputeMax, entry.getKey());
+                recomputeMax.setBigDecimal(4, toDecimal(delta.maxRemoved));
+                recomputeMax.addBatch();
+                setKey(deleteEmpty, entry.getKey());
+                deleteEmpty.addBatch();
+            }
+            recomputeMax.executeBatch();
+            deleteEmpty.executeBatch();
+        }
+    }
+
+    private void applyHistograms(Connection connection) throws SQLException {
+        boolean anyRemoved = false;
+        try (PreparedStatement upsert = connection.prepareStatement(HISTOGRAM_UPSERT_SQL)) {
+            boolean anyChanged = false;
+            for (Map.Entry<HistogramKey, Integer> entry : histogramCounts.entrySet()) {
+                int count = entry.getValue();
+                // An update that kept the amount, month and category nets to zero
+                if (count == 0) {
+                    continue;
+                }
+                setKey(upsert, entry.getKey());
+                upsert.setInt(6, count);
+                upsert.addBatch();
+                anyChanged = true;
+                anyRemoved |= count < 0;
+            }
+            if (anyChanged) {
+                upsert.executeBatch();
+            }
+        }
+        if (!anyRemoved) {
+            return;
+        }
+
+        try (PreparedStatement deleteEmpty = connection.prepareStatement(HISTOGRAM_DELETE_EMPTY_SQL)) {
+            for (Map.Entry<HistogramKey, Integer> entry : histogramCounts.entrySet()) {
+                if (entry.getValue() < 0) {
+                    setKey(deleteEmpty, entry.getKey());
+                    deleteEmpty.addBatch();
+                }
+            }
+            deleteEmpty.executeBatch();
+        }
+    }
+
+    private void record(UUID userId, TransactionsChangedEvent.Change change) {
+        changes.computeIfAbsent(userId, id -> new ArrayList<>()).add(change);
+    }
+
+    private CellDelta cell(UUID userId, UUID categoryId, LocalDate date) {
+        return cells.computeIfAbsent(new DailySpendingRollupId(userId, categoryId, date), id -> new CellDelta());
+    }
+
+    private static void setKey(PreparedStatement statement, DailySpendingRollupId id) throws SQLException {
+        statement.setString(1, id.getUserId().toString());
+        statement.setDate(2, Date.valueOf(id.getSpendingDate()));
+        statement.setString(3, id.getCategoryId().toString());
+    }
+
+    private static void setKey(PreparedStatement statement, HistogramKey key) throws SQLException {
+        statement.setString(1, key.userId().toString());
+        statement.setDate(2, Date.valueOf(key.month()));
+        statement.setString(3, key.categoryId().toString());
+        statement.setLong(4, key.minorUnits());
+        statement.setLong(5, key.minorUnits());
+    }
+
+    private static BigDecimal toDecimal(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, Money.SCALE);
+    }
+
+    private record HistogramKey(UUID userId, LocalDate month, UUID categoryId, long minorUnits) {
+    }
+
+    private static final class CellDelta {
+        private long total;
+        private int count;
+        private long maxAdded = -1;
+        private long maxRemoved = -1;
+    }
+}
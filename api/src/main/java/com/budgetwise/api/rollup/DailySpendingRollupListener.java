@@ -0,0 +1,184 @@
+package com.budgetwise.api.rollup;
+
+import com.budgetwise.api.category.Category;
+import com.budgetwise.api.transaction.Transaction;
+import com.budgetwise.api.transaction.event.TransactionWriteTracker;
+import com.budgetwise.api.transaction.event.TransactionsChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Keeps daily_spending_rollups and monthly_amount_histograms in step with transactions. Every
+ * insert, update and delete of a Transaction that Hibernate flushes, whichever service or batch
+ * path issued it, is recorded here and written to the rollups inside the same database
+ * transaction, so the tables commit or roll back together. A Hibernate event listener is used rather than a JPA entity listener
+ * because updates need the row's previous amount, date and category. The same changes are
+ * published as a {@link TransactionsChangedEvent} per user once the transaction has committed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailySpendingRollupListener
+        implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    // Transaction-bound deltas of the current transaction
+    private static final Object PENDING_DELTAS = new Object();
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionWriteTracker writeTracker;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Transaction transaction) {
+            deltas(event.getSession(), transaction.getUser().getId()).added(
+                    transaction.getUser().getId(),
+                    transaction.getCategory().getId(),
+                    transaction.getTransactionDate().toLocalDate(),
+                    transaction.getAmount(),
+                    transaction.getRecurringTransaction() != null);
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof Transaction transaction)) {
+            return;
+        }
+        Object[] oldState = event.getOldState();
+        if (oldState == null) {
+            // Only happens for entities updated without being loaded first, which this codebase does not do
+            log.warn("Daily rollup not updated for transaction {}: previous state unknown, run --verify-rollups",
+                    transaction.getId());
+            return;
+        }
+
+        EntityPersister persister = event.getPersister();
+        BigDecimal oldAmount = (BigDecimal) oldState[propertyIndex(persister, "amount")];
+        LocalDateTime oldDate = (LocalDateTime) oldState[propertyIndex(persister, "transactionDate")];
+        Category oldCategory = (Category) oldState[propertyIndex(persister, "category")];
+        boolean oldRecurring = oldState[propertyIndex(persister, "recurringTransaction")] != null;
+
+        // Recorded even when amount, day and category are unchanged: the cell then nets to zero, but
+        // listeners of TransactionsChangedEvent still learn that the row, e.g. its description, changed
+        DailySpendingRollupDeltas deltas = deltas(event.getSession(), transaction.getUser().getId());
+        deltas.removed(transaction.getUser().getId(), oldCategory.getId(), oldDate.toLocalDate(), oldAmount, oldRecurring);
+        deltas.added(
+                transaction.getUser().getId(),
+                transaction.getCategory().getId(),
+                transaction.getTransactionDate().toLocalDate(),
+                transaction.getAmount(),
+                transaction.getRecurringTransaction() != null);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Transaction transaction) {
+            deltas(event.getSession(), transaction.getUser().getId()).removed(
+                    transaction.getUser().getId(),
+                    transaction.getCategory().getId(),
+                    transaction.getTransactionDate().toLocalDate(),
+                    transaction.getAmount(),
+                    transaction.getRecurringTransaction() != null);
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private static int propertyIndex(EntityPersister persister, String property) {
+        return persister.getEntityMetamodel().getPropertyIndex(property);
+    }
+
+    /**
+     * Returns the deltas of the current transaction, registering them on first use to be written
+     * before it commits and published as {@link TransactionsChangedEvent}s after it has committed.
+     * The user's write is reported to the {@link TransactionWriteTracker} from the first change
+     * until the transaction has completed. Writes outside a Spring-managed transaction still update
+     * the rollups but publish no event.
+     */
+    private DailySpendingRollupDeltas deltas(EventSource session, UUID userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            DailySpendingRollupDeltas deltas = new DailySpendingRollupDeltas();
+            session.getActionQueue().registerProcess(deltas);
+            return deltas;
+        }
+
+        DailySpendingRollupDeltas pending =
+                (DailySpendingRollupDeltas) TransactionSynchronizationManager.getResource(PENDING_DELTAS);
+        if (pending == null) {
+            DailySpendingRollupDeltas deltas = new DailySpendingRollupDeltas();
+            session.getActionQueue().registerProcess(deltas);
+            TransactionSynchronizationManager.bindResource(PENDING_DELTAS, deltas);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                // A nested REQUIRES_NEW transaction gets its own deltas and its own session
+                @Override
+                public void suspend() {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_DELTAS);
+                }
+
+                @Override
+                public void resume() {
+                    TransactionSynchronizationManager.bindResource(PENDING_DELTAS, deltas);
+                }
+
+                @Override
+                public void afterCommit() {
+                    // The data is committed; a failing listener must not turn that into an error response
+                    for (TransactionsChangedEvent changed : deltas.toEvents()) {
+                        try {
+                            eventPublisher.publishEvent(changed);
+                        } catch (RuntimeException e) {
+                            log.error("Transaction change listener failed for user {}", changed.userId(), e);
+                        }
+                    }
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_DELTAS);
+                    // Runs after every afterCommit, so the event listeners above have finished
+                    deltas.userIds().forEach(writeTracker::writeFinished);
+                }
+            });
+            pending = deltas;
+        }
+        if (!pending.hasChanges(userId)) {
+            writeTracker.writeStarted(userId);
+        }
+        return pending;
+    }
+}
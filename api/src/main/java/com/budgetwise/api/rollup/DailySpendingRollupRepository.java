@@ -0,0 +1,131 @@
+package com.budgetwise.api.rollup;
+
+import com.budgetwise.api.category.enums.CategoryType;
+import com.budgetwise.api.dashboard.dto.CategorySpending;
+import com.budgetwise.api.dashboard.dto.CategoryWindowTotals;
+import com.budgetwise.api.dashboard.dto.DailySpending;
+import com.budgetwise.api.rollup.dto.DailySpendingRollupRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+// All date ranges are half-open: startDate inclusive, endDate exclusive
+public interface DailySpendingRollupRepository extends JpaRepository<DailySpendingRollup, DailySpendingRollupId> {
+
+    // --- DASHBOARD READS ---
+
+    @Query("SELECT COALESCE(SUM(r.totalAmount), 0) FROM DailySpendingRollup r " +
+            "WHERE r.id.userId = :userId AND r.category.categoryType = :type " +
+            "AND r.id.spendingDate >= :startDate AND r.id.spendingDate < :endDate")
+    BigDecimal sumAmountByCategoryType(
+            @Param("userId") UUID userId,
+            @Param("type") CategoryType type,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    @Query("SELECT new com.budgetwise.api.dashboard.dto.CategorySpending(r.category.name, SUM(r.totalAmount)) " +
+            "FROM DailySpendingRollup r WHERE r.id.userId = :userId " +
+            "AND r.category.categoryType = com.budgetwise.api.category.enums.CategoryType.EXPENSE " +
+            "AND r.id.spendingDate >= :startDate AND r.id.spendingDate < :endDate " +
+            "GROUP BY r.category.name ORDER BY SUM(r.totalAmount) DESC")
+    List<CategorySpending> findExpenseBreakdownByCategory(
+            @Param("userId") UUID userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    @Query("SELECT new com.budgetwise.api.dashboard.dto.DailySpending(r.id.spendingDate, SUM(r.totalAmount)) " +
+            "FROM DailySpendingRollup r WHERE r.id.userId = :userId " +
+            "AND r.category.categoryType = com.budgetwise.api.category.enums.CategoryType.EXPENSE " +
+            "AND r.id.spendingDate >= :startDate AND r.id.spendingDate < :endDate " +
+            "GROUP BY r.id.spendingDate ORDER BY r.id.spendingDate ASC")
+    List<DailySpending> findSpendingTrendByDay(
+            @Param("userId") UUID userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    // The expense day and category holding the largest single expense in the range
+    @Query("SELECT r FROM DailySpendingRollup r WHERE r.id.userId = :userId " +
+            "AND r.category.categoryType = com.budgetwise.api.category.enums.CategoryType.EXPENSE " +
+            "AND r.id.spendingDate >= :startDate AND r.id.spendingDate < :endDate " +
+            "ORDER BY r.maxAmount DESC LIMIT 1")
+    Optional<DailySpendingRollup> findTopExpenseDay(
+            @Param("userId") UUID userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    // Every cell of the range in primary key order with amounts in minor units, for the single-pass dashboard engine
+    @Query("SELECT new com.budgetwise.api.rollup.dto.DailySpendingRollupRow(" +
+            "r.id.spendingDate, c.id, c.name, c.categoryType, " +
+            "CAST(r.totalAmount * 10000 AS Long), CAST(r.maxAmount * 10000 AS Long)) " +
+            "FROM DailySpendingRollup r JOIN r.category c WHERE r.id.userId = :userId " +
+            "AND r.id.spendingDate >= :startDate AND r.id.spendingDate < :endDate " +
+            "ORDER BY r.id.spendingDate, r.id.categoryId")
+    List<DailySpendingRollupRow> findRowsByUserAndDateRange(
+            @Param("userId") UUID userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    /**
+     * Per-category totals of several windows at once, by conditional aggregation over one range
+     * scan of [scanStart, scanEnd). The previous period and the rolling windows all end where the
+     * current period starts.
+     */
+    @Query("SELECT new com.budgetwise.api.dashboard.dto.CategoryWindowTotals(r.id.categoryId, " +
+            "SUM(CASE WHEN r.id.spendingDate >= :currentStart AND r.id.spendingDate < :currentEnd THEN r.totalAmount END), " +
+            "SUM(CASE WHEN r.id.spendingDate >= :previousStart AND r.id.spendingDate < :currentStart THEN r.totalAmount END), " +
+            "SUM(CASE WHEN r.id.spendingDate >= :lastYearStart AND r.id.spendingDate < :lastYearEnd THEN r.totalAmount END), " +
+            "SUM(CASE WHEN r.id.spendingDate >= :last3MonthsStart AND r.id.spendingDate < :currentStart THEN r.totalAmount END), " +
+            "SUM(CASE WHEN r.id.spendingDate >= :last6MonthsStart AND r.id.spendingDate < :currentStart THEN r.totalAmount END), " +
+            "SUM(CASE WHEN r.id.spendingDate >= :last12MonthsStart AND r.id.spendingDate < :currentStart THEN r.totalAmount END)) " +
+            "FROM DailySpendingRollup r WHERE r.id.userId = :userId " +
+            "AND r.id.spendingDate >= :scanStart AND r.id.spendingDate < :scanEnd " +
+            "GROUP BY r.id.categoryId")
+    List<CategoryWindowTotals> sumByCategoryInWindows(
+            @Param("userId") UUID userId,
+            @Param("scanStart") LocalDate scanStart,
+            @Param("scanEnd") LocalDate scanEnd,
+            @Param("currentStart") LocalDate currentStart,
+            @Param("currentEnd") LocalDate currentEnd,
+            @Param("previousStart") LocalDate previousStart,
+            @Param("lastYearStart") LocalDate lastYearStart,
+            @Param("lastYearEnd") LocalDate lastYearEnd,
+            @Param("last3MonthsStart") LocalDate last3MonthsStart,
+            @Param("last6MonthsStart") LocalDate last6MonthsStart,
+            @Param("last12MonthsStart") LocalDate last12MonthsStart
+    );
+
+    // --- REBUILD AND VERIFICATION ---
+
+    @Query("SELECT r FROM DailySpendingRollup r WHERE r.id.userId = :userId")
+    List<DailySpendingRollup> findByUserId(@Param("userId") UUID userId);
+
+    // Rows: category_id, spending_date, total_amount, transaction_count, max_amount
+    @Query(value = "SELECT category_id, DATE(transaction_date), SUM(amount), COUNT(*), MAX(amount) " +
+            "FROM transactions WHERE user_id = :userId " +
+            "GROUP BY category_id, DATE(transaction_date)", nativeQuery = true)
+    List<Object[]> aggregateTransactionsByUserId(@Param("userId") String userId);
+
+    @Modifying
+    @Query(value = "DELETE FROM daily_spending_rollups WHERE user_id = :userId", nativeQuery = true)
+    int deleteByUserId(@Param("userId") String userId);
+
+    @Modifying
+    @Query(value = "INSERT INTO daily_spending_rollups " +
+            "(user_id, category_id, spending_date, total_amount, transaction_count, max_amount) " +
+            "SELECT user_id, category_id, DATE(transaction_date), SUM(amount), COUNT(*), MAX(amount) " +
+            "FROM transactions WHERE user_id = :userId " +
+            "GROUP BY user_id, category_id, DATE(transaction_date)", nativeQuery = true)
+    int insertFromTransactions(@Param("userId") String userId);
+}
@@ -0,0 +1,36 @@
+package com.budgetwise.api.rollup;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Backfill and consistency checking for daily_spending_rollups. Day-to-day maintenance happens in
+ * {@link DailySpendingRollupListener}; these operations are for repairs and are exposed as the
+ * --rebuild-rollups and --verify-rollups startup commands.
+ */
+public interface DailySpendingRollupService {
+
+    /**
+     * Recomputes the rollups and the monthly amount histograms of the given users from their
+     * transactions, several users at a time. Each user is rebuilt in its own transaction.
+     *
+     * @return the number of users rebuilt
+     */
+    int rebuild(Collection<UUID> userIds);
+
+    int rebuildAll();
+
+    /**
+     * Compares the rollups of one user with an aggregation of the user's transactions.
+     *
+     * @return the number of (day, category) cells that differ
+     */
+    int verify(UUID userId);
+
+    /**
+     * Verifies every user and, if {@code repair} is set, rebuilds the users whose rollups differ.
+     *
+     * @return the number of users whose rollups differ
+     */
+    int verifyAll(boolean repair);
+}
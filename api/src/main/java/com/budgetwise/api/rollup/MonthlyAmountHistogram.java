@@ -0,0 +1,25 @@
+package com.budgetwise.api.rollup;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+// One bucket of a user's amount histogram in one category and month, see AmountBuckets and
+// V11__add_monthly_amount_histograms.sql. Rows are written only with SQL, like the daily rollups.
+@Entity
+@Immutable
+@Table(name = "monthly_amount_histograms")
+@Getter
+@NoArgsConstructor
+public class MonthlyAmountHistogram {
+
+    @EmbeddedId
+    private MonthlyAmountHistogramId id;
+
+    @Column(name = "transaction_count", nullable = false)
+    private int transactionCount;
+}
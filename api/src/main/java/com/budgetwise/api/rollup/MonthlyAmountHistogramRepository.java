@@ -0,0 +1,52 @@
+package com.budgetwise.api.rollup;
+
+import com.budgetwise.api.rollup.dto.AmountBucketCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+// Months are first days of months; ranges are half-open: startMonth inclusive, endMonth exclusive
+public interface MonthlyAmountHistogramRepository extends JpaRepository<MonthlyAmountHistogram, MonthlyAmountHistogramId> {
+
+    /**
+     * Merges the monthly histograms of a period per category by adding their counts, ordered by
+     * category and bucket. A null categoryId reads every category. One range read on the primary
+     * key (user_id, histogram_month, ...).
+     */
+    @Query("SELECT new com.budgetwise.api.rollup.dto.AmountBucketCount(h.id.categoryId, h.id.bucketIndex, SUM(h.transactionCount)) " +
+            "FROM MonthlyAmountHistogram h WHERE h.id.userId = :userId " +
+            "AND h.id.histogramMonth >= :startMonth AND h.id.histogramMonth < :endMonth " +
+            "AND (:categoryId IS NULL OR h.id.categoryId = :categoryId) " +
+            "GROUP BY h.id.categoryId, h.id.bucketIndex " +
+            "HAVING SUM(h.transactionCount) > 0 " +
+            "ORDER BY h.id.categoryId, h.id.bucketIndex")
+    List<AmountBucketCount> sumBucketsByCategory(
+            @Param("userId") UUID userId,
+            @Param("categoryId") UUID categoryId,
+            @Param("startMonth") LocalDate startMonth,
+            @Param("endMonth") LocalDate endMonth
+    );
+
+    // --- REBUILD ---
+
+    @Modifying
+    @Query(value = "DELETE FROM monthly_amount_histograms WHERE user_id = :userId", nativeQuery = true)
+    int deleteByUserId(@Param("userId") String userId);
+
+    // Same bucket expression as AmountBuckets.BUCKET_INDEX_SQL, applied to amount * 10000
+    @Modifying
+    @Query(value = "INSERT INTO monthly_amount_histograms " +
+            "(user_id, histogram_month, category_id, bucket_index, transaction_count) " +
+            "SELECT user_id, histogram_month, category_id, bucket_index, COUNT(*) " +
+            "FROM (SELECT user_id, category_id, " +
+            "CAST(DATE_FORMAT(transaction_date, '%Y-%m-01') AS DATE) AS histogram_month, " +
+            "CASE WHEN amount <= 0 THEN -1 ELSE CEIL(LN(amount * 10000) / 2.0000666706669435E-2) END AS bucket_index " +
+            "FROM transactions WHERE user_id = :userId) t " +
+            "GROUP BY user_id, histogram_month, category_id, bucket_index", nativeQuery = true)
+    int insertFromTransactions(@Param("userId") String userId);
+}
@@ -0,0 +1,7 @@
+package com.budgetwise.api.rollup.dto;
+
+import java.util.UUID;
+
+// Transactions of one category in one amount bucket, summed over the months of a period
+public record AmountBucketCount(UUID categoryId, short bucketIndex, long transactionCount) {
+}
@@ -0,0 +1,17 @@
+package com.budgetwise.api.rollup.dto;
+
+import com.budgetwise.api.category.enums.CategoryType;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+// One rollup cell together with the category columns the dashboard needs, amounts in minor units
+public record DailySpendingRollupRow(
+        LocalDate spendingDate,
+        UUID categoryId,
+        String categoryName,
+        CategoryType categoryType,
+        long totalAmount,
+        long maxAmount
+) {
+}
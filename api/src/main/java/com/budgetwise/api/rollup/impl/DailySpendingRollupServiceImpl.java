@@ -0,0 +1,155 @@
+package com.budgetwise.api.rollup.impl;
+
+import com.budgetwise.api.rollup.DailySpendingRollup;
+import com.budgetwise.api.rollup.DailySpendingRollupId;
+import com.budgetwise.api.rollup.DailySpendingRollupRepository;
+import com.budgetwise.api.rollup.DailySpendingRollupService;
+import com.budgetwise.api.rollup.MonthlyAmountHistogramRepository;
+import com.budgetwise.api.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DailySpendingRollupServiceImpl implements DailySpendingRollupService {
+
+    private final DailySpendingRollupRepository rollupRepository;
+    private final MonthlyAmountHistogramRepository histogramRepository;
+    private final UserRepository userRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // Users rebuilt or verified concurrently, each holding one connection
+    @Value("${rollup.rebuild.parallelism:4}")
+    private int parallelism;
+
+    @Override
+    public int rebuild(Collection<UUID> userIds) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<Integer> rows = forEachUser(userIds, userId -> transactionTemplate.execute(status -> {
+            // Deleting and re-inserting in one transaction: readers see either the old or the new rows.
+            // INSERT ... SELECT locks the scanned transactions, so concurrent writes wait for the rebuild.
+            rollupRepository.deleteByUserId(userId.toString());
+            histogramRepository.deleteByUserId(userId.toString());
+            return rollupRepository.insertFromTransactions(userId.toString())
+                    + histogramRepository.insertFromTransactions(userId.toString());
+        }));
+        log.info("Rebuilt daily rollups and amount histograms of {} users ({} rows)", userIds.size(),
+                rows.stream().mapToInt(Integer::intValue).sum());
+        return userIds.size();
+    }
+
+    @Override
+    public int rebuildAll() {
+        return rebuild(userRepository.findAllIds());
+    }
+
+    @Override
+    public int verify(UUID userId) {
+        // One read-only transaction, so both sides are read from the same InnoDB snapshot
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate.execute(status -> compare(userId));
+    }
+
+    private int compare(UUID userId) {
+        Map<DailySpendingRollupId, Cell> expected = new HashMap<>();
+        for (Object[] row : rollupRepository.aggregateTransactionsByUserId(userId.toString())) {
+            DailySpendingRollupId id =
+                    new DailySpendingRollupId(userId, UUID.fromString(row[0].toString()), toLocalDate(row[1]));
+            expected.put(id, new Cell((BigDecimal) row[2], ((Number) row[3]).intValue(), (BigDecimal) row[4]));
+        }
+
+        int mismatches = 0;
+        for (DailySpendingRollup rollup : rollupRepository.findByUserId(userId)) {
+            Cell actual = new Cell(rollup.getTotalAmount(), rollup.getTransactionCount(), rollup.getMaxAmount());
+            Cell wanted = expected.remove(rollup.getId());
+            if (!actual.matches(wanted)) {
+                log.warn("Daily rollup {} is {} but transactions give {}", rollup.getId(), actual, wanted);
+                mismatches++;
+            }
+        }
+        for (Map.Entry<DailySpendingRollupId, Cell> missing : expected.entrySet()) {
+            log.warn("Daily rollup {} is missing, transactions give {}", missing.getKey(), missing.getValue());
+            mismatches++;
+        }
+        return mismatches;
+    }
+
+    @Override
+    public int verifyAll(boolean repair) {
+        List<UUID> userIds = userRepository.findAllIds();
+        List<Integer> mismatches = forEachUser(userIds, this::verify);
+
+        List<UUID> inconsistent = new ArrayList<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            if (mismatches.get(i) > 0) {
+                inconsistent.add(userIds.get(i));
+            }
+        }
+        log.info("Verified daily rollups of {} users, {} inconsistent", userIds.size(), inconsistent.size());
+
+        if (repair && !inconsistent.isEmpty()) {
+            rebuild(inconsistent);
+        }
+        return inconsistent.size();
+    }
+
+    private <T> List<T> forEachUser(Collection<UUID> userIds, Function<UUID, T> task) {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, userIds.size())));
+        try {
+            List<Future<T>> futures = new ArrayList<>(userIds.size());
+            for (UUID userId : userIds) {
+                futures.add(executor.submit(() -> task.apply(userId)));
+            }
+            List<T> results = new ArrayList<>(futures.size());
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while processing daily rollups", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to process daily rollups", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        return value instanceof java.sql.Date date ? date.toLocalDate() : (LocalDate) value;
+    }
+
+    private record Cell(BigDecimal total, int count, BigDecimal max) {
+        boolean matches(Cell other) {
+            return other != null
+                    && total.compareTo(other.total) == 0
+                    && count == other.count
+                    && max.compareTo(other.max) == 0;
+        }
+
+        @Override
+        public String toString() {
+            return "sum " + total.toPlainString() + ", count " + count + ", max " + max.toPlainString();
+        }
+    }
+}
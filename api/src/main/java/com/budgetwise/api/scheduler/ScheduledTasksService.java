@@ -3,9 +3,12 @@ package com.budgetwise.api.scheduler;
 import com.budgetwise.api.budget.Budget;
 import com.budgetwise.api.budget.BudgetRepository;
 import com.budgetwise.api.budget.impl.BudgetAlertServiceImpl;
+import com.budgetwise.api.idempotency.IdempotencyService;
 import com.budgetwise.api.recurringtransaction.RecurringTransaction;
 import com.budgetwise.api.recurringtransaction.RecurringTransactionRepository;
 import com.budgetwise.api.recurringtransaction.enums.ScheduleType;
+import com.budgetwise.api.sync.SyncService;
+import com.budgetwise.api.transaction.DescriptionAutocompleteService;
 import com.budgetwise.api.transaction.Transaction;
 import com.budgetwise.api.transaction.TransactionRepository;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +31,9 @@ public class ScheduledTasksService {
     private final TransactionRepository transactionRepository;
     private final BudgetRepository budgetRepository;
     private final BudgetAlertServiceImpl budgetAlertService;
+    private final DescriptionAutocompleteService descriptionAutocompleteService;
+    private final IdempotencyService idempotencyService;
+    private final SyncService syncService;
 
     /**
      * This scheduled task runs once every day at 1:00 AM server time.
@@ -71,6 +77,8 @@ public class ScheduledTasksService {
 
             Transaction savedTransaction = transactionRepository.save(newTransaction);
             log.info("Created new transaction {} from recurring rule {}.", savedTransaction.getId(), rule.getName());
+            descriptionAutocompleteService.descriptionAdded(rule.getUser().getId(), savedTransaction.getDescription(),
+                    rule.getCategory(), savedTransaction.getTransactionDate());
 
             // Check for budget alerts after creation
             budgetAlertService.checkBudgetAfterTransaction(savedTransaction);
@@ -123,6 +131,28 @@ public class ScheduledTasksService {
         log.info("Finished renewing {} budgets.", newBudgets.size());
     }
 
+    /**
+     * This scheduled task runs every hour, on the hour.
+     * It deletes stored idempotency keys whose replay window has passed.
+     */
+    @Scheduled(cron = "0 0 * * * *")
+    public void purgeExpiredIdempotencyKeys() {
+        int purged = idempotencyService.purgeExpired();
+        if (purged > 0) {
+            log.info("Purged {} expired idempotency keys.", purged);
+        }
+    }
+
+    /**
+     * This scheduled task runs once every day at 3:00 AM server time.
+     * It compacts the sync tombstone log by deleting entries older than the retention window.
+     */
+    @Scheduled(cron = "0 0 3 * * *")
+    public void purgeExpiredSyncTombstones() {
+        int purged = syncService.purgeExpiredTombstones();
+        log.info("Purged {} expired sync tombstones.", purged);
+    }
+
     private LocalDate calculateNextExecutionDate(LocalDate currentDate, ScheduleType scheduleType) {
         return switch (scheduleType) {
             case DAILY -> currentDate.plusDays(1);
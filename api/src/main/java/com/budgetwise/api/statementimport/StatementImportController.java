@@ -0,0 +1,30 @@
+package com.budgetwise.api.statementimport;
+
+import com.budgetwise.api.statementimport.dto.StatementImportRequest;
+import com.budgetwise.api.statementimport.dto.StatementImportResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/transactions/import")
+@RequiredArgsConstructor
+@Tag(name = "Statement Import", description = "Endpoints for importing bank statements")
+public class StatementImportController {
+
+    private final StatementImportService statementImportService;
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<StatementImportResponse> importStatement(
+            @RequestParam("file") MultipartFile file,
+            @Valid @ModelAttribute StatementImportRequest request
+    ) throws IOException {
+        return ResponseEntity.ok(statementImportService.importStatement(file, request));
+    }
+}
@@ -0,0 +1,11 @@
+package com.budgetwise.api.statementimport;
+
+import com.budgetwise.api.statementimport.dto.StatementImportRequest;
+import com.budgetwise.api.statementimport.dto.StatementImportResponse;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+
+public interface StatementImportService {
+    StatementImportResponse importStatement(MultipartFile file, StatementImportRequest request) throws IOException;
+}
@@ -0,0 +1,17 @@
+package com.budgetwise.api.statementimport.dto;
+
+import com.budgetwise.api.category.enums.CategoryType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * The columns of an existing transaction needed to compute its import fingerprint.
+ */
+public record ExistingTransactionFingerprint(
+        LocalDateTime transactionDate,
+        CategoryType categoryType,
+        BigDecimal amount,
+        String description
+) {
+}
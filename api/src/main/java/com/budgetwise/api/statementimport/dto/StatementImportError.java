@@ -0,0 +1,11 @@
+package com.budgetwise.api.statementimport.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class StatementImportError {
+    private long lineNumber;
+    private String message;
+}
@@ -0,0 +1,37 @@
+package com.budgetwise.api.statementimport.dto;
+
+import com.budgetwise.api.statementimport.enums.StatementFormat;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+import java.util.UUID;
+
+/**
+ * Import options sent as form fields next to the uploaded statement file.
+ */
+@Data
+public class StatementImportRequest {
+    // Detected from the file extension when omitted
+    private StatementFormat format;
+
+    // --- CSV column mapping (header names, case-insensitive) ---
+    @NotBlank(message = "Date column is required")
+    private String dateColumn = "Date";
+
+    @NotBlank(message = "Amount column is required")
+    private String amountColumn = "Amount";
+
+    @NotBlank(message = "Description column is required")
+    private String descriptionColumn = "Description";
+
+    // Optional; values are matched against the user's category names
+    private String categoryColumn = "Category";
+
+    @NotBlank(message = "Date format is required")
+    private String dateFormat = "yyyy-MM-dd";
+
+    // Fallback categories for rows without a matching category name,
+    // chosen by the sign of the amount (negative = expense)
+    private UUID expenseCategoryId;
+    private UUID incomeCategoryId;
+}
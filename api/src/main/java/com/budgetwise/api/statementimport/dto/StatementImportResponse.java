@@ -0,0 +1,18 @@
+package com.budgetwise.api.statementimport.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class StatementImportResponse {
+    private int totalRows;
+    private int importedCount;
+    private int duplicateCount;
+    private int failedCount;
+    private int budgetChecks;
+    // Only the first errors are reported; failedCount holds the full number
+    private List<StatementImportError> errors;
+}
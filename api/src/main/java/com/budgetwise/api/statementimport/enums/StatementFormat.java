@@ -0,0 +1,26 @@
+package com.budgetwise.api.statementimport.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum StatementFormat {
+    CSV("CSV"),
+    OFX("OFX");
+
+    private final String name;
+
+    /**
+     * Guesses the format from the uploaded file name, defaulting to CSV.
+     */
+    public static StatementFormat fromFileName(String fileName) {
+        if (fileName != null) {
+            String lower = fileName.toLowerCase();
+            if (lower.endsWith(".ofx") || lower.endsWith(".qfx")) {
+                return OFX;
+            }
+        }
+        return CSV;
+    }
+}
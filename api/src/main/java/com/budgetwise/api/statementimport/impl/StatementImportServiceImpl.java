@@ -0,0 +1,271 @@
+package com.budgetwise.api.statementimport.impl;
+
+import com.budgetwise.api.budget.BudgetAlertService;
+import com.budgetwise.api.category.Category;
+import com.budgetwise.api.category.CategoryRepository;
+import com.budgetwise.api.category.enums.CategoryType;
+import com.budgetwise.api.exception.ResourceNotFoundException;
+import com.budgetwise.api.security.SecurityUtils;
+import com.budgetwise.api.statementimport.StatementImportService;
+import com.budgetwise.api.statementimport.dto.ExistingTransactionFingerprint;
+import com.budgetwise.api.statementimport.dto.StatementImportError;
+import com.budgetwise.api.statementimport.dto.StatementImportRequest;
+import com.budgetwise.api.statementimport.dto.StatementImportResponse;
+import com.budgetwise.api.statementimport.enums.StatementFormat;
+import com.budgetwise.api.statementimport.parser.StatementParser;
+import com.budgetwise.api.statementimport.parser.StatementRow;
+import com.budgetwise.api.statementimport.parser.StatementRowHandler;
+import com.budgetwise.api.transaction.DescriptionAutocompleteService;
+import com.budgetwise.api.transaction.Transaction;
+import com.budgetwise.api.transaction.TransactionRepository;
+import com.budgetwise.api.user.User;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StatementImportServiceImpl implements StatementImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final List<StatementParser> parsers;
+    private final TransactionRepository transactionRepository;
+    private final CategoryRepository categoryRepository;
+    private final BudgetAlertService budgetAlertService;
+    private final DescriptionAutocompleteService descriptionAutocompleteService;
+    private final SecurityUtils securityUtils;
+    private final EntityManager entityManager;
+
+    // Same value as hibernate.jdbc.batch_size so that each flush is sent as one JDBC batch
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    @Override
+    @Transactional
+    public StatementImportResponse importStatement(MultipartFile file, StatementImportRequest request) throws IOException {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("The statement file is empty.");
+        }
+
+        User currentUser = securityUtils.getCurrentUser();
+        StatementFormat format = (request.getFormat() != null)
+                ? request.getFormat()
+                : StatementFormat.fromFileName(file.getOriginalFilename());
+        StatementParser parser = parsers.stream()
+                .filter(p -> p.getFormat() == format)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported statement format: " + format));
+
+        ImportSession session = new ImportSession(
+                currentUser,
+                loadCategoriesByName(currentUser),
+                findCategoryAndVerifyOwnership(request.getExpenseCategoryId(), currentUser),
+                findCategoryAndVerifyOwnership(request.getIncomeCategoryId(), currentUser)
+        );
+
+        try (InputStream input = file.getInputStream()) {
+            parser.parse(input, request, session);
+        }
+        session.flush();
+        if (session.imported > 0) {
+            // A whole statement is cheaper to pick up with one rebuild than row by row
+            descriptionAutocompleteService.invalidate(currentUser.getId());
+        }
+
+        // Budget alerts are evaluated once per affected category-month, after all rows are in
+        session.touchedCategoryMonths.forEach((categoryId, months) -> months.forEach(month ->
+                budgetAlertService.checkBudget(currentUser, session.categoryReference(categoryId), month)));
+        int budgetChecks = session.touchedCategoryMonths.values().stream().mapToInt(Set::size).sum();
+
+        log.info("Imported {} of {} statement rows for user {} ({} duplicates, {} failed).",
+                session.imported, session.totalRows, currentUser.getUsername(), session.duplicates, session.failed);
+
+        return StatementImportResponse.builder()
+                .totalRows(session.totalRows)
+                .importedCount(session.imported)
+                .duplicateCount(session.duplicates)
+                .failedCount(session.failed)
+                .budgetChecks(budgetChecks)
+                .errors(session.errors)
+                .build();
+    }
+
+    /**
+     * Collects parsed rows and writes them in batches. Each batch first looks up the fingerprints of
+     * transactions already stored on the batch's days (an indexed range on user and date), then
+     * inserts the remaining rows through a single flush so Hibernate sends them as one JDBC batch.
+     */
+    private final class ImportSession implements StatementRowHandler {
+        private final User user;
+        private final Map<String, Category> categoriesByName;
+        private final Category expenseCategory;
+        private final Category incomeCategory;
+
+        private final List<PendingRow> pending = new ArrayList<>();
+        // How many rows of each fingerprint this import has inserted or matched as duplicates,
+        // so the same statement line is skipped as many times as it already exists, not more.
+        private final Map<String, Integer> insertedByFingerprint = new HashMap<>();
+        private final Map<String, Integer> matchedByFingerprint = new HashMap<>();
+        private final Map<UUID, Set<YearMonth>> touchedCategoryMonths = new HashMap<>();
+        private final List<StatementImportError> errors = new ArrayList<>();
+
+        private int totalRows;
+        private int imported;
+        private int duplicates;
+        private int failed;
+
+        private ImportSession(User user, Map<String, Category> categoriesByName,
+                              Category expenseCategory, Category incomeCategory) {
+            this.user = user;
+            this.categoriesByName = categoriesByName;
+            this.expenseCategory = expenseCategory;
+            this.incomeCategory = incomeCategory;
+        }
+
+        @Override
+        public void onRow(StatementRow row) {
+            totalRows++;
+            if (row.amount().signum() == 0) {
+                onFailure(row.lineNumber(), "Amount must not be zero");
+                return;
+            }
+            Category category = resolveCategory(row);
+            if (category == null) {
+                onFailure(row.lineNumber(), "No category matches this row and no default category was given");
+                return;
+            }
+            pending.add(new PendingRow(row, category,
+                    fingerprint(row.date(), category.getCategoryType(), row.amount().abs(), row.description())));
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        @Override
+        public void onError(long lineNumber, String message) {
+            totalRows++;
+            onFailure(lineNumber, message);
+        }
+
+        private void onFailure(long lineNumber, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new StatementImportError(lineNumber, message));
+            }
+        }
+
+        private Category resolveCategory(StatementRow row) {
+            if (row.categoryName() != null) {
+                Category named = categoriesByName.get(row.categoryName().toLowerCase());
+                if (named != null) {
+                    return named;
+                }
+            }
+            return row.amount().signum() < 0 ? expenseCategory : incomeCategory;
+        }
+
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            LocalDate firstDay = pending.stream().map(p -> p.row().date()).min(LocalDate::compareTo).orElseThrow();
+            LocalDate lastDay = pending.stream().map(p -> p.row().date()).max(LocalDate::compareTo).orElseThrow();
+            Map<String, Integer> storedByFingerprint = new HashMap<>();
+            for (ExistingTransactionFingerprint existing : transactionRepository.findFingerprintsByUserAndDateRange(
+                    user, firstDay.atStartOfDay(), lastDay.plusDays(1).atStartOfDay())) {
+                String key = fingerprint(existing.transactionDate().toLocalDate(), existing.categoryType(),
+                        existing.amount(), existing.description());
+                storedByFingerprint.merge(key, 1, Integer::sum);
+            }
+
+            List<Transaction> batch = new ArrayList<>(pending.size());
+            for (PendingRow pendingRow : pending) {
+                String key = pendingRow.fingerprint();
+                // Rows stored before this import started are the only ones that count as duplicates
+                int preExisting = storedByFingerprint.getOrDefault(key, 0) - insertedByFingerprint.getOrDefault(key, 0);
+                if (matchedByFingerprint.getOrDefault(key, 0) < preExisting) {
+                    matchedByFingerprint.merge(key, 1, Integer::sum);
+                    duplicates++;
+                    continue;
+                }
+
+                StatementRow row = pendingRow.row();
+                batch.add(Transaction.builder()
+                        .amount(row.amount().abs())
+                        .description(row.description())
+                        .transactionDate(row.date().atStartOfDay())
+                        .category(pendingRow.category())
+                        .user(user)
+                        .isCreatedAutomatically(false)
+                        .build());
+                insertedByFingerprint.merge(key, 1, Integer::sum);
+                touchedCategoryMonths
+                        .computeIfAbsent(pendingRow.category().getId(), id -> new HashSet<>())
+                        .add(YearMonth.from(row.date()));
+            }
+
+            transactionRepository.saveAll(batch);
+            // Send the batched INSERTs now and drop the entities so memory does not grow with the file
+            entityManager.flush();
+            entityManager.clear();
+
+            imported += batch.size();
+            pending.clear();
+        }
+
+        private Category categoryReference(UUID categoryId) {
+            return entityManager.getReference(Category.class, categoryId);
+        }
+    }
+
+    private record PendingRow(StatementRow row, Category category, String fingerprint) {
+    }
+
+    /**
+     * Identifies a statement line by its day, category type, amount and normalized description, so that
+     * the same line imported twice (or entered by hand before) is recognized regardless of spacing or
+     * case. Amounts are stored unsigned, so the type is what keeps a refund from matching the purchase.
+     */
+    static String fingerprint(LocalDate date, CategoryType type, BigDecimal amount, String description) {
+        String normalizedDescription = (description == null)
+                ? ""
+                : description.toLowerCase().replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+        return date + "|" + type + "|" + amount.stripTrailingZeros().toPlainString() + "|" + normalizedDescription;
+    }
+
+    private Map<String, Category> loadCategoriesByName(User user) {
+        Map<String, Category> categoriesByName = new HashMap<>();
+        for (Category category : categoryRepository.findByUserOrderByCreatedAtDesc(user)) {
+            categoriesByName.put(category.getName().toLowerCase(), category);
+        }
+        return categoriesByName;
+    }
+
+    private Category findCategoryAndVerifyOwnership(UUID categoryId, User user) {
+        if (categoryId == null) {
+            return null;
+        }
+        Category category = categoryRepository.findById(categoryId)
+                .orElseThrow(() -> new ResourceNotFoundException("Category not found with id: " + categoryId));
+        if (!category.getUser().getId().equals(user.getId())) {
+            throw new AccessDeniedException("You do not have permission to use this category");
+        }
+        return category;
+    }
+}
@@ -0,0 +1,79 @@
+package com.budgetwise.api.statementimport.parser;
+
+import com.budgetwise.api.statementimport.dto.StatementImportRequest;
+import com.budgetwise.api.statementimport.enums.StatementFormat;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+@Component
+public class CsvStatementParser implements StatementParser {
+
+    @Override
+    public StatementFormat getFormat() {
+        return StatementFormat.CSV;
+    }
+
+    @Override
+    public void parse(InputStream input, StatementImportRequest options, StatementRowHandler handler) throws IOException {
+        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern(options.getDateFormat());
+        CSVFormat format = CSVFormat.DEFAULT.builder()
+                .setHeader()
+                .setSkipHeaderRecord(true)
+                .setIgnoreHeaderCase(true)
+                .setIgnoreEmptyLines(true)
+                .setTrim(true)
+                .get();
+
+        // CSVParser reads records lazily, one at a time
+        try (CSVParser parser = CSVParser.parse(
+                new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)), format)) {
+
+            List<String> headers = parser.getHeaderNames();
+            requireColumn(headers, options.getDateColumn());
+            requireColumn(headers, options.getAmountColumn());
+            requireColumn(headers, options.getDescriptionColumn());
+            boolean hasCategoryColumn = options.getCategoryColumn() != null
+                    && headers.stream().anyMatch(h -> h.equalsIgnoreCase(options.getCategoryColumn()));
+
+            for (CSVRecord record : parser) {
+                // +1 because the header occupies the first line
+                long lineNumber = record.getRecordNumber() + 1;
+                try {
+                    LocalDate date = LocalDate.parse(record.get(options.getDateColumn()), dateFormatter);
+                    BigDecimal amount = StatementValues.parseAmount(record.get(options.getAmountColumn()));
+                    String description = StatementValues.description(record.get(options.getDescriptionColumn()));
+                    String categoryName = hasCategoryColumn && record.isSet(options.getCategoryColumn())
+                            ? StatementValues.blankToNull(record.get(options.getCategoryColumn()))
+                            : null;
+
+                    handler.onRow(new StatementRow(lineNumber, date, amount, description, categoryName));
+                } catch (DateTimeParseException e) {
+                    handler.onError(lineNumber, "Invalid date: " + e.getParsedString());
+                } catch (NumberFormatException e) {
+                    handler.onError(lineNumber, "Invalid amount: " + record.get(options.getAmountColumn()));
+                } catch (IllegalArgumentException e) {
+                    handler.onError(lineNumber, "Row does not match the header: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static void requireColumn(List<String> headers, String column) {
+        if (headers.stream().noneMatch(h -> h.equalsIgnoreCase(column))) {
+            throw new IllegalArgumentException("CSV file has no '" + column + "' column.");
+        }
+    }
+}
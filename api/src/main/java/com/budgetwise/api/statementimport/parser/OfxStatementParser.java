@@ -0,0 +1,135 @@
+package com.budgetwise.api.statementimport.parser;
+
+import com.budgetwise.api.statementimport.dto.StatementImportRequest;
+import com.budgetwise.api.statementimport.enums.StatementFormat;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Streaming reader for OFX bank statements. It understands both the SGML (1.x) and the
+ * XML (2.x) flavours by scanning tags one at a time: only the fields of each
+ * STMTTRN block are kept, everything else is skipped.
+ */
+@Component
+public class OfxStatementParser implements StatementParser {
+
+    private static final DateTimeFormatter OFX_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    @Override
+    public StatementFormat getFormat() {
+        return StatementFormat.OFX;
+    }
+
+    @Override
+    public void parse(InputStream input, StatementImportRequest options, StatementRowHandler handler) throws IOException {
+        try (Reader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            long transactionNumber = 0;
+            OfxTransaction current = null;
+            String tag;
+
+            while ((tag = readTag(reader)) != null) {
+                if (tag.equals("STMTTRN")) {
+                    current = new OfxTransaction(++transactionNumber);
+                } else if (tag.equals("/STMTTRN")) {
+                    if (current != null) {
+                        emit(current, handler);
+                        current = null;
+                    }
+                } else if (current != null && !tag.startsWith("/")) {
+                    String value = readValue(reader);
+                    switch (tag) {
+                        case "DTPOSTED" -> current.datePosted = value;
+                        case "TRNAMT" -> current.amount = value;
+                        case "NAME" -> current.name = value;
+                        case "MEMO" -> current.memo = value;
+                        default -> { }
+                    }
+                }
+            }
+        }
+    }
+
+    private static void emit(OfxTransaction tx, StatementRowHandler handler) {
+        if (tx.datePosted == null || tx.datePosted.length() < 8 || tx.amount == null) {
+            handler.onError(tx.number, "Transaction is missing DTPOSTED or TRNAMT");
+            return;
+        }
+        try {
+            // DTPOSTED looks like 20240105[120000[.000][-5:EST]]; only the day matters here
+            LocalDate date = LocalDate.parse(tx.datePosted.substring(0, 8), OFX_DATE);
+            BigDecimal amount = StatementValues.parseAmount(tx.amount);
+            String description = StatementValues.description(tx.name != null ? tx.name : tx.memo);
+            handler.onRow(new StatementRow(tx.number, date, amount, description, null));
+        } catch (DateTimeParseException e) {
+            handler.onError(tx.number, "Invalid date: " + tx.datePosted);
+        } catch (NumberFormatException e) {
+            handler.onError(tx.number, "Invalid amount: " + tx.amount);
+        }
+    }
+
+    /**
+     * Advances to the next tag and returns its upper-cased name (with a leading "/" for
+     * closing tags), or null at the end of the input. Text outside tags is skipped.
+     */
+    private static String readTag(Reader reader) throws IOException {
+        int c;
+        while ((c = reader.read()) != -1 && c != '<') {
+            // skip
+        }
+        if (c == -1) {
+            return null;
+        }
+        StringBuilder name = new StringBuilder();
+        while ((c = reader.read()) != -1 && c != '>') {
+            name.append((char) c);
+        }
+        return name.toString().trim().toUpperCase();
+    }
+
+    /**
+     * Reads the text following an opening tag, up to (but not including) the next tag.
+     */
+    private static String readValue(Reader reader) throws IOException {
+        StringBuilder value = new StringBuilder();
+        reader.mark(1);
+        int c;
+        while ((c = reader.read()) != -1 && c != '<') {
+            value.append((char) c);
+            reader.mark(1);
+        }
+        if (c == '<') {
+            reader.reset();
+        }
+        return decodeEntities(value.toString().trim());
+    }
+
+    private static String decodeEntities(String value) {
+        return value.replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&apos;", "'")
+                .replace("&amp;", "&");
+    }
+
+    private static final class OfxTransaction {
+        private final long number;
+        private String datePosted;
+        private String amount;
+        private String name;
+        private String memo;
+
+        private OfxTransaction(long number) {
+            this.number = number;
+        }
+    }
+}
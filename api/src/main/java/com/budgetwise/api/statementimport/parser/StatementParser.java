@@ -0,0 +1,13 @@
+package com.budgetwise.api.statementimport.parser;
+
+import com.budgetwise.api.statementimport.dto.StatementImportRequest;
+import com.budgetwise.api.statementimport.enums.StatementFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface StatementParser {
+    StatementFormat getFormat();
+
+    void parse(InputStream input, StatementImportRequest options, StatementRowHandler handler) throws IOException;
+}
@@ -0,0 +1,17 @@
+package com.budgetwise.api.statementimport.parser;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One parsed statement line. The amount keeps the sign from the statement:
+ * negative values are debits (expenses), positive values are credits (income).
+ */
+public record StatementRow(
+        long lineNumber,
+        LocalDate date,
+        BigDecimal amount,
+        String description,
+        String categoryName
+) {
+}
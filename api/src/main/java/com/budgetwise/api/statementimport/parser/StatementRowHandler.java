@@ -0,0 +1,10 @@
+package com.budgetwise.api.statementimport.parser;
+
+/**
+ * Receives rows one at a time as a statement is parsed, so the file is never held in memory.
+ */
+public interface StatementRowHandler {
+    void onRow(StatementRow row);
+
+    void onError(long lineNumber, String message);
+}
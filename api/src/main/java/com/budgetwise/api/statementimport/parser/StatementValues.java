@@ -0,0 +1,50 @@
+package com.budgetwise.api.statementimport.parser;
+
+import com.budgetwise.api.transaction.Transaction;
+
+import java.math.BigDecimal;
+
+/**
+ * Parsing helpers shared by the statement parsers.
+ */
+final class StatementValues {
+
+    private StatementValues() {
+    }
+
+    /**
+     * Parses an amount as printed on bank statements: currency symbols and spaces are ignored,
+     * "(12.50)" is negative, and "1,234.56", "1.234,56" and "1,234,567" are all understood.
+     *
+     * @throws NumberFormatException if no number can be read.
+     */
+    static BigDecimal parseAmount(String raw) {
+        String value = raw.replaceAll("[^0-9,.()+\\-]", "");
+        boolean parenthesized = value.startsWith("(") && value.endsWith(")");
+        value = value.replace("(", "").replace(")", "");
+
+        // Whichever separator comes last is the decimal separator, unless it repeats ("1,234,567")
+        char decimalSeparator = value.lastIndexOf(',') > value.lastIndexOf('.') ? ',' : '.';
+        char groupingSeparator = decimalSeparator == ',' ? '.' : ',';
+        value = value.replace(String.valueOf(groupingSeparator), "");
+        if (value.indexOf(decimalSeparator) != value.lastIndexOf(decimalSeparator)) {
+            value = value.replace(String.valueOf(decimalSeparator), "");
+        }
+        value = value.replace(',', '.');
+
+        BigDecimal amount = new BigDecimal(value);
+        return parenthesized ? amount.negate() : amount;
+    }
+
+    // Statement descriptions can be longer than the column; keep the leading part
+    static String description(String raw) {
+        String value = blankToNull(raw);
+        return (value != null && value.length() > Transaction.DESCRIPTION_MAX_LENGTH)
+                ? value.substring(0, Transaction.DESCRIPTION_MAX_LENGTH).trim()
+                : value;
+    }
+
+    static String blankToNull(String value) {
+        return (value == null || value.isBlank()) ? null : value.trim();
+    }
+}
@@ -0,0 +1,25 @@
+package com.budgetwise.api.sync;
+
+import com.budgetwise.api.sync.dto.SyncResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/sync")
+@RequiredArgsConstructor
+@Tag(name = "Sync", description = "Endpoint for incremental synchronization of offline clients")
+public class SyncController {
+
+    private final SyncService syncService;
+
+    // Without "since" the full data set is returned together with the first cursor
+    @GetMapping
+    public ResponseEntity<SyncResponse> sync(@RequestParam(required = false) String since) {
+        return ResponseEntity.ok(syncService.sync(since));
+    }
+}
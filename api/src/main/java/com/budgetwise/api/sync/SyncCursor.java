@@ -0,0 +1,30 @@
+package com.budgetwise.api.sync;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Point in time up to which a client has seen all changes. It is handed to clients as an opaque,
+ * URL-safe token and decoded on the next sync.
+ */
+public record SyncCursor(Instant since) {
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(since.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @throws IllegalArgumentException if the token is malformed.
+     */
+    public static SyncCursor decode(String token) {
+        try {
+            return new SyncCursor(Instant.parse(new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid sync cursor.", e);
+        }
+    }
+}
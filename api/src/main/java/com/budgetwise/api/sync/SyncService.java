@@ -0,0 +1,13 @@
+package com.budgetwise.api.sync;
+
+import com.budgetwise.api.sync.dto.SyncResponse;
+import com.budgetwise.api.sync.enums.SyncEntityType;
+import com.budgetwise.api.user.User;
+
+import java.util.UUID;
+
+public interface SyncService {
+    SyncResponse sync(String since);
+    void recordDeletion(User user, SyncEntityType entityType, UUID entityId);
+    int purgeExpiredTombstones();
+}
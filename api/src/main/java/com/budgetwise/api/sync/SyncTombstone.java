@@ -0,0 +1,41 @@
+package com.budgetwise.api.sync;
+
+import com.budgetwise.api.sync.enums.SyncEntityType;
+import com.budgetwise.api.user.User;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// Records that an entity was deleted, so that syncing clients can drop their local copy
+@Entity
+@Table(name = "sync_tombstones", indexes = {
+        @Index(name = "idx_sync_tombstones_user_deleted", columnList = "user_id, deleted_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+public class SyncTombstone {
+    @Id
+    @GeneratedValue
+    @UuidGenerator(style = UuidGenerator.Style.TIME)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private SyncEntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private UUID entityId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private Instant deletedAt;
+}
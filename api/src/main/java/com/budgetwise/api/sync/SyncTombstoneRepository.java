@@ -0,0 +1,25 @@
+package com.budgetwise.api.sync;
+
+import com.budgetwise.api.sync.dto.SyncDeletion;
+import com.budgetwise.api.user.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstone, UUID> {
+    @Query("SELECT new com.budgetwise.api.sync.dto.SyncDeletion(t.entityType, t.entityId, t.deletedAt) " +
+            "FROM SyncTombstone t WHERE t.user = :user AND t.deletedAt > :since " +
+            "ORDER BY t.deletedAt")
+    List<SyncDeletion> findDeletionsSince(@Param("user") User user, @Param("since") Instant since);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM SyncTombstone t WHERE t.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,9 @@
+package com.budgetwise.api.sync.dto;
+
+import com.budgetwise.api.sync.enums.SyncEntityType;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record SyncDeletion(SyncEntityType entityType, UUID id, Instant deletedAt) {
+}
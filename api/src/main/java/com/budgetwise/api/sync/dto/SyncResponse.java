@@ -0,0 +1,24 @@
+package com.budgetwise.api.sync.dto;
+
+import com.budgetwise.api.budget.dto.BudgetResponse;
+import com.budgetwise.api.category.dto.CategoryResponse;
+import com.budgetwise.api.transaction.dto.TransactionResponse;
+import com.budgetwise.api.transactiontemplate.dto.TransactionTemplateResponse;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class SyncResponse {
+    // True when the response holds the complete data set and the client must replace its local copy
+    private boolean reset;
+    private List<TransactionResponse> transactions;
+    private List<CategoryResponse> categories;
+    private List<BudgetResponse> budgets;
+    private List<TransactionTemplateResponse> templates;
+    private List<SyncDeletion> deleted;
+    // Pass back as "since" on the next sync
+    private String cursor;
+}
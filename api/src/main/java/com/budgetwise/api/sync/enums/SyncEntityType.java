@@ -0,0 +1,16 @@
+package com.budgetwise.api.sync.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum SyncEntityType {
+    TRANSACTION("Transaction"),
+    CATEGORY("Category"),
+    BUDGET("Budget"),
+    TEMPLATE("Template");
+
+    private final String name;
+
+}
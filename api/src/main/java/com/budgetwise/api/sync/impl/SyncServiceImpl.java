@@ -0,0 +1,102 @@
+package com.budgetwise.api.sync.impl;
+
+import com.budgetwise.api.budget.BudgetRepository;
+import com.budgetwise.api.budget.mapper.BudgetMapper;
+import com.budgetwise.api.category.CategoryRepository;
+import com.budgetwise.api.category.mapper.CategoryMapper;
+import com.budgetwise.api.security.SecurityUtils;
+import com.budgetwise.api.sync.SyncCursor;
+import com.budgetwise.api.sync.SyncService;
+import com.budgetwise.api.sync.SyncTombstone;
+import com.budgetwise.api.sync.SyncTombstoneRepository;
+import com.budgetwise.api.sync.dto.SyncResponse;
+import com.budgetwise.api.sync.enums.SyncEntityType;
+import com.budgetwise.api.transaction.TransactionRepository;
+import com.budgetwise.api.transactiontemplate.TransactionTemplateRepository;
+import com.budgetwise.api.transactiontemplate.mapper.TransactionTemplateMapper;
+import com.budgetwise.api.user.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Incremental sync over the updated_at columns plus a tombstone log for deletes.
+ *
+ * <p>updated_at is stamped when a row is flushed, not when its transaction commits, so a row can
+ * become visible with a timestamp that is already older than a cursor handed out in between. The
+ * returned cursor therefore trails the current time by a commit-lag window: changes near the
+ * boundary are sent twice rather than never, and clients apply them as upserts.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class SyncServiceImpl implements SyncService {
+
+    private final TransactionRepository transactionRepository;
+    private final CategoryRepository categoryRepository;
+    private final BudgetRepository budgetRepository;
+    private final TransactionTemplateRepository templateRepository;
+    private final SyncTombstoneRepository tombstoneRepository;
+    private final CategoryMapper categoryMapper;
+    private final BudgetMapper budgetMapper;
+    private final TransactionTemplateMapper templateMapper;
+    private final SecurityUtils securityUtils;
+
+    @Value("${sync.commit-lag:2m}")
+    private Duration commitLag;
+
+    @Value("${sync.tombstone-retention:30d}")
+    private Duration tombstoneRetention;
+
+    @Override
+    @Transactional(readOnly = true)
+    public SyncResponse sync(String since) {
+        User currentUser = securityUtils.getCurrentUser();
+        Instant now = Instant.now();
+        String nextCursor = new SyncCursor(now.minus(commitLag)).encode();
+
+        Instant sinceInstant = (since != null) ? SyncCursor.decode(since).since() : null;
+        // Tombstones older than the retention window are gone, so such clients must start over
+        if (sinceInstant == null || sinceInstant.isBefore(now.minus(tombstoneRetention))) {
+            return SyncResponse.builder()
+                    .reset(true)
+                    .transactions(transactionRepository.findAllByUser(currentUser))
+                    .categories(categoryMapper.toDtoList(categoryRepository.findByUserOrderByCreatedAtDesc(currentUser)))
+                    .budgets(budgetMapper.toDtoList(budgetRepository.findByUser(currentUser)))
+                    .templates(templateMapper.toDtoList(templateRepository.findByUserOrderByNameAsc(currentUser)))
+                    .deleted(List.of())
+                    .cursor(nextCursor)
+                    .build();
+        }
+
+        return SyncResponse.builder()
+                .reset(false)
+                .transactions(transactionRepository.findUpdatedSince(currentUser, sinceInstant))
+                .categories(categoryMapper.toDtoList(categoryRepository.findByUserAndUpdatedAtAfter(currentUser, sinceInstant)))
+                .budgets(budgetMapper.toDtoList(budgetRepository.findByUserAndUpdatedAtAfter(currentUser, sinceInstant)))
+                .templates(templateMapper.toDtoList(templateRepository.findByUserAndUpdatedAtAfter(currentUser, sinceInstant)))
+                .deleted(tombstoneRepository.findDeletionsSince(currentUser, sinceInstant))
+                .cursor(nextCursor)
+                .build();
+    }
+
+    @Override
+    public void recordDeletion(User user, SyncEntityType entityType, UUID entityId) {
+        tombstoneRepository.save(SyncTombstone.builder()
+                .user(user)
+                .entityType(entityType)
+                .entityId(entityId)
+                .deletedAt(Instant.now())
+                .build());
+    }
+
+    @Override
+    public int purgeExpiredTombstones() {
+        return tombstoneRepository.deleteOlderThan(Instant.now().minus(tombstoneRetention));
+    }
+}
@@ -0,0 +1,26 @@
+package com.budgetwise.api.transaction;
+
+import com.budgetwise.api.category.Category;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Entity listener that drops a user's autocomplete index when one of their categories is updated,
+ * because suggestions carry the category name. The service is looked up lazily for the same
+ * reason as in UserDataVersionListener.
+ */
+@Component
+@RequiredArgsConstructor
+public class DescriptionAutocompleteListener {
+
+    private final ObjectProvider<DescriptionAutocompleteService> descriptionAutocompleteService;
+
+    @PostUpdate
+    public void onCategoryUpdated(Category category) {
+        if (category.getUser() != null) {
+            descriptionAutocompleteService.getObject().invalidate(category.getUser().getId());
+        }
+    }
+}
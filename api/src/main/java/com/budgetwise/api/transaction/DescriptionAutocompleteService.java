@@ -0,0 +1,17 @@
+package com.budgetwise.api.transaction;
+
+import com.budgetwise.api.category.Category;
+import com.budgetwise.api.transaction.dto.DescriptionSuggestion;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface DescriptionAutocompleteService {
+    List<DescriptionSuggestion> suggest(String prefix, Integer limit);
+
+    // Write notifications are applied after the surrounding transaction commits
+    void descriptionAdded(UUID userId, String description, Category category, LocalDateTime transactionDate);
+    void descriptionRemoved(UUID userId, String description, UUID categoryId);
+    void invalidate(UUID userId);
+}
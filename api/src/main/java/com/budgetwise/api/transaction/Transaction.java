@@ -1,6 +1,9 @@
 package com.budgetwise.api.transaction;
 
 import com.budgetwise.api.category.Category;
+import com.budgetwise.api.dataversion.UserDataVersionListener;
+import com.budgetwise.api.dataversion.UserOwned;
+import com.budgetwise.api.global.id.TimeOrderedUuid;
 import com.budgetwise.api.receipt.Receipt;
 import com.budgetwise.api.recurringtransaction.RecurringTransaction;
 import com.budgetwise.api.user.User;
@@ -8,7 +11,6 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
-import org.hibernate.annotations.UuidGenerator;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -17,24 +19,31 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
-import static org.hibernate.annotations.UuidGenerator.Style.TIME;
-
 @Entity
-@Table(name = "transactions")
+// The primary key is (user_id, transaction_date, id), see V7__compact_transactions.sql, so each
+// user's history is stored contiguously in date order; id stays unique through UC_TRANSACTION_ID.
+@Table(name = "transactions", uniqueConstraints = {
+        @UniqueConstraint(name = "UC_TRANSACTION_ID", columnNames = "id")
+}, indexes = {
+        @Index(name = "idx_transactions_user_category_date", columnList = "user_id, category_id, transaction_date"),
+        @Index(name = "idx_transactions_user_updated", columnList = "user_id, updated_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @Builder
 @AllArgsConstructor
-public class Transaction {
+@EntityListeners(UserDataVersionListener.class)
+public class Transaction implements UserOwned {
+
+    public static final int DESCRIPTION_MAX_LENGTH = 255;
 
     @Id
-    @GeneratedValue
-    @UuidGenerator(style = TIME)
+    @TimeOrderedUuid
     @Column(updatable = false, nullable = false)
     private UUID id;
 
-    @Lob
+    @Column(length = DESCRIPTION_MAX_LENGTH)
     private String description;
 
     @Column(nullable = false, precision = 19, scale = 4)
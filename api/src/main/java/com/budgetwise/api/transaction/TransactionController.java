@@ -1,13 +1,20 @@
 package com.budgetwise.api.transaction;
 
+import com.budgetwise.api.idempotency.IdempotencyService;
 import com.budgetwise.api.transaction.dto.CreateTransactionFromTemplateRequest;
+import com.budgetwise.api.transaction.dto.DescriptionSuggestion;
+import com.budgetwise.api.transaction.dto.TransactionPageResponse;
 import com.budgetwise.api.transaction.dto.TransactionRequest;
 import com.budgetwise.api.transaction.dto.TransactionResponse;
+import com.budgetwise.api.transaction.dto.TransactionSearchRequest;
+import com.budgetwise.api.transaction.dto.TransactionSearchResponse;
+import com.budgetwise.api.transaction.dto.TransactionTextSearchHit;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -24,10 +31,26 @@ import java.util.UUID;
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final DescriptionAutocompleteService descriptionAutocompleteService;
+    private final IdempotencyService idempotencyService;
+    private final TransactionGroupCommitService transactionGroupCommitService;
 
     @PostMapping
-    public ResponseEntity<TransactionResponse> createTransaction(@Valid @RequestBody TransactionRequest request) {
-        return new ResponseEntity<>(transactionService.createTransaction(request), HttpStatus.CREATED);
+    public ResponseEntity<TransactionResponse> createTransaction(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody TransactionRequest request
+    ) throws IOException {
+        // A keyed request is written in the idempotency transaction, so that its stored response
+        // commits with the row; the group commit writer would commit it separately
+        boolean groupCommit = transactionGroupCommitService.isEnabled()
+                && (idempotencyKey == null || idempotencyKey.isBlank());
+        return idempotencyService.execute(idempotencyKey, "POST /transactions", TransactionResponse.class,
+                () -> new ResponseEntity<>(
+                        groupCommit
+                                ? transactionGroupCommitService.createTransaction(request)
+                                : transactionService.createTransaction(request),
+                        HttpStatus.CREATED
+                ));
     }
 
     @GetMapping
@@ -38,6 +61,40 @@ public class TransactionController {
         return ResponseEntity.ok(transactionService.getTransactions(startDate, endDate));
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<TransactionPageResponse> getTransactionPage(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return ResponseEntity.ok(transactionService.getTransactionPage(startDate, endDate, cursor, limit));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<TransactionSearchResponse> searchTransactions(@Valid @ModelAttribute TransactionSearchRequest request) {
+        return ResponseEntity.ok(transactionService.searchTransactions(request));
+    }
+
+    @GetMapping("/text-search")
+    public ResponseEntity<List<TransactionTextSearchHit>> searchTransactionText(
+            @RequestParam String query,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) UUID categoryId,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return ResponseEntity.ok(transactionService.searchTransactionText(query, startDate, endDate, categoryId, limit));
+    }
+
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<DescriptionSuggestion>> autocompleteDescription(
+            @RequestParam String prefix,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return ResponseEntity.ok(descriptionAutocompleteService.suggest(prefix, limit));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<TransactionResponse> getTransactionById(@PathVariable UUID id) {
         return ResponseEntity.ok(transactionService.getTransactionById(id));
@@ -58,24 +115,29 @@ public class TransactionController {
     public void exportTransactionsToCsv(
             HttpServletResponse response,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
     ) throws IOException {
-        transactionService.exportTransactionsToCsv(response, startDate, endDate);
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        transactionService.exportTransactionsToCsv(response, startDate, endDate, gzip);
     }
 
     @PostMapping("/from-template/{templateId}")
     public ResponseEntity<TransactionResponse> createTransactionFromTemplate(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @PathVariable UUID templateId,
             @Valid @RequestBody(required = false) CreateTransactionFromTemplateRequest request
-    ) {
+    ) throws IOException {
         // If the body is null (for one-click templates), create a new empty object
         CreateTransactionFromTemplateRequest finalRequest = (request == null)
                 ? new CreateTransactionFromTemplateRequest()
                 : request;
 
-        return new ResponseEntity<>(
-                transactionService.createTransactionFromTemplate(templateId, finalRequest),
-                HttpStatus.CREATED
-        );
+        return idempotencyService.execute(idempotencyKey, "POST /transactions/from-template/" + templateId,
+                TransactionResponse.class,
+                () -> new ResponseEntity<>(
+                        transactionService.createTransactionFromTemplate(templateId, finalRequest),
+                        HttpStatus.CREATED
+                ));
     }
 }
\ No newline at end of file
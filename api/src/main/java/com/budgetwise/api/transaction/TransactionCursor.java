@@ -0,0 +1,50 @@
+package com.budgetwise.api.transaction;
+
+import com.budgetwise.api.transaction.dto.TransactionResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last transaction returned in a page, ordered by (transactionDate DESC, id DESC).
+ * It is handed to clients as an opaque, URL-safe token and decoded on the next request.
+ */
+public record TransactionCursor(LocalDateTime transactionDate, UUID id) {
+
+    private static final String SEPARATOR = "|";
+    private static final int ID_LENGTH = 36;
+
+    public static TransactionCursor of(TransactionResponse transaction) {
+        return new TransactionCursor(transaction.getTransactionDate(), transaction.getId());
+    }
+
+    public String encode() {
+        String raw = transactionDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @throws IllegalArgumentException if the token is malformed.
+     */
+    public static TransactionCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+            // UUID.fromString also accepts shortened groups, which is what a truncated token ends in
+            if (raw.length() - separatorIndex - 1 != ID_LENGTH) {
+                throw new IllegalArgumentException("Truncated id");
+            }
+            return new TransactionCursor(
+                    LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    UUID.fromString(raw.substring(separatorIndex + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid pagination cursor.", e);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.budgetwise.api.transaction;
+
+import com.budgetwise.api.transaction.dto.TransactionRequest;
+import com.budgetwise.api.transaction.dto.TransactionResponse;
+
+public interface TransactionGroupCommitService {
+    boolean isEnabled();
+    TransactionResponse createTransaction(TransactionRequest request);
+}
@@ -1,99 +1,224 @@
 package com.budgetwise.api.transaction;
 
+import com.budgetwise.api.analytics.dto.SpendingColumnRow;
+import com.budgetwise.api.budget.dto.BudgetForecastRow;
 import com.budgetwise.api.category.Category;
-import com.budgetwise.api.category.enums.CategoryType;
-import com.budgetwise.api.dashboard.dto.CategorySpending;
-import com.budgetwise.api.dashboard.dto.DailySpending;
 import com.budgetwise.api.dashboard.dto.TopTransaction;
+import com.budgetwise.api.statementimport.dto.ExistingTransactionFingerprint;
+import com.budgetwise.api.transaction.dto.DescriptionUsage;
+import com.budgetwise.api.transaction.dto.TransactionResponse;
 import com.budgetwise.api.user.User;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface TransactionRepository extends JpaRepository<Transaction, UUID> {
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+public interface TransactionRepository extends JpaRepository<Transaction, UUID>, TransactionSearchRepository {
     // Efficiently checks if any transaction is linked to this category
     boolean existsByCategory(Category category);
 
-    List<Transaction> findByUserAndCategoryAndTransactionDateBetween(
-            User user, Category category, LocalDateTime start, LocalDateTime end
+    // Total amount of one category over a half-open date range, summed by the database
+    @Query("SELECT COALESCE(SUM(t.amount), 0) FROM Transaction t WHERE t.user = :user " +
+            "AND t.category = :category " +
+            "AND t.transactionDate >= :startDate AND t.transactionDate < :endDate")
+    BigDecimal sumAmountByCategory(
+            @Param("user") User user,
+            @Param("category") Category category,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
     );
 
+    // Loads a transaction together with its category, which every response needs
+    @EntityGraph(attributePaths = "category")
+    Optional<Transaction> findWithCategoryById(UUID id);
+
+    @EntityGraph(attributePaths = "category")
+    List<Transaction> findWithCategoryByIdIn(Collection<UUID> ids);
+
+    // --- READ PROJECTIONS ---
+    // List, page and export queries select the TransactionResponse columns directly, joining the
+    // category in the same statement instead of lazily loading it for every mapped row.
+
+    String RESPONSE_PROJECTION = "SELECT new com.budgetwise.api.transaction.dto.TransactionResponse(" +
+            "t.id, t.amount, t.description, t.transactionDate, c.id, c.name, c.categoryType) " +
+            "FROM Transaction t JOIN t.category c ";
+
     // Finds all transactions for a user, ordered by the most recent first
-    @Query("SELECT t FROM Transaction t WHERE t.user = :user " +
+    @Query(RESPONSE_PROJECTION + "WHERE t.user = :user " +
             "ORDER BY t.transactionDate DESC")
-    List<Transaction> findAllByUser(@Param("user") User user);
+    List<TransactionResponse> findAllByUser(@Param("user") User user);
 
     // Finds all transactions for a user within a given date range, ordered by the most recent first
-    @Query("SELECT t FROM Transaction t WHERE t.user = :user " +
+    @Query(RESPONSE_PROJECTION + "WHERE t.user = :user " +
             "AND t.transactionDate >= :startDate " +
             "AND t.transactionDate < :endDate " +
             "ORDER BY t.transactionDate DESC")
-    List<Transaction> findByUserAndDateRange(@Param("user") User user, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+    List<TransactionResponse> findByUserAndDateRange(@Param("user") User user, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
 
-    // --- METHODS FOR DASHBOARD ---
+    // Transactions created or updated after the given instant, for incremental sync
+    @Query(RESPONSE_PROJECTION + "WHERE t.user = :user AND t.updatedAt > :since " +
+            "ORDER BY t.updatedAt")
+    List<TransactionResponse> findUpdatedSince(@Param("user") User user, @Param("since") Instant since);
 
-    /**
-     * Calculates the total sum of transactions for a user within a date range,
-     * filtered by the category type (INCOME or EXPENSE).
-     */
-    @Query("SELECT COALESCE(SUM(t.amount), 0) FROM Transaction t WHERE t.user = :user " +
-            "AND t.category.categoryType = :type " +
-            "AND t.transactionDate >= :startDate AND t.transactionDate < :endDate")
-    BigDecimal sumAmountByCategoryType(
+    // --- KEYSET PAGINATION ---
+    // Both queries order by (transactionDate DESC, id DESC) so that the id breaks ties between
+    // transactions sharing the same timestamp. Seeking past the cursor instead of using OFFSET
+    // keeps every page equally cheap, however deep the client scrolls.
+
+    @Query(RESPONSE_PROJECTION + "WHERE t.user = :user " +
+            "AND t.transactionDate >= :startDate " +
+            "AND t.transactionDate < :endDate " +
+            "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<TransactionResponse> findFirstPage(
             @Param("user") User user,
-            @Param("type") CategoryType type,
             @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate
+            @Param("endDate") LocalDateTime endDate,
+            Limit limit
+    );
+
+    @Query(RESPONSE_PROJECTION + "WHERE t.user = :user " +
+            "AND t.transactionDate >= :startDate " +
+            "AND t.transactionDate < :endDate " +
+            "AND (t.transactionDate < :cursorDate OR (t.transactionDate = :cursorDate AND t.id < :cursorId)) " +
+            "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<TransactionResponse> findPageAfterCursor(
+            @Param("user") User user,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            @Param("cursorDate") LocalDateTime cursorDate,
+            @Param("cursorId") UUID cursorId,
+            Limit limit
     );
 
     /**
-     * Groups all expenses by category and calculates the total amount for each,
-     * providing data for a spending breakdown pie chart.
+     * Streams a user's transactions in a date range, most recent first, for the CSV export.
+     * Rows are read from a forward-only cursor in chunks of the fetch size instead of being
+     * materialized as one list. The stream must be consumed and closed inside a transaction.
      */
-    @Query("SELECT new com.budgetwise.api.dashboard.dto.CategorySpending(t.category.name, SUM(t.amount)) " +
-            "FROM Transaction t WHERE t.user = :user " +
-            "AND t.category.categoryType = com.budgetwise.api.category.enums.CategoryType.EXPENSE " +
-            "AND t.transactionDate >= :startDate AND t.transactionDate < :endDate " +
-            "GROUP BY t.category.name ORDER BY SUM(t.amount) DESC")
-    List<CategorySpending> findExpenseBreakdownByCategory(
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(RESPONSE_PROJECTION + "WHERE t.user = :user " +
+            "AND t.transactionDate >= :startDate " +
+            "AND t.transactionDate < :endDate " +
+            "ORDER BY t.transactionDate DESC")
+    Stream<TransactionResponse> streamByUserAndDateRange(
             @Param("user") User user,
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate
     );
 
     /**
-     * Groups all expenses by day and calculates the total amount for each day,
-     * providing data for a spending trend line chart.
-     * NOTE: The function used to truncate the date may be database-specific.
-     * DATE() is standard for MariaDB/MySQL. For PostgreSQL, it's DATE_TRUNC('day', ...).
+     * Full-text search over descriptions, ranked by relevance then date. The query must already be
+     * in boolean-mode syntax. Ids are bound as strings, and rows come back as
+     * [id, amount, description, transaction_date, category_id, category_name, category_type, relevance].
+     * <p>
+     * ft_transactions_description covers every user's rows, and InnoDB cannot combine it with
+     * user_id: MATCH collects the matching rows of all users first and the user and date filters
+     * are applied to each of them. The cost therefore grows with how often the terms occur across
+     * the whole table, short prefixes most of all, not with the size of the user's history.
+     * TextSearchBenchmark measures it against the 50 ms target with 100k rows per user and four
+     * other users sharing the vocabulary.
      */
-    @Query("SELECT new com.budgetwise.api.dashboard.dto.DailySpending(DATE(t.transactionDate), CAST(SUM(t.amount) AS double)) " +
-            "FROM Transaction t WHERE t.user = :user " +
-            "AND t.category.categoryType = com.budgetwise.api.category.enums.CategoryType.EXPENSE " +
-            "AND t.transactionDate >= :startDate AND t.transactionDate < :endDate " +
-            "GROUP BY DATE(t.transactionDate) ORDER BY DATE(t.transactionDate) ASC")
-    List<DailySpending> findSpendingTrendByDay(
+    @Query(value = "SELECT t.id, t.amount, t.description, t.transaction_date, " +
+            "c.id AS category_id, c.name AS category_name, c.category_type, " +
+            "MATCH(t.description) AGAINST (:query IN BOOLEAN MODE) AS relevance " +
+            "FROM transactions t JOIN categories c ON c.id = t.category_id " +
+            "WHERE MATCH(t.description) AGAINST (:query IN BOOLEAN MODE) " +
+            "AND t.user_id = :userId " +
+            "AND t.transaction_date >= :startDate AND t.transaction_date < :endDate " +
+            "AND (:categoryId IS NULL OR t.category_id = :categoryId) " +
+            "ORDER BY relevance DESC, t.transaction_date DESC " +
+            "LIMIT :limit", nativeQuery = true)
+    List<Object[]> searchDescriptions(
+            @Param("userId") String userId,
+            @Param("query") String query,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            @Param("categoryId") String categoryId,
+            @Param("limit") int limit
+    );
+
+    // Usage of each distinct description per category, used to build a user's autocomplete index
+    @Query("SELECT new com.budgetwise.api.transaction.dto.DescriptionUsage(" +
+            "t.description, c.id, c.name, COUNT(t), MAX(t.transactionDate)) " +
+            "FROM Transaction t JOIN t.category c " +
+            "WHERE t.user = :user AND t.description IS NOT NULL " +
+            "GROUP BY t.description, c.id, c.name")
+    List<DescriptionUsage> findDescriptionUsageByUser(@Param("user") User user);
+
+    // Reads only the columns the statement import needs to detect duplicates within a date range
+    @Query("SELECT new com.budgetwise.api.statementimport.dto.ExistingTransactionFingerprint(" +
+            "t.transactionDate, c.categoryType, t.amount, t.description) " +
+            "FROM Transaction t JOIN t.category c WHERE t.user = :user " +
+            "AND t.transactionDate >= :startDate " +
+            "AND t.transactionDate < :endDate")
+    List<ExistingTransactionFingerprint> findFingerprintsByUserAndDateRange(
             @Param("user") User user,
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate
     );
 
+    // --- METHODS FOR DASHBOARD ---
+    // Totals, breakdown and trend are read from DailySpendingRollupRepository.
+
     /**
-     * Finds the single largest expense transaction for a user within a given date range.
+     * Finds the largest transaction of one category within a date range. The dashboard first
+     * finds the day and category holding the largest expense from the daily rollups, so this
+     * only reads that one day on idx_transactions_user_category_date.
      */
     @Query("SELECT new com.budgetwise.api.dashboard.dto.TopTransaction(t.id, t.description, t.amount, t.transactionDate) " +
-            "FROM Transaction t WHERE t.user = :user " +
-            "AND t.category.categoryType = com.budgetwise.api.category.enums.CategoryType.EXPENSE " +
+            "FROM Transaction t WHERE t.user = :user AND t.category.id = :categoryId " +
             "AND t.transactionDate >= :startDate AND t.transactionDate < :endDate " +
             "ORDER BY t.amount DESC LIMIT 1")
-    TopTransaction findTopExpenseTransaction(
+    TopTransaction findTopTransactionInCategory(
             @Param("user") User user,
+            @Param("categoryId") UUID categoryId,
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate
     );
-}
\ No newline at end of file
+
+    // --- METHODS FOR BUDGET FORECASTS ---
+
+    /**
+     * All transactions of a user in a half-open date range, reduced to what the budget forecast
+     * needs: a range read on the (user_id, transaction_date) primary key.
+     */
+    @Query("SELECT new com.budgetwise.api.budget.dto.BudgetForecastRow(t.category.id, t.transactionDate, " +
+            "CAST(t.amount * 10000 AS Long), " +
+            "CASE WHEN t.recurringTransaction IS NULL THEN false ELSE true END) " +
+            "FROM Transaction t WHERE t.user.id = :userId " +
+            "AND t.transactionDate >= :startDate AND t.transactionDate < :endDate")
+    List<BudgetForecastRow> findForecastRows(
+            @Param("userId") UUID userId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
+
+    // --- METHODS FOR THE SPENDING COLUMNS ---
+
+    /**
+     * Streams every transaction of a user in date order, reduced to day, category and amount:
+     * one range scan of the (user_id, transaction_date, id) primary key, already in the order the
+     * columns are kept in. The stream must be consumed and closed inside a transaction. Amounts
+     * are read as minor units, so loading allocates no decimal per row. The limit stops the scan of
+     * a user too large to keep in memory.
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.budgetwise.api.analytics.dto.SpendingColumnRow(t.transactionDate, t.category.id, " +
+            "CAST(t.amount * 10000 AS Long)) " +
+            "FROM Transaction t WHERE t.user.id = :userId ORDER BY t.transactionDate")
+    Stream<SpendingColumnRow> streamSpendingColumnRows(@Param("userId") UUID userId, Limit limit);
+}
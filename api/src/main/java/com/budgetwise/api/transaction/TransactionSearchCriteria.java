@@ -0,0 +1,30 @@
+package com.budgetwise.api.transaction;
+
+import com.budgetwise.api.category.enums.CategoryType;
+import com.budgetwise.api.transaction.enums.TransactionSortOrder;
+import com.budgetwise.api.user.User;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resolved search filters. The user and the date bounds are always set, so every search
+ * can use the (user_id, transaction_date) or (user_id, category_id, transaction_date) index.
+ * The other filters are null when not requested.
+ */
+public record TransactionSearchCriteria(
+        User user,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        List<UUID> categoryIds,
+        CategoryType categoryType,
+        BigDecimal minAmount,
+        BigDecimal maxAmount,
+        Boolean automatic,
+        UUID recurringTransactionId,
+        Boolean hasReceipt,
+        TransactionSortOrder sort
+) {
+}
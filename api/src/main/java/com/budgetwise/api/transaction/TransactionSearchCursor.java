@@ -0,0 +1,75 @@
+package com.budgetwise.api.transaction;
+
+import com.budgetwise.api.transaction.dto.TransactionResponse;
+import com.budgetwise.api.transaction.enums.TransactionSortOrder;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position for a search page: the sort key of the last returned row plus its id.
+ * The sort order is part of the token so a cursor cannot be replayed against another sort.
+ */
+public record TransactionSearchCursor(TransactionSortOrder sort, String sortValue, UUID id) {
+
+    private static final String SEPARATOR = "|";
+    private static final int ID_LENGTH = 36;
+
+    public static TransactionSearchCursor of(TransactionSortOrder sort, TransactionResponse transaction) {
+        String sortValue = sort.isByAmount()
+                ? transaction.getAmount().toPlainString()
+                : transaction.getTransactionDate().toString();
+        return new TransactionSearchCursor(sort, sortValue, transaction.getId());
+    }
+
+    public BigDecimal amountValue() {
+        return new BigDecimal(sortValue);
+    }
+
+    public LocalDateTime dateValue() {
+        return LocalDateTime.parse(sortValue);
+    }
+
+    public String encode() {
+        String raw = sort.name() + SEPARATOR + sortValue + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()} for the given sort order.
+     *
+     * @throws IllegalArgumentException if the token is malformed or was issued for another sort order.
+     */
+    public static TransactionSearchCursor decode(String token, TransactionSortOrder expectedSort) {
+        TransactionSearchCursor cursor;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            // UUID.fromString also accepts shortened groups, which is what a truncated token ends in
+            if (parts[2].length() != ID_LENGTH) {
+                throw new IllegalArgumentException("Truncated id: " + parts[2]);
+            }
+            cursor = new TransactionSearchCursor(
+                    TransactionSortOrder.valueOf(parts[0]),
+                    parts[1],
+                    UUID.fromString(parts[2])
+            );
+            // Validate the sort value eagerly so a bad token fails here rather than in the query
+            if (cursor.sort().isByAmount()) {
+                cursor.amountValue();
+            } else {
+                cursor.dateValue();
+            }
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid pagination cursor.", e);
+        }
+        if (cursor.sort() != expectedSort) {
+            throw new IllegalArgumentException("The pagination cursor was issued for a different sort order.");
+        }
+        return cursor;
+    }
+}
@@ -0,0 +1,25 @@
+package com.budgetwise.api.transaction;
+
+import com.budgetwise.api.transaction.dto.CategoryFacetCount;
+import com.budgetwise.api.transaction.dto.CategoryTypeFacetCount;
+import com.budgetwise.api.transaction.dto.TransactionResponse;
+
+import java.util.List;
+
+/**
+ * Dynamic transaction queries, built from whichever filters the client supplied.
+ */
+public interface TransactionSearchRepository {
+
+    /**
+     * Returns at most {@code limit} matching transactions in the criteria's sort order,
+     * starting after {@code after} (or from the beginning when it is null).
+     */
+    List<TransactionResponse> search(TransactionSearchCriteria criteria, TransactionSearchCursor after, int limit);
+
+    // Counts per category for the criteria, ignoring the criteria's own category filter
+    List<CategoryFacetCount> countByCategory(TransactionSearchCriteria criteria);
+
+    // Counts per category type for the criteria, ignoring the criteria's own type filter
+    List<CategoryTypeFacetCount> countByCategoryType(TransactionSearchCriteria criteria);
+}
@@ -0,0 +1,145 @@
+package com.budgetwise.api.transaction;
+
+import com.budgetwise.api.category.Category;
+import com.budgetwise.api.category.enums.CategoryType;
+import com.budgetwise.api.receipt.Receipt;
+import com.budgetwise.api.transaction.dto.CategoryFacetCount;
+import com.budgetwise.api.transaction.dto.CategoryTypeFacetCount;
+import com.budgetwise.api.transaction.dto.TransactionResponse;
+import com.budgetwise.api.transaction.enums.TransactionSortOrder;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Criteria API implementation of {@link TransactionSearchRepository}. Only the predicates for the
+ * filters that are actually set are added, and the user and date range always lead, so MariaDB
+ * can range-scan the composite indexes instead of evaluating catch-all "param IS NULL OR ..." clauses.
+ */
+public class TransactionSearchRepositoryImpl implements TransactionSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TransactionResponse> search(TransactionSearchCriteria criteria, TransactionSearchCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TransactionResponse> query = cb.createQuery(TransactionResponse.class);
+        Root<Transaction> t = query.from(Transaction.class);
+        Join<Transaction, Category> c = t.join("category");
+
+        List<Predicate> predicates = buildPredicates(cb, query, t, c, criteria, true, true);
+        if (after != null) {
+            predicates.add(seekAfter(cb, t, after));
+        }
+
+        TransactionSortOrder sort = criteria.sort();
+        Expression<?> sortKey = sort.isByAmount() ? t.get("amount") : t.get("transactionDate");
+        query.select(cb.construct(TransactionResponse.class,
+                        t.get("id"), t.get("amount"), t.get("description"), t.get("transactionDate"),
+                        c.get("id"), c.get("name"), c.get("categoryType")))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(sort.isDescending()
+                        ? List.of(cb.desc(sortKey), cb.desc(t.get("id")))
+                        : List.of(cb.asc(sortKey), cb.asc(t.get("id"))));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<CategoryFacetCount> countByCategory(TransactionSearchCriteria criteria) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CategoryFacetCount> query = cb.createQuery(CategoryFacetCount.class);
+        Root<Transaction> t = query.from(Transaction.class);
+        Join<Transaction, Category> c = t.join("category");
+
+        query.select(cb.construct(CategoryFacetCount.class, c.get("id"), c.get("name"), cb.count(t)))
+                .where(buildPredicates(cb, query, t, c, criteria, false, true).toArray(Predicate[]::new))
+                .groupBy(c.get("id"), c.get("name"))
+                .orderBy(cb.desc(cb.count(t)));
+
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public List<CategoryTypeFacetCount> countByCategoryType(TransactionSearchCriteria criteria) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CategoryTypeFacetCount> query = cb.createQuery(CategoryTypeFacetCount.class);
+        Root<Transaction> t = query.from(Transaction.class);
+        Join<Transaction, Category> c = t.join("category");
+
+        query.select(cb.construct(CategoryTypeFacetCount.class, c.get("categoryType"), cb.count(t)))
+                .where(buildPredicates(cb, query, t, c, criteria, true, false).toArray(Predicate[]::new))
+                .groupBy(c.get("categoryType"));
+
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    private List<Predicate> buildPredicates(
+            CriteriaBuilder cb,
+            CriteriaQuery<?> query,
+            Root<Transaction> t,
+            Join<Transaction, Category> c,
+            TransactionSearchCriteria criteria,
+            boolean applyCategoryFilter,
+            boolean applyTypeFilter
+    ) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(t.get("user"), criteria.user()));
+        predicates.add(cb.greaterThanOrEqualTo(t.<LocalDateTime>get("transactionDate"), criteria.startDate()));
+        predicates.add(cb.lessThan(t.<LocalDateTime>get("transactionDate"), criteria.endDate()));
+
+        if (applyCategoryFilter && criteria.categoryIds() != null && !criteria.categoryIds().isEmpty()) {
+            predicates.add(t.get("category").get("id").in(criteria.categoryIds()));
+        }
+        if (applyTypeFilter && criteria.categoryType() != null) {
+            predicates.add(cb.equal(c.<CategoryType>get("categoryType"), criteria.categoryType()));
+        }
+        if (criteria.minAmount() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(t.<BigDecimal>get("amount"), criteria.minAmount()));
+        }
+        if (criteria.maxAmount() != null) {
+            predicates.add(cb.lessThanOrEqualTo(t.<BigDecimal>get("amount"), criteria.maxAmount()));
+        }
+        if (criteria.automatic() != null) {
+            predicates.add(cb.equal(t.get("isCreatedAutomatically"), criteria.automatic()));
+        }
+        if (criteria.recurringTransactionId() != null) {
+            predicates.add(cb.equal(t.get("recurringTransaction").get("id"), criteria.recurringTransactionId()));
+        }
+        if (criteria.hasReceipt() != null) {
+            Subquery<Integer> receipts = query.subquery(Integer.class);
+            Root<Receipt> r = receipts.from(Receipt.class);
+            receipts.select(cb.literal(1)).where(cb.equal(r.get("transaction"), t));
+            predicates.add(criteria.hasReceipt() ? cb.exists(receipts) : cb.not(cb.exists(receipts)));
+        }
+        return predicates;
+    }
+
+    private static Predicate seekAfter(CriteriaBuilder cb, Root<Transaction> t, TransactionSearchCursor after) {
+        boolean descending = after.sort().isDescending();
+        Path<UUID> id = t.get("id");
+        if (after.sort().isByAmount()) {
+            return seek(cb, t.<BigDecimal>get("amount"), after.amountValue(), id, after.id(), descending);
+        }
+        return seek(cb, t.<LocalDateTime>get("transactionDate"), after.dateValue(), id, after.id(), descending);
+    }
+
+    // (key, id) strictly after (value, lastId) in the given direction
+    private static <Y extends Comparable<? super Y>> Predicate seek(
+            CriteriaBuilder cb, Expression<Y> key, Y value, Expression<UUID> id, UUID lastId, boolean descending
+    ) {
+        if (descending) {
+            return cb.or(cb.lessThan(key, value), cb.and(cb.equal(key, value), cb.lessThan(id, lastId)));
+        }
+        return cb.or(cb.greaterThan(key, value), cb.and(cb.equal(key, value), cb.greaterThan(id, lastId)));
+    }
+}
@@ -1,8 +1,12 @@
 package com.budgetwise.api.transaction;
 
 import com.budgetwise.api.transaction.dto.CreateTransactionFromTemplateRequest;
+import com.budgetwise.api.transaction.dto.TransactionPageResponse;
 import com.budgetwise.api.transaction.dto.TransactionRequest;
 import com.budgetwise.api.transaction.dto.TransactionResponse;
+import com.budgetwise.api.transaction.dto.TransactionSearchRequest;
+import com.budgetwise.api.transaction.dto.TransactionSearchResponse;
+import com.budgetwise.api.transaction.dto.TransactionTextSearchHit;
 import jakarta.servlet.http.HttpServletResponse;
 
 import java.io.IOException;
@@ -14,8 +18,11 @@ public interface TransactionService {
     TransactionResponse createTransaction(TransactionRequest request);
     TransactionResponse createTransactionFromTemplate(UUID templateId, CreateTransactionFromTemplateRequest request);
     List<TransactionResponse> getTransactions(LocalDate startDate, LocalDate endDate);
+    TransactionPageResponse getTransactionPage(LocalDate startDate, LocalDate endDate, String cursor, Integer limit);
+    TransactionSearchResponse searchTransactions(TransactionSearchRequest request);
+    List<TransactionTextSearchHit> searchTransactionText(String query, LocalDate startDate, LocalDate endDate, UUID categoryId, Integer limit);
     TransactionResponse getTransactionById(UUID id);
     TransactionResponse updateTransaction(UUID id, TransactionRequest request);
     void deleteTransaction(UUID id);
-    void exportTransactionsToCsv(HttpServletResponse response, LocalDate startDate, LocalDate endDate) throws IOException;
+    void exportTransactionsToCsv(HttpServletResponse response, LocalDate startDate, LocalDate endDate, boolean gzip) throws IOException;
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.budgetwise.api.transaction.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+public class CategoryFacetCount {
+    private UUID categoryId;
+    private String categoryName;
+    private Long count;
+}
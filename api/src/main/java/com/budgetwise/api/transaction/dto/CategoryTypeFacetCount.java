@@ -0,0 +1,12 @@
+package com.budgetwise.api.transaction.dto;
+
+import com.budgetwise.api.category.enums.CategoryType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CategoryTypeFacetCount {
+    private CategoryType categoryType;
+    private Long count;
+}
@@ -0,0 +1,20 @@
+package com.budgetwise.api.transaction.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class DescriptionSuggestion {
+    private String description;
+    private long usageCount;
+    private LocalDateTime lastUsedAt;
+    // The category this description was most often recorded under
+    private UUID suggestedCategoryId;
+    private String suggestedCategoryName;
+}
@@ -0,0 +1,14 @@
+package com.budgetwise.api.transaction.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// How often a description was used with one category, read when an autocomplete index is built
+public record DescriptionUsage(
+        String description,
+        UUID categoryId,
+        String categoryName,
+        Long usageCount,
+        LocalDateTime lastUsedAt
+) {
+}
@@ -0,0 +1,15 @@
+package com.budgetwise.api.transaction.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class TransactionPageResponse {
+    private List<TransactionResponse> items;
+    // Opaque token to pass back as "cursor" to fetch the next page; null on the last page
+    private String nextCursor;
+    private boolean hasMore;
+}
@@ -1,7 +1,9 @@
 package com.budgetwise.api.transaction.dto;
 
+import com.budgetwise.api.transaction.Transaction;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.Builder;
 import lombok.Data;
 
@@ -17,6 +19,7 @@ public class TransactionRequest {
     @DecimalMin(value = "0.01", message = "Amount must be positive")
     private BigDecimal amount;
 
+    @Size(max = Transaction.DESCRIPTION_MAX_LENGTH, message = "Description must be at most 255 characters")
     private String description;
 
     @NotNull(message = "Transaction date is required")
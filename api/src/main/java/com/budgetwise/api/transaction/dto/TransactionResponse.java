@@ -1,8 +1,10 @@
 package com.budgetwise.api.transaction.dto;
 
 import com.budgetwise.api.category.enums.CategoryType;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -10,6 +12,8 @@ import java.util.UUID;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class TransactionResponse {
     private UUID id;
     private BigDecimal amount;
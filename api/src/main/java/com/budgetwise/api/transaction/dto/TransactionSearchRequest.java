@@ -0,0 +1,54 @@
+package com.budgetwise.api.transaction.dto;
+
+import com.budgetwise.api.category.enums.CategoryType;
+import com.budgetwise.api.transaction.enums.TransactionSortOrder;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Query parameters of GET /transactions/search. Every filter is optional and they are combined with AND.
+ */
+@Data
+public class TransactionSearchRequest {
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startDate;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate endDate;
+
+    private List<UUID> categoryIds;
+
+    private CategoryType categoryType;
+
+    @DecimalMin(value = "0", message = "Minimum amount must not be negative")
+    private BigDecimal minAmount;
+
+    @DecimalMin(value = "0", message = "Maximum amount must not be negative")
+    private BigDecimal maxAmount;
+
+    // true = created by a recurring rule, false = entered manually
+    private Boolean automatic;
+
+    private UUID recurringTransactionId;
+
+    private Boolean hasReceipt;
+
+    private TransactionSortOrder sort = TransactionSortOrder.DATE_DESC;
+
+    private String cursor;
+
+    @Min(value = 1, message = "Limit must be at least 1")
+    @Max(value = 200, message = "Limit must be at most 200")
+    private Integer limit;
+
+    // Facet counts are only computed for the first page unless asked otherwise
+    private boolean includeFacets = true;
+}
@@ -0,0 +1,17 @@
+package com.budgetwise.api.transaction.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class TransactionSearchResponse {
+    private List<TransactionResponse> items;
+    private String nextCursor;
+    private boolean hasMore;
+    // Only present on the first page
+    private List<CategoryFacetCount> categoryFacets;
+    private List<CategoryTypeFacetCount> categoryTypeFacets;
+}
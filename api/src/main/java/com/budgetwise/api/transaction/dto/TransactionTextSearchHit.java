@@ -0,0 +1,12 @@
+package com.budgetwise.api.transaction.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class TransactionTextSearchHit {
+    private TransactionResponse transaction;
+    // MariaDB full-text relevance; only meaningful for comparing hits of the same query
+    private double relevance;
+}
@@ -0,0 +1,17 @@
+package com.budgetwise.api.transaction.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TransactionSortOrder {
+    DATE_DESC("Newest first", false, true),
+    DATE_ASC("Oldest first", false, false),
+    AMOUNT_DESC("Largest amount first", true, true),
+    AMOUNT_ASC("Smallest amount first", true, false);
+
+    private final String name;
+    private final boolean byAmount;
+    private final boolean descending;
+}
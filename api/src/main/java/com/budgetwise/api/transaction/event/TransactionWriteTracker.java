@@ -0,0 +1,72 @@
+package com.budgetwise.api.transaction.event;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Tells in-memory views that are loaded from the database and then kept current from
+ * {@link TransactionsChangedEvent}s whether a load can be trusted. A write of a user's transactions
+ * is in flight from its first flushed change until the event listeners have run after its commit,
+ * or until it rolled back. A load that overlapped such a write may or may not contain it, while its
+ * event may arrive before or after the view is installed, so the change could be missed or counted
+ * twice. A load that started with no write of the user in flight, and saw none start before it
+ * finished, read exactly the data the following events build on.
+ * <p>
+ * Views install their result before calling {@link #finishLoad} and drop it again if the load
+ * overlapped a write: a write that starts after the check then finds the view in place.
+ */
+@Component
+public class TransactionWriteTracker {
+
+    // Both guarded by "this"
+    private final Map<UUID, Integer> writesInFlight = new HashMap<>();
+    private final Map<UUID, List<Load>> loadsInProgress = new HashMap<>();
+
+    public synchronized Load startLoad(UUID userId) {
+        Load load = new Load(userId, writesInFlight.containsKey(userId));
+        loadsInProgress.computeIfAbsent(userId, id -> new ArrayList<>(1)).add(load);
+        return load;
+    }
+
+    /**
+     * Ends a load and returns whether it can be kept, i.e. no write of the user overlapped it.
+     */
+    public synchronized boolean finishLoad(Load load) {
+        List<Load> loads = loadsInProgress.get(load.userId);
+        if (loads != null && loads.remove(load) && loads.isEmpty()) {
+            loadsInProgress.remove(load.userId);
+        }
+        return !load.overlapped;
+    }
+
+    /**
+     * Called by the write path before the first change of a user's transactions reaches the
+     * database, and paired with one {@link #writeFinished} once the transaction has completed.
+     */
+    public synchronized void writeStarted(UUID userId) {
+        writesInFlight.merge(userId, 1, Integer::sum);
+        List<Load> loads = loadsInProgress.get(userId);
+        if (loads != null) {
+            loads.forEach(load -> load.overlapped = true);
+        }
+    }
+
+    public synchronized void writeFinished(UUID userId) {
+        writesInFlight.computeIfPresent(userId, (id, count) -> count > 1 ? count - 1 : null);
+    }
+
+    public static final class Load {
+        private final UUID userId;
+        private boolean overlapped;
+
+        private Load(UUID userId, boolean overlapped) {
+            this.userId = userId;
+            this.overlapped = overlapped;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.budgetwise.api.transaction.event;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published after a database transaction that wrote transactions of a user has committed, once per
+ * user. An update appears as the removal of the old row followed by the addition of the new one.
+ * Listeners run on the committing thread, after the commit, so they must be quick and must not
+ * throw. {@code recurring} marks rows generated from a recurring transaction rule.
+ */
+public record TransactionsChangedEvent(UUID userId, List<Change> changes) {
+
+    public record Change(UUID categoryId, LocalDate date, BigDecimal amount, boolean added, boolean recurring) {
+    }
+}
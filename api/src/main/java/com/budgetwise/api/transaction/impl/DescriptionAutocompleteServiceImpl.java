@@ -0,0 +1,220 @@
+package com.budgetwise.api.transaction.impl;
+
+import com.budgetwise.api.category.Category;
+import com.budgetwise.api.security.SecurityUtils;
+import com.budgetwise.api.transaction.DescriptionAutocompleteService;
+import com.budgetwise.api.transaction.TransactionRepository;
+import com.budgetwise.api.transaction.dto.DescriptionSuggestion;
+import com.budgetwise.api.transaction.dto.DescriptionUsage;
+import com.budgetwise.api.transaction.event.TransactionWriteTracker;
+import com.budgetwise.api.user.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Serves description suggestions from per-user indexes held in memory. An index is built from the
+ * database the first time its user asks for suggestions and then kept current from the write
+ * paths. Indexes are kept in least-recently-used order and the oldest are dropped once the total
+ * number of entries exceeds the configured cap; each index keeps at most the per-user cap of its
+ * most used descriptions.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DescriptionAutocompleteServiceImpl implements DescriptionAutocompleteService {
+
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 25;
+
+    private final TransactionRepository transactionRepository;
+    private final SecurityUtils securityUtils;
+    private final TransactionWriteTracker writeTracker;
+
+    @Value("${transaction.autocomplete.max-entries:200000}")
+    private int maxEntries;
+
+    @Value("${transaction.autocomplete.max-entries-per-user:5000}")
+    private int maxEntriesPerUser;
+
+    // Access-ordered, guarded by "this"
+    private final LinkedHashMap<UUID, UserDescriptionIndex> indexes = new LinkedHashMap<>(16, 0.75f, true);
+    // Builds in progress per user, guarded by "this"; a change applied during a build makes it stale
+    private final Map<UUID, List<Build>> buildsInProgress = new HashMap<>();
+    private long totalEntries;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DescriptionSuggestion> suggest(String prefix, Integer limit) {
+        int resultLimit = (limit != null) ? limit : DEFAULT_LIMIT;
+        if (resultLimit < 1 || resultLimit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT + ".");
+        }
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+
+        User currentUser = securityUtils.getCurrentUser();
+        return getOrBuildIndex(currentUser).suggest(prefix, resultLimit);
+    }
+
+    @Override
+    public void descriptionAdded(UUID userId, String description, Category category, LocalDateTime transactionDate) {
+        if (description == null || description.isBlank()) {
+            return;
+        }
+        UUID categoryId = category.getId();
+        String categoryName = category.getName();
+        afterCommit(userId, index -> index.add(description, categoryId, categoryName, 1, transactionDate));
+    }
+
+    @Override
+    public void descriptionRemoved(UUID userId, String description, UUID categoryId) {
+        if (description == null || description.isBlank()) {
+            return;
+        }
+        afterCommit(userId, index -> index.remove(description, categoryId));
+    }
+
+    @Override
+    public void invalidate(UUID userId) {
+        afterCommit(userId, null);
+    }
+
+    private UserDescriptionIndex getOrBuildIndex(User user) {
+        UUID userId = user.getId();
+        Build build = new Build();
+        synchronized (this) {
+            UserDescriptionIndex index = indexes.get(userId);
+            if (index != null) {
+                return index;
+            }
+            buildsInProgress.computeIfAbsent(userId, id -> new ArrayList<>(1)).add(build);
+        }
+
+        // The query runs outside the lock so one user's build never blocks other users
+        TransactionWriteTracker.Load load = writeTracker.startLoad(userId);
+        UserDescriptionIndex index;
+        boolean installed = false;
+        boolean exact;
+        try {
+            index = build(user);
+            synchronized (this) {
+                // Another build may have installed its index first; this one is then served once
+                if (!build.stale && !indexes.containsKey(userId)) {
+                    indexes.put(userId, index);
+                    totalEntries += index.size();
+                    evictOverCap();
+                    installed = true;
+                }
+            }
+        } finally {
+            exact = writeTracker.finishLoad(load);
+            synchronized (this) {
+                List<Build> builds = buildsInProgress.get(userId);
+                if (builds != null && builds.remove(build) && builds.isEmpty()) {
+                    buildsInProgress.remove(userId);
+                }
+            }
+        }
+
+        // A transaction write that overlapped the query may be counted in it and still be applied
+        // after commit, or the other way round; drop the index again so the next request rebuilds
+        if (installed && !exact) {
+            synchronized (this) {
+                if (indexes.get(userId) == index) {
+                    indexes.remove(userId);
+                    totalEntries -= index.size();
+                }
+            }
+        }
+        return index;
+    }
+
+    private UserDescriptionIndex build(User user) {
+        UserDescriptionIndex index = new UserDescriptionIndex();
+        for (DescriptionUsage usage : transactionRepository.findDescriptionUsageByUser(user)) {
+            if (!usage.description().isBlank()) {
+                index.add(usage.description(), usage.categoryId(), usage.categoryName(),
+                        usage.usageCount(), usage.lastUsedAt());
+            }
+        }
+        index.trimTo(maxEntriesPerUser);
+        return index;
+    }
+
+    /**
+     * Applies a change to a loaded index once the surrounding transaction has committed, so rolled
+     * back writes never show up in suggestions. A null change drops the user's index instead.
+     */
+    private void afterCommit(UUID userId, IndexChange change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(userId, change);
+                }
+            });
+        } else {
+            apply(userId, change);
+        }
+    }
+
+    private synchronized void apply(UUID userId, IndexChange change) {
+        List<Build> builds = buildsInProgress.get(userId);
+        if (builds != null) {
+            builds.forEach(build -> build.stale = true);
+        }
+        UserDescriptionIndex index = indexes.get(userId);
+        if (index == null) {
+            return;
+        }
+        totalEntries -= index.size();
+        if (change == null) {
+            indexes.remove(userId);
+            return;
+        }
+        change.applyTo(index);
+        index.trimTo(maxEntriesPerUser);
+        totalEntries += index.size();
+        evictOverCap();
+    }
+
+    private void evictOverCap() {
+        int evicted = 0;
+        Iterator<Map.Entry<UUID, UserDescriptionIndex>> eldest = indexes.entrySet().iterator();
+        // Always keep the most recently used index, even if it alone exceeds the cap
+        while (totalEntries > maxEntries && indexes.size() > 1 && eldest.hasNext()) {
+            Map.Entry<UUID, UserDescriptionIndex> entry = eldest.next();
+            totalEntries -= entry.getValue().size();
+            evicted++;
+            eldest.remove();
+        }
+        if (evicted > 0) {
+            log.debug("Evicted {} autocomplete indexes to stay under {} entries.", evicted, maxEntries);
+        }
+    }
+
+    // One build of a user's index, guarded by the service's monitor
+    private static final class Build {
+        private boolean stale;
+    }
+
+    @FunctionalInterface
+    private interface IndexChange {
+        void applyTo(UserDescriptionIndex index);
+    }
+}
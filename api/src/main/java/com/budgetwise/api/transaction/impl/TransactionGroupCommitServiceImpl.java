@@ -0,0 +1,255 @@
+package com.budgetwise.api.transaction.impl;
+
+import com.budgetwise.api.budget.BudgetAlertService;
+import com.budgetwise.api.category.Category;
+import com.budgetwise.api.category.CategoryRepository;
+import com.budgetwise.api.exception.ResourceNotFoundException;
+import com.budgetwise.api.exception.ServiceUnavailableException;
+import com.budgetwise.api.security.SecurityUtils;
+import com.budgetwise.api.transaction.DescriptionAutocompleteService;
+import com.budgetwise.api.transaction.Transaction;
+import com.budgetwise.api.transaction.TransactionGroupCommitService;
+import com.budgetwise.api.transaction.TransactionRepository;
+import com.budgetwise.api.transaction.dto.TransactionRequest;
+import com.budgetwise.api.transaction.dto.TransactionResponse;
+import com.budgetwise.api.transaction.mapper.TransactionMapper;
+import com.budgetwise.api.user.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Optional write path for single transaction inserts under high load. Callers do their reads
+ * (current user, category ownership) without holding a database transaction, then hand the new row
+ * to a writer thread. The writer collects rows until the batch is full or the linger time has
+ * passed, inserts them as one JDBC batch and commits once, so many requests share a single commit.
+ * If the batch fails, its rows are retried one by one so that each caller gets its own outcome.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransactionGroupCommitServiceImpl implements TransactionGroupCommitService {
+
+    private static final Duration IDLE_POLL = Duration.ofSeconds(1);
+
+    private final TransactionRepository transactionRepository;
+    private final CategoryRepository categoryRepository;
+    private final SecurityUtils securityUtils;
+    private final TransactionMapper transactionMapper;
+    private final BudgetAlertService budgetAlertService;
+    private final DescriptionAutocompleteService descriptionAutocompleteService;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${transaction.group-commit.enabled:false}")
+    private boolean enabled;
+
+    @Value("${transaction.group-commit.max-batch-size:100}")
+    private int maxBatchSize;
+
+    @Value("${transaction.group-commit.linger:5ms}")
+    private Duration linger;
+
+    @Value("${transaction.group-commit.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${transaction.group-commit.result-timeout:5s}")
+    private Duration resultTimeout;
+
+    private BlockingQueue<PendingInsert> queue;
+    private TransactionTemplate transactionTemplate;
+    private Thread writer;
+    private volatile boolean running;
+
+    private DistributionSummary batchSizes;
+    private Timer waitTimes;
+    private Counter batchFailures;
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        batchSizes = DistributionSummary.builder("transactions.group_commit.batch_size")
+                .description("Rows written per group commit")
+                .register(meterRegistry);
+        waitTimes = Timer.builder("transactions.group_commit.wait")
+                .description("Time from queueing a row to its commit")
+                .register(meterRegistry);
+        batchFailures = Counter.builder("transactions.group_commit.batch_failures")
+                .description("Group commits that failed and were retried row by row")
+                .register(meterRegistry);
+        meterRegistry.gauge("transactions.group_commit.queue_depth", queue, BlockingQueue::size);
+
+        running = true;
+        writer = new Thread(this::writeLoop, "transaction-group-commit");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("Transaction group commit enabled (max batch size {}, linger {}).", maxBatchSize, linger);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        writer.interrupt();
+        writer.join(resultTimeout.toMillis());
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public TransactionResponse createTransaction(TransactionRequest request) {
+        User currentUser = securityUtils.getCurrentUser();
+        Category category = findCategoryAndVerifyOwnership(request.getCategoryId(), currentUser);
+
+        Transaction transaction = Transaction.builder()
+                .amount(request.getAmount())
+                .description(request.getDescription())
+                .transactionDate(request.getTransactionDate())
+                .category(category)
+                .user(currentUser)
+                .isCreatedAutomatically(false)
+                .build();
+
+        PendingInsert pending = new PendingInsert(transaction, System.nanoTime());
+        if (!queue.offer(pending)) {
+            throw new ServiceUnavailableException("Too many transactions are waiting to be saved. Please retry shortly.");
+        }
+
+        Transaction saved = await(pending);
+        descriptionAutocompleteService.descriptionAdded(
+                currentUser.getId(), saved.getDescription(), category, saved.getTransactionDate());
+        budgetAlertService.checkBudgetAfterTransaction(saved);
+        return transactionMapper.toDto(saved);
+    }
+
+    private void writeLoop() {
+        List<PendingInsert> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingInsert first = queue.poll(IDLE_POLL.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + linger.toNanos();
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingInsert next = (remaining > 0) ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // Shutting down: drain whatever is already queued before exiting
+                queue.drainTo(batch, maxBatchSize - batch.size());
+            }
+
+            if (!batch.isEmpty()) {
+                try {
+                    write(batch);
+                } catch (Throwable e) {
+                    // E.g. an OutOfMemoryError: fail this batch but keep the writer alive for the next one
+                    log.error("Group commit of {} transactions failed unexpectedly.", batch.size(), e);
+                    batch.forEach(pending -> pending.result().completeExceptionally(e));
+                }
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<PendingInsert> batch) {
+        batchSizes.record(batch.size());
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    transactionRepository.saveAll(batch.stream().map(PendingInsert::transaction).toList()));
+            batch.forEach(this::complete);
+        } catch (RuntimeException e) {
+            batchFailures.increment();
+            log.warn("Group commit of {} transactions failed, retrying them one by one.", batch.size(), e);
+            for (PendingInsert pending : batch) {
+                // The id was assigned during the failed persist; clear it so the row is inserted again
+                pending.transaction().setId(null);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> transactionRepository.save(pending.transaction()));
+                    complete(pending);
+                } catch (RuntimeException rowError) {
+                    pending.result().completeExceptionally(rowError);
+                }
+            }
+        }
+    }
+
+    private void complete(PendingInsert pending) {
+        waitTimes.record(System.nanoTime() - pending.queuedAt(), TimeUnit.NANOSECONDS);
+        pending.result().complete(pending.transaction());
+    }
+
+    private Transaction await(PendingInsert pending) {
+        try {
+            try {
+                return pending.result().get(resultTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // Still queued: withdraw the row, so the caller knows it was not saved
+                if (queue.remove(pending)) {
+                    throw new ServiceUnavailableException("Timed out waiting for the transaction to be saved. Please retry shortly.");
+                }
+                // The writer already has it; its outcome is about to be known, so report that instead
+                return pending.result().get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the transaction to be saved.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private Category findCategoryAndVerifyOwnership(UUID categoryId, User user) {
+        Category category = categoryRepository.findById(categoryId)
+                .orElseThrow(() -> new ResourceNotFoundException("Category not found with id: " + categoryId));
+        if (!category.getUser().getId().equals(user.getId())) {
+            throw new AccessDeniedException("You do not have permission to use this category");
+        }
+        return category;
+    }
+
+    private record PendingInsert(Transaction transaction, long queuedAt, CompletableFuture<Transaction> result) {
+        private PendingInsert(Transaction transaction, long queuedAt) {
+            this(transaction, queuedAt, new CompletableFuture<>());
+        }
+    }
+}
@@ -3,14 +3,26 @@ package com.budgetwise.api.transaction.impl;
 import com.budgetwise.api.budget.BudgetAlertService;
 import com.budgetwise.api.category.Category;
 import com.budgetwise.api.category.CategoryRepository;
+import com.budgetwise.api.category.enums.CategoryType;
 import com.budgetwise.api.exception.ResourceNotFoundException;
 import com.budgetwise.api.security.SecurityUtils;
+import com.budgetwise.api.sync.SyncService;
+import com.budgetwise.api.sync.enums.SyncEntityType;
+import com.budgetwise.api.transaction.DescriptionAutocompleteService;
 import com.budgetwise.api.transaction.Transaction;
+import com.budgetwise.api.transaction.TransactionCursor;
+import com.budgetwise.api.transaction.TransactionSearchCriteria;
+import com.budgetwise.api.transaction.TransactionSearchCursor;
 import com.budgetwise.api.transaction.TransactionRepository;
 import com.budgetwise.api.transaction.TransactionService;
 import com.budgetwise.api.transaction.dto.CreateTransactionFromTemplateRequest;
+import com.budgetwise.api.transaction.dto.TransactionPageResponse;
 import com.budgetwise.api.transaction.dto.TransactionRequest;
 import com.budgetwise.api.transaction.dto.TransactionResponse;
+import com.budgetwise.api.transaction.dto.TransactionSearchRequest;
+import com.budgetwise.api.transaction.dto.TransactionSearchResponse;
+import com.budgetwise.api.transaction.dto.TransactionTextSearchHit;
+import com.budgetwise.api.transaction.enums.TransactionSortOrder;
 import com.budgetwise.api.transaction.mapper.TransactionMapper;
 import com.budgetwise.api.transactiontemplate.TransactionTemplate;
 import com.budgetwise.api.transactiontemplate.TransactionTemplateRepository;
@@ -19,28 +31,54 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
 @Service
 @RequiredArgsConstructor
 public class TransactionServiceImpl implements TransactionService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
+    // Bounds of the MariaDB DATETIME type, used when the client does not restrict the date range
+    private static final LocalDateTime MIN_TRANSACTION_DATE = LocalDateTime.of(1000, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_TRANSACTION_DATE = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private static final int DEFAULT_TEXT_SEARCH_LIMIT = 20;
+    private static final int MAX_TEXT_SEARCH_TERMS = 10;
+
+    private static final int EXPORT_BUFFER_SIZE = 8192;
+    private static final int EXPORT_FLUSH_INTERVAL = 500;
+
     private final TransactionRepository transactionRepository;
     private final CategoryRepository categoryRepository;
     private final SecurityUtils securityUtils;
     private final TransactionMapper transactionMapper;
     private final TransactionTemplateRepository templateRepository;
     private final BudgetAlertService budgetAlertService;
+    private final DescriptionAutocompleteService descriptionAutocompleteService;
+    private final SyncService syncService;
 
 
     @Override
@@ -59,6 +97,8 @@ public class TransactionServiceImpl implements TransactionService {
                 .build();
 
         Transaction saved = transactionRepository.save(transaction);
+        descriptionAutocompleteService.descriptionAdded(
+                currentUser.getId(), saved.getDescription(), category, saved.getTransactionDate());
 
         // After saving, check if this transaction triggers a budget alert.
         budgetAlertService.checkBudgetAfterTransaction(saved);
@@ -87,6 +127,8 @@ public class TransactionServiceImpl implements TransactionService {
                 .build();
 
         Transaction saved = transactionRepository.save(transaction);
+        descriptionAutocompleteService.descriptionAdded(
+                currentUser.getId(), saved.getDescription(), template.getCategory(), saved.getTransactionDate());
 
         return transactionMapper.toDto(saved);
     }
@@ -97,14 +139,123 @@ public class TransactionServiceImpl implements TransactionService {
         LocalDateTime startDateTime = (startDate != null) ? startDate.atStartOfDay() : null;
         LocalDateTime endDateTime = (endDate != null) ? endDate.plusDays(1).atStartOfDay() : null;
 
-        List<Transaction> transactions;
         if (startDateTime != null && endDateTime != null) {
-            transactions = transactionRepository.findByUserAndDateRange(currentUser, startDateTime, endDateTime);
+            return transactionRepository.findByUserAndDateRange(currentUser, startDateTime, endDateTime);
+        }
+        return transactionRepository.findAllByUser(currentUser);
+    }
+
+    @Override
+    public TransactionPageResponse getTransactionPage(LocalDate startDate, LocalDate endDate, String cursor, Integer limit) {
+        User currentUser = securityUtils.getCurrentUser();
+        LocalDateTime startDateTime = (startDate != null) ? startDate.atStartOfDay() : MIN_TRANSACTION_DATE;
+        LocalDateTime endDateTime = (endDate != null) ? endDate.plusDays(1).atStartOfDay() : MAX_TRANSACTION_DATE;
+
+        int pageSize = (limit != null) ? limit : DEFAULT_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+
+        // Fetch one extra row to find out whether another page follows without a COUNT query
+        Limit fetchLimit = Limit.of(pageSize + 1);
+        List<TransactionResponse> transactions;
+        if (cursor == null || cursor.isBlank()) {
+            transactions = transactionRepository.findFirstPage(currentUser, startDateTime, endDateTime, fetchLimit);
         } else {
-            transactions = transactionRepository.findAllByUser(currentUser);
+            TransactionCursor position = TransactionCursor.decode(cursor);
+            transactions = transactionRepository.findPageAfterCursor(
+                    currentUser, startDateTime, endDateTime, position.transactionDate(), position.id(), fetchLimit);
+        }
+
+        boolean hasMore = transactions.size() > pageSize;
+        List<TransactionResponse> page = hasMore ? transactions.subList(0, pageSize) : transactions;
+        String nextCursor = hasMore ? TransactionCursor.of(page.get(page.size() - 1)).encode() : null;
+
+        return TransactionPageResponse.builder()
+                .items(page)
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    @Override
+    public TransactionSearchResponse searchTransactions(TransactionSearchRequest request) {
+        User currentUser = securityUtils.getCurrentUser();
+        if (request.getMinAmount() != null && request.getMaxAmount() != null
+                && request.getMinAmount().compareTo(request.getMaxAmount()) > 0) {
+            throw new IllegalArgumentException("Minimum amount cannot be greater than maximum amount.");
         }
 
-        return transactionMapper.toDtoList(transactions);
+        TransactionSortOrder sort = (request.getSort() != null) ? request.getSort() : TransactionSortOrder.DATE_DESC;
+        TransactionSearchCriteria criteria = new TransactionSearchCriteria(
+                currentUser,
+                (request.getStartDate() != null) ? request.getStartDate().atStartOfDay() : MIN_TRANSACTION_DATE,
+                (request.getEndDate() != null) ? request.getEndDate().plusDays(1).atStartOfDay() : MAX_TRANSACTION_DATE,
+                request.getCategoryIds(),
+                request.getCategoryType(),
+                request.getMinAmount(),
+                request.getMaxAmount(),
+                request.getAutomatic(),
+                request.getRecurringTransactionId(),
+                request.getHasReceipt(),
+                sort
+        );
+
+        int pageSize = (request.getLimit() != null) ? request.getLimit() : DEFAULT_PAGE_SIZE;
+        boolean firstPage = request.getCursor() == null || request.getCursor().isBlank();
+        TransactionSearchCursor after = firstPage ? null : TransactionSearchCursor.decode(request.getCursor(), sort);
+
+        // Fetch one extra row to find out whether another page follows without a COUNT query
+        List<TransactionResponse> transactions = transactionRepository.search(criteria, after, pageSize + 1);
+        boolean hasMore = transactions.size() > pageSize;
+        List<TransactionResponse> page = hasMore ? transactions.subList(0, pageSize) : transactions;
+
+        TransactionSearchResponse.TransactionSearchResponseBuilder response = TransactionSearchResponse.builder()
+                .items(page)
+                .nextCursor(hasMore ? TransactionSearchCursor.of(sort, page.get(page.size() - 1)).encode() : null)
+                .hasMore(hasMore);
+
+        // Facet counts do not change from page to page, so they are only computed with the first one
+        if (firstPage && request.isIncludeFacets()) {
+            response.categoryFacets(transactionRepository.countByCategory(criteria))
+                    .categoryTypeFacets(transactionRepository.countByCategoryType(criteria));
+        }
+        return response.build();
+    }
+
+    @Override
+    public List<TransactionTextSearchHit> searchTransactionText(
+            String query, LocalDate startDate, LocalDate endDate, UUID categoryId, Integer limit
+    ) {
+        User currentUser = securityUtils.getCurrentUser();
+        int resultLimit = (limit != null) ? limit : DEFAULT_TEXT_SEARCH_LIMIT;
+        if (resultLimit < 1 || resultLimit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+
+        List<Object[]> rows = transactionRepository.searchDescriptions(
+                currentUser.getId().toString(),
+                toBooleanModeQuery(query),
+                (startDate != null) ? startDate.atStartOfDay() : MIN_TRANSACTION_DATE,
+                (endDate != null) ? endDate.plusDays(1).atStartOfDay() : MAX_TRANSACTION_DATE,
+                (categoryId != null) ? categoryId.toString() : null,
+                resultLimit
+        );
+
+        return rows.stream()
+                .map(row -> new TransactionTextSearchHit(
+                        new TransactionResponse(
+                                toUuid(row[0]),
+                                (BigDecimal) row[1],
+                                (String) row[2],
+                                toLocalDateTime(row[3]),
+                                toUuid(row[4]),
+                                (String) row[5],
+                                CategoryType.valueOf((String) row[6])
+                        ),
+                        ((Number) row[7]).doubleValue()
+                ))
+                .toList();
     }
 
     @Override
@@ -116,7 +267,10 @@ public class TransactionServiceImpl implements TransactionService {
     @Transactional
     public TransactionResponse updateTransaction(UUID id, TransactionRequest request) {
         Transaction transaction = findTransactionAndVerifyOwnership(id);
-        Category category = findCategoryAndVerifyOwnership(request.getCategoryId(), securityUtils.getCurrentUser());
+        User currentUser = securityUtils.getCurrentUser();
+        Category category = findCategoryAndVerifyOwnership(request.getCategoryId(), currentUser);
+        descriptionAutocompleteService.descriptionRemoved(
+                currentUser.getId(), transaction.getDescription(), transaction.getCategory().getId());
 
         transaction.setAmount(request.getAmount());
         transaction.setDescription(request.getDescription());
@@ -124,6 +278,8 @@ public class TransactionServiceImpl implements TransactionService {
         transaction.setCategory(category);
 
         Transaction updated = transactionRepository.save(transaction);
+        descriptionAutocompleteService.descriptionAdded(
+                currentUser.getId(), updated.getDescription(), category, updated.getTransactionDate());
         return transactionMapper.toDto(updated);
     }
 
@@ -131,23 +287,42 @@ public class TransactionServiceImpl implements TransactionService {
     @Transactional
     public void deleteTransaction(UUID id) {
         Transaction transaction = findTransactionAndVerifyOwnership(id);
+        descriptionAutocompleteService.descriptionRemoved(
+                transaction.getUser().getId(), transaction.getDescription(), transaction.getCategory().getId());
+        syncService.recordDeletion(transaction.getUser(), SyncEntityType.TRANSACTION, transaction.getId());
         transactionRepository.delete(transaction);
     }
 
     @Override
-    public void exportTransactionsToCsv(HttpServletResponse response, LocalDate startDate, LocalDate endDate) throws IOException {
-        // Get the data
-        List<TransactionResponse> transactions = getTransactions(startDate, endDate);
+    @Transactional(readOnly = true)
+    public void exportTransactionsToCsv(HttpServletResponse response, LocalDate startDate, LocalDate endDate, boolean gzip) throws IOException {
+        User currentUser = securityUtils.getCurrentUser();
+        LocalDateTime startDateTime = (startDate != null) ? startDate.atStartOfDay() : MIN_TRANSACTION_DATE;
+        LocalDateTime endDateTime = (endDate != null) ? endDate.plusDays(1).atStartOfDay() : MAX_TRANSACTION_DATE;
 
         // Set HTTP headers for CSV download
         response.setContentType("text/csv");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
         response.setHeader("Content-Disposition", "attachment; filename=\"transactions.csv\"");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        // Rows are written to the response as they are read from the database cursor,
+        // so memory use stays flat no matter how many transactions are exported.
+        OutputStream out = gzip
+                ? new GZIPOutputStream(response.getOutputStream(), EXPORT_BUFFER_SIZE, true)
+                : response.getOutputStream();
 
-        try (PrintWriter writer = response.getWriter();
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), EXPORT_BUFFER_SIZE);
              CSVPrinter csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT
-                     .withHeader("ID", "Date", "Description", "Amount", "Category", "Type"))) {
+                     .withHeader("ID", "Date", "Description", "Amount", "Category", "Type"));
+             Stream<TransactionResponse> transactions = transactionRepository.streamByUserAndDateRange(
+                     currentUser, startDateTime, endDateTime)) {
 
-            for (TransactionResponse tx : transactions) {
+            int written = 0;
+            for (TransactionResponse tx : (Iterable<TransactionResponse>) transactions::iterator) {
                 csvPrinter.printRecord(
                         tx.getId(),
                         tx.getTransactionDate(),
@@ -156,6 +331,10 @@ public class TransactionServiceImpl implements TransactionService {
                         tx.getCategoryName(),
                         tx.getCategoryType().name()
                 );
+
+                if (++written % EXPORT_FLUSH_INTERVAL == 0) {
+                    csvPrinter.flush();
+                }
             }
         }
     }
@@ -163,7 +342,7 @@ public class TransactionServiceImpl implements TransactionService {
 
     private Transaction findTransactionAndVerifyOwnership(UUID transactionId) {
         User currentUser = securityUtils.getCurrentUser();
-        Transaction transaction = transactionRepository.findById(transactionId)
+        Transaction transaction = transactionRepository.findWithCategoryById(transactionId)
                 .orElseThrow(() -> new ResourceNotFoundException("Transaction not found with id: " + transactionId));
         if (!transaction.getUser().getId().equals(currentUser.getId())) {
             throw new AccessDeniedException("You do not have permission to access this transaction");
@@ -181,7 +360,7 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     private TransactionTemplate findTemplateAndVerifyOwnership(UUID templateId, User user) {
-        TransactionTemplate template = templateRepository.findById(templateId)
+        TransactionTemplate template = templateRepository.findWithCategoryById(templateId)
                 .orElseThrow(() -> new ResourceNotFoundException("Template not found with id: " + templateId));
         if (!template.getUser().getId().equals(user.getId())) {
             throw new AccessDeniedException("You do not have permission to use this template");
@@ -189,6 +368,31 @@ public class TransactionServiceImpl implements TransactionService {
         return template;
     }
 
+    /**
+     * Turns free text into a boolean-mode query where every word is required and may be a prefix,
+     * e.g. "Netflix sub" becomes "+netflix* +sub*". Operator characters typed by the user are dropped.
+     */
+    private static String toBooleanModeQuery(String text) {
+        List<String> terms = Arrays.stream(text.toLowerCase().split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .limit(MAX_TEXT_SEARCH_TERMS)
+                .toList();
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException("Search query must contain at least one letter or digit.");
+        }
+        return terms.stream()
+                .map(term -> "+" + term + "*")
+                .collect(Collectors.joining(" "));
+    }
+
+    private static UUID toUuid(Object value) {
+        return (value instanceof UUID uuid) ? uuid : UUID.fromString(value.toString());
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        return (value instanceof Timestamp timestamp) ? timestamp.toLocalDateTime() : (LocalDateTime) value;
+    }
+
     private static BigDecimal getTransactionAmount(
             CreateTransactionFromTemplateRequest request,
             TransactionTemplate template
@@ -0,0 +1,125 @@
+package com.budgetwise.api.transaction.impl;
+
+import com.budgetwise.api.transaction.dto.DescriptionSuggestion;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * One user's distinct descriptions, kept sorted by their normalized form so that all descriptions
+ * starting with a prefix form one contiguous range of the map. Each entry remembers how often and
+ * how recently it was used, and under which categories.
+ */
+class UserDescriptionIndex {
+
+    private static final Comparator<Entry> RANKING = Comparator
+            .comparingLong((Entry e) -> e.usageCount).reversed()
+            .thenComparing((Entry e) -> e.lastUsedAt, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private final NavigableMap<String, Entry> entries = new TreeMap<>();
+
+    static String normalize(String description) {
+        return description.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized void add(String description, UUID categoryId, String categoryName, long count, LocalDateTime usedAt) {
+        String key = normalize(description);
+        Entry entry = entries.computeIfAbsent(key, k -> new Entry(description.trim()));
+        entry.usageCount += count;
+        if (usedAt != null && (entry.lastUsedAt == null || usedAt.isAfter(entry.lastUsedAt))) {
+            entry.lastUsedAt = usedAt;
+        }
+        CategoryUsage category = entry.categories.computeIfAbsent(categoryId, id -> new CategoryUsage());
+        category.count += count;
+        if (categoryName != null) {
+            category.name = categoryName;
+        }
+    }
+
+    synchronized void remove(String description, UUID categoryId) {
+        String key = normalize(description);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return;
+        }
+        // The previous last-used date cannot be recovered here, so recency stays as it was
+        entry.usageCount--;
+        CategoryUsage category = entry.categories.get(categoryId);
+        if (category != null && --category.count <= 0) {
+            entry.categories.remove(categoryId);
+        }
+        if (entry.usageCount <= 0) {
+            entries.remove(key);
+        }
+    }
+
+    // Keeps only the most used entries once a user has more distinct descriptions than the cap
+    synchronized void trimTo(int maxEntries) {
+        int excess = entries.size() - maxEntries;
+        if (excess <= 0) {
+            return;
+        }
+        if (excess == 1) {
+            // The usual case once an index is full: one new description pushes out the least used
+            entries.entrySet().stream()
+                    .max(Map.Entry.comparingByValue(RANKING))
+                    .ifPresent(least -> entries.remove(least.getKey()));
+            return;
+        }
+        List<String> dropped = entries.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue(RANKING))
+                .skip(maxEntries)
+                .map(Map.Entry::getKey)
+                .toList();
+        dropped.forEach(entries::remove);
+    }
+
+    synchronized List<DescriptionSuggestion> suggest(String prefix, int limit) {
+        String from = normalize(prefix);
+        return entries.subMap(from, true, from + Character.MAX_VALUE, false).values().stream()
+                .sorted(RANKING)
+                .limit(limit)
+                .map(Entry::toSuggestion)
+                .toList();
+    }
+
+    private static final class Entry {
+        private final String description;
+        private final Map<UUID, CategoryUsage> categories = new HashMap<>();
+        private long usageCount;
+        private LocalDateTime lastUsedAt;
+
+        private Entry(String description) {
+            this.description = description;
+        }
+
+        private DescriptionSuggestion toSuggestion() {
+            Map.Entry<UUID, CategoryUsage> topCategory = categories.entrySet().stream()
+                    .max(Comparator.comparingLong(c -> c.getValue().count))
+                    .orElse(null);
+            return DescriptionSuggestion.builder()
+                    .description(description)
+                    .usageCount(usageCount)
+                    .lastUsedAt(lastUsedAt)
+                    .suggestedCategoryId(topCategory != null ? topCategory.getKey() : null)
+                    .suggestedCategoryName(topCategory != null ? topCategory.getValue().name : null)
+                    .build();
+        }
+    }
+
+    private static final class CategoryUsage {
+        private String name;
+        private long count;
+    }
+}
@@ -1,12 +1,23 @@
 package com.budgetwise.api.transactiontemplate;
 
 import com.budgetwise.api.user.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface TransactionTemplateRepository extends JpaRepository<TransactionTemplate, UUID> {
-  // Finds all templates for a specific user, ordered by name
+  // Finds all templates for a specific user, ordered by name, with their categories in the same query
+  @EntityGraph(attributePaths = "category")
   List<TransactionTemplate> findByUserOrderByNameAsc(User user);
+
+  @EntityGraph(attributePaths = "category")
+  Optional<TransactionTemplate> findWithCategoryById(UUID id);
+
+  // Templates created or updated after the given instant, for incremental sync
+  @EntityGraph(attributePaths = "category")
+  List<TransactionTemplate> findByUserAndUpdatedAtAfter(User user, Instant since);
 }
\ No newline at end of file
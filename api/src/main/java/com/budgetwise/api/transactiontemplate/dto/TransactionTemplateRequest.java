@@ -1,8 +1,10 @@
 package com.budgetwise.api.transactiontemplate.dto;
 
+import com.budgetwise.api.transaction.Transaction;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.Builder;
 import lombok.Data;
 
@@ -19,6 +21,7 @@ public class TransactionTemplateRequest {
     @DecimalMin(value = "0.01", message = "Amount must be positive if provided")
     private BigDecimal amount;
 
+    @Size(max = Transaction.DESCRIPTION_MAX_LENGTH, message = "Description must be at most 255 characters")
     private String description;
 
     @NotNull(message = "Category is required")
@@ -4,6 +4,8 @@ import com.budgetwise.api.category.Category;
 import com.budgetwise.api.category.CategoryRepository;
 import com.budgetwise.api.exception.ResourceNotFoundException;
 import com.budgetwise.api.security.SecurityUtils;
+import com.budgetwise.api.sync.SyncService;
+import com.budgetwise.api.sync.enums.SyncEntityType;
 import com.budgetwise.api.transactiontemplate.TransactionTemplate;
 import com.budgetwise.api.transactiontemplate.TransactionTemplateRepository;
 import com.budgetwise.api.transactiontemplate.TransactionTemplateService;
@@ -27,6 +29,7 @@ public class TransactionTemplateServiceImpl implements TransactionTemplateServic
     private final CategoryRepository categoryRepository;
     private final SecurityUtils securityUtils;
     private final TransactionTemplateMapper templateMapper;
+    private final SyncService syncService;
 
     @Override
     @Transactional
@@ -90,12 +93,13 @@ public class TransactionTemplateServiceImpl implements TransactionTemplateServic
     @Transactional
     public void deleteTemplate(UUID id) {
         TransactionTemplate template = findTemplateAndVerifyOwnership(id);
+        syncService.recordDeletion(template.getUser(), SyncEntityType.TEMPLATE, template.getId());
         templateRepository.delete(template);
     }
 
     private TransactionTemplate findTemplateAndVerifyOwnership(UUID templateId) {
         User currentUser = securityUtils.getCurrentUser();
-        TransactionTemplate template = templateRepository.findById(templateId)
+        TransactionTemplate template = templateRepository.findWithCategoryById(templateId)
                 .orElseThrow(() -> new ResourceNotFoundException("Template not found with id: " + templateId));
         if (!template.getUser().getId().equals(currentUser.getId())) {
             throw new AccessDeniedException("You do not have permission to access this template");
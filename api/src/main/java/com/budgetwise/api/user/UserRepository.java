@@ -1,11 +1,37 @@
 package com.budgetwise.api.user;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByUsername(String username);
     Optional<User> findByEmail(String email);
-}
\ No newline at end of file
+
+    @Query("SELECT u.id FROM User u")
+    List<UUID> findAllIds();
+
+    // --- DATA VERSION ---
+    // data_version is deliberately not mapped on User, so saving a stale User entity can never
+    // move the counter backwards.
+
+    @Query(value = "SELECT data_version FROM users WHERE username = :username", nativeQuery = true)
+    Optional<Long> findDataVersionByUsername(@Param("username") String username);
+
+    @Query(value = "SELECT data_version FROM users WHERE id = :userId", nativeQuery = true)
+    Optional<Long> findDataVersionById(@Param("userId") String userId);
+
+    // Runs in its own transaction because it is called after the changing transaction committed
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = "UPDATE users SET data_version = data_version + 1 WHERE id IN (:userIds)", nativeQuery = true)
+    void incrementDataVersions(@Param("userIds") Collection<String> userIds);
+}
@@ -0,0 +1,4 @@
+-- When the projected month-end spend of a budget first exceeded its amount; a budget is
+-- alerted once, and again only after its amount changes
+ALTER TABLE budgets
+    ADD COLUMN IF NOT EXISTS forecast_alerted_at DATETIME(6) NULL;
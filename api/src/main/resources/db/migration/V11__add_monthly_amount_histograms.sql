@@ -0,0 +1,28 @@
+-- Per (user, month, category) log-scale histogram of transaction amounts, read for amount
+-- percentiles and distributions instead of sorting the raw rows. An amount of m minor units
+-- (amount * 10000) falls in bucket CEIL(LN(m) / LN(1.01 / 0.99)), so every bucket spans a factor
+-- of 1.0202 and its midpoint is within 1% of any amount in it; amounts <= 0 use bucket -1.
+-- The bucket expression must stay identical to the one in AmountBuckets.
+-- Kept in step with transactions by DailySpendingRollupListener in the writing transaction, and
+-- backfilled here from the existing rows. Rebuilt together with the daily rollups.
+CREATE TABLE monthly_amount_histograms (
+    user_id           UUID     NOT NULL,
+    histogram_month   DATE     NOT NULL,
+    category_id       UUID     NOT NULL,
+    bucket_index      SMALLINT NOT NULL,
+    transaction_count INT      NOT NULL,
+    PRIMARY KEY (user_id, histogram_month, category_id, bucket_index),
+    CONSTRAINT fk_monthly_amount_histograms_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_monthly_amount_histograms_category FOREIGN KEY (category_id) REFERENCES categories (id)
+) ENGINE = InnoDB;
+
+INSERT INTO monthly_amount_histograms
+    (user_id, histogram_month, category_id, bucket_index, transaction_count)
+SELECT user_id, histogram_month, category_id, bucket_index, COUNT(*)
+FROM (SELECT user_id,
+             category_id,
+             CAST(DATE_FORMAT(transaction_date, '%Y-%m-01') AS DATE) AS histogram_month,
+             CASE WHEN amount <= 0 THEN -1
+                  ELSE CEIL(LN(amount * 10000) / 2.0000666706669435E-2) END AS bucket_index
+      FROM transactions) t
+GROUP BY user_id, histogram_month, category_id, bucket_index;
@@ -0,0 +1,158 @@
+-- Baseline schema, equivalent to what Hibernate generated with ddl-auto: update.
+-- Databases that already have these tables are baselined at version 1 and skip this script.
+
+CREATE TABLE countries (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    name            VARCHAR(100) NOT NULL,
+    alpha_2_code    VARCHAR(2)   NOT NULL,
+    alpha_3_code    VARCHAR(3)   NOT NULL,
+    calling_code    VARCHAR(6)   NOT NULL,
+    flag_url        VARCHAR(254) NOT NULL,
+    currency_code   CHAR(3)      NOT NULL DEFAULT 'NCN',
+    currency_name   VARCHAR(100) NOT NULL DEFAULT 'No Currency Name',
+    currency_symbol CHAR(10)     NOT NULL DEFAULT '$',
+    PRIMARY KEY (id),
+    CONSTRAINT UC_COUNTRY_NAME UNIQUE (name),
+    CONSTRAINT UC_COUNTRY_ALPHA_2_CODE UNIQUE (alpha_2_code),
+    CONSTRAINT UC_COUNTRY_ALPHA_3_CODE UNIQUE (alpha_3_code)
+) ENGINE = InnoDB;
+
+CREATE TABLE users (
+    id                        UUID         NOT NULL,
+    email                     VARCHAR(254) NOT NULL,
+    username                  VARCHAR(50)  NOT NULL,
+    first_name                VARCHAR(100) NOT NULL,
+    last_name                 VARCHAR(100) NOT NULL,
+    password                  VARCHAR(100) NOT NULL,
+    phone_number              VARCHAR(20)  NOT NULL,
+    date_format               VARCHAR(10)           DEFAULT 'yyyy-MM-dd',
+    is_active                 BOOLEAN      NOT NULL DEFAULT FALSE,
+    is_deleted                BOOLEAN      NOT NULL DEFAULT FALSE,
+    last_login_date           DATETIME(6),
+    last_password_reset_date  DATETIME(6),
+    verification_token        VARCHAR(255),
+    verification_token_expiry DATETIME(6),
+    country_id                BIGINT       NOT NULL,
+    created_at                DATETIME(6),
+    updated_at                DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT UC_USER_EMAIL UNIQUE (email),
+    CONSTRAINT UC_USER_USERNAME UNIQUE (username),
+    CONSTRAINT fk_users_country FOREIGN KEY (country_id) REFERENCES countries (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE refresh_tokens (
+    id          UUID          NOT NULL,
+    token       VARCHAR(1000) NOT NULL,
+    expiry_date DATETIME(6)   NOT NULL,
+    user_id     UUID,
+    PRIMARY KEY (id),
+    CONSTRAINT UC_REFRESH_TOKEN_TOKEN UNIQUE (token),
+    CONSTRAINT fk_refresh_tokens_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE categories (
+    id            UUID        NOT NULL,
+    name          VARCHAR(50) NOT NULL,
+    description   LONGTEXT,
+    category_type VARCHAR(8)  NOT NULL,
+    color         VARCHAR(7)           DEFAULT '#000000',
+    user_id       UUID        NOT NULL,
+    created_at    DATETIME(6),
+    updated_at    DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT categories_user_id_name_key UNIQUE (user_id, name),
+    CONSTRAINT fk_categories_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE recurring_transactions (
+    id                  UUID           NOT NULL,
+    name                VARCHAR(100)   NOT NULL,
+    amount              DECIMAL(19, 4) NOT NULL,
+    description         LONGTEXT,
+    start_date          DATE           NOT NULL,
+    end_date            DATE,
+    next_execution_date DATE           NOT NULL,
+    is_active           BOOLEAN        NOT NULL DEFAULT TRUE,
+    schedule_type       VARCHAR(8)     NOT NULL,
+    user_id             UUID           NOT NULL,
+    category_id         UUID           NOT NULL,
+    created_at          DATETIME(6),
+    updated_at          DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT recurring_transactions_user_id_name_key UNIQUE (user_id, name),
+    CONSTRAINT fk_recurring_transactions_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_recurring_transactions_category FOREIGN KEY (category_id) REFERENCES categories (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE transactions (
+    id                       UUID           NOT NULL,
+    description              LONGTEXT,
+    amount                   DECIMAL(19, 4) NOT NULL,
+    transaction_date         DATETIME(6)    NOT NULL,
+    is_created_automatically BOOLEAN        NOT NULL DEFAULT FALSE,
+    user_id                  UUID           NOT NULL,
+    category_id              UUID           NOT NULL,
+    recurring_transaction_id UUID,
+    created_at               DATETIME(6),
+    updated_at               DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_transactions_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_transactions_category FOREIGN KEY (category_id) REFERENCES categories (id),
+    CONSTRAINT fk_transactions_recurring_transaction FOREIGN KEY (recurring_transaction_id) REFERENCES recurring_transactions (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE receipts (
+    id                 UUID         NOT NULL,
+    file_name          VARCHAR(254) NOT NULL,
+    original_file_name VARCHAR(254) NOT NULL,
+    file_url           VARCHAR(254) NOT NULL,
+    file_size          BIGINT,
+    mime_type          VARCHAR(50),
+    uploaded_at        DATETIME(6)  NOT NULL,
+    transaction_id     UUID         NOT NULL,
+    created_at         DATETIME(6),
+    updated_at         DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_receipts_transaction FOREIGN KEY (transaction_id) REFERENCES transactions (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE budgets (
+    id            UUID           NOT NULL,
+    budget_month  DATE           NOT NULL,
+    budget_amount DECIMAL(19, 4) NOT NULL,
+    auto_renew    BOOLEAN        NOT NULL DEFAULT FALSE,
+    user_id       UUID           NOT NULL,
+    category_id   UUID           NOT NULL,
+    created_at    DATETIME(6),
+    updated_at    DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT budgets_user_id_category_id_budget_month_key UNIQUE (user_id, category_id, budget_month),
+    CONSTRAINT fk_budgets_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_budgets_category FOREIGN KEY (category_id) REFERENCES categories (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE transaction_templates (
+    id          UUID         NOT NULL,
+    name        VARCHAR(100) NOT NULL,
+    amount      DECIMAL(19, 4),
+    description LONGTEXT,
+    user_id     UUID         NOT NULL,
+    category_id UUID         NOT NULL,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT transaction_templates_user_id_name_key UNIQUE (user_id, name),
+    CONSTRAINT fk_transaction_templates_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_transaction_templates_category FOREIGN KEY (category_id) REFERENCES categories (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE notifications (
+    id         UUID         NOT NULL,
+    message    VARCHAR(255) NOT NULL,
+    is_read    BOOLEAN      NOT NULL,
+    user_id    UUID         NOT NULL,
+    created_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_notifications_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
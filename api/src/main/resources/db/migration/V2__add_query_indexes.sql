@@ -0,0 +1,18 @@
+-- Composite indexes for the hot read paths. Every transaction query filters on user_id plus a
+-- transaction_date range, so the date must come right after the equality columns.
+
+-- Transaction list/page/export, dashboard totals, breakdown, trend and top expense
+CREATE INDEX IF NOT EXISTS idx_transactions_user_date
+    ON transactions (user_id, transaction_date);
+
+-- Budget alert checks and budget progress (one category within a month)
+CREATE INDEX IF NOT EXISTS idx_transactions_user_category_date
+    ON transactions (user_id, category_id, transaction_date);
+
+-- Notification list, newest first
+CREATE INDEX IF NOT EXISTS idx_notifications_user_created
+    ON notifications (user_id, created_at);
+
+-- Daily recurring transactions job
+CREATE INDEX IF NOT EXISTS idx_recurring_transactions_active_next
+    ON recurring_transactions (is_active, next_execution_date);
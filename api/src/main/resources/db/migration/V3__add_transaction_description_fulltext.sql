@@ -0,0 +1,4 @@
+-- Full-text index for GET /transactions/text-search. InnoDB ignores tokens shorter than
+-- innodb_ft_min_token_size (3 by default) and its built-in stopwords.
+CREATE FULLTEXT INDEX IF NOT EXISTS ft_transactions_description
+    ON transactions (description);
@@ -0,0 +1,17 @@
+-- Responses of POST requests sent with an Idempotency-Key header, replayed to retries until expires_at
+CREATE TABLE idempotency_keys (
+    id              UUID         NOT NULL,
+    username        VARCHAR(50)  NOT NULL,
+    idempotency_key VARCHAR(255) NOT NULL,
+    operation       VARCHAR(255) NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    response_status INT,
+    response_body   LONGTEXT,
+    created_at      DATETIME(6),
+    expires_at      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT UC_IDEMPOTENCY_KEY_USERNAME_KEY UNIQUE (username, idempotency_key)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_idempotency_keys_expires_at
+    ON idempotency_keys (expires_at);
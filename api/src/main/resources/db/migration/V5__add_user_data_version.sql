@@ -0,0 +1,4 @@
+-- Per-user counter bumped after every committed change to the user's data; read endpoints derive
+-- their ETag from it
+ALTER TABLE users
+    ADD COLUMN IF NOT EXISTS data_version BIGINT NOT NULL DEFAULT 0;
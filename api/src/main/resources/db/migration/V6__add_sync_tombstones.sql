@@ -0,0 +1,18 @@
+-- Deletes recorded for GET /sync, compacted after sync.tombstone-retention
+CREATE TABLE sync_tombstones (
+    id          UUID        NOT NULL,
+    user_id     UUID        NOT NULL,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id   UUID        NOT NULL,
+    deleted_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_sync_tombstones_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_sync_tombstones_user_deleted
+    ON sync_tombstones (user_id, deleted_at);
+
+-- Incremental sync of transactions reads changes by updated_at; the other synced tables are small
+-- per user and already indexed on user_id
+CREATE INDEX IF NOT EXISTS idx_transactions_user_updated
+    ON transactions (user_id, updated_at);
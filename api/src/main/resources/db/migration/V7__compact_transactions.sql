@@ -0,0 +1,28 @@
+-- Compact transaction rows and cluster them by owner and date.
+--
+-- * description becomes a bounded inline VARCHAR instead of LONGTEXT. The few longer values are cut
+--   to the new limit, which is also enforced on input.
+-- * The clustered index (the InnoDB primary key) becomes (user_id, transaction_date, id), so one
+--   user's history is physically contiguous and date-range scans read neighbouring pages.
+--   id keeps its own unique index, which foreign keys from receipts resolve through.
+-- * idx_transactions_user_date is now a prefix of the primary key and is dropped.
+--
+-- Ids stay in MariaDB's native 16-byte UUID type; new rows get time-ordered UUIDv7 values from
+-- the application, existing rows keep their ids.
+
+UPDATE transactions
+SET description = LEFT(description, 255)
+WHERE CHAR_LENGTH(description) > 255;
+
+ALTER TABLE transactions
+    MODIFY description VARCHAR(255);
+
+-- Added before the primary key is dropped so the receipts foreign key always has an index on id
+ALTER TABLE transactions
+    ADD CONSTRAINT UC_TRANSACTION_ID UNIQUE (id);
+
+ALTER TABLE transactions
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (user_id, transaction_date, id);
+
+DROP INDEX IF EXISTS idx_transactions_user_date ON transactions;
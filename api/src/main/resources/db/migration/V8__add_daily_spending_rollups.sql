@@ -0,0 +1,24 @@
+-- Per (user, category, day) totals of transactions, read by the dashboard instead of the raw rows.
+-- Kept in step with transactions by DailySpendingRollupListener in the writing transaction, and
+-- backfilled here from the existing rows. Rebuild with --rebuild-rollups, check with --verify-rollups.
+CREATE TABLE daily_spending_rollups (
+    user_id           UUID          NOT NULL,
+    category_id       UUID          NOT NULL,
+    spending_date     DATE          NOT NULL,
+    total_amount      DECIMAL(19,4) NOT NULL,
+    transaction_count INT           NOT NULL,
+    max_amount        DECIMAL(19,4) NOT NULL,
+    PRIMARY KEY (user_id, spending_date, category_id),
+    CONSTRAINT fk_daily_spending_rollups_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_daily_spending_rollups_category FOREIGN KEY (category_id) REFERENCES categories (id)
+) ENGINE = InnoDB;
+
+-- Budget progress reads one category over a month
+CREATE INDEX idx_daily_spending_rollups_user_category_date
+    ON daily_spending_rollups (user_id, category_id, spending_date);
+
+INSERT INTO daily_spending_rollups
+    (user_id, category_id, spending_date, total_amount, transaction_count, max_amount)
+SELECT user_id, category_id, DATE(transaction_date), SUM(amount), COUNT(*), MAX(amount)
+FROM transactions
+GROUP BY user_id, category_id, DATE(transaction_date);
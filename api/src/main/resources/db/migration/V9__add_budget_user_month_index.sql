@@ -0,0 +1,4 @@
+-- Budget progress reads all budgets of one user and month; the unique key
+-- (user_id, category_id, budget_month) only narrows that to the user
+CREATE INDEX IF NOT EXISTS idx_budgets_user_month
+    ON budgets (user_id, budget_month);
@@ -0,0 +1,155 @@
+package com.budgetwise.api;
+
+import com.budgetwise.api.category.enums.CategoryType;
+import com.budgetwise.api.support.MariaDbTest;
+import com.budgetwise.api.support.TestRows;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fails when a hot query stops using the index added for it. The statements mirror the SQL of the
+ * repository queries named on each test; the tables hold a few thousand rows for two users and
+ * fresh statistics, so a full scan would be the optimizer's choice only if the index were unusable.
+ */
+@JdbcTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+// ANALYZE TABLE commits, so the data is loaded once and not rolled back per test
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class QueryPlanTest extends MariaDbTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID userId;
+    private UUID categoryId;
+
+    @BeforeAll
+    void loadData() {
+        TestRows rows = new TestRows(jdbcTemplate);
+        for (String username : List.of("plan-other", "plan-user")) {
+            userId = rows.user(username);
+            List<UUID> categoryIds = rows.categories(userId, 4, CategoryType.EXPENSE);
+            categoryId = categoryIds.get(0);
+            rows.transactions(userId, categoryIds, FIRST_DAY, 366, 8000, List.of("Groceries", "Rent", "Fuel"));
+            rows.rollupsFromTransactions(userId);
+            for (UUID budgetCategoryId : categoryIds) {
+                for (int month = 0; month < 12; month++) {
+                    rows.budget(userId, budgetCategoryId, FIRST_DAY.plusMonths(month), BigDecimal.TEN);
+                }
+            }
+            insertNotifications(userId, 500);
+            insertRecurringTransactions(userId, categoryId, 1000);
+        }
+        rows.analyze("transactions", "daily_spending_rollups", "budgets", "notifications", "recurring_transactions");
+    }
+
+    // TransactionRepository.findFirstPage / findByUserAndDateRange / streamByUserAndDateRange
+    @Test
+    void transactionPageReadsTheUserDatePrimaryKeyRange() {
+        assertThat(indexUsed("t", "SELECT t.id, t.amount, t.description, t.transaction_date, " +
+                        "c.id, c.name, c.category_type " +
+                        "FROM transactions t JOIN categories c ON c.id = t.category_id " +
+                        "WHERE t.user_id = ? AND t.transaction_date >= ? AND t.transaction_date < ? " +
+                        "ORDER BY t.transaction_date DESC, t.id DESC LIMIT 20",
+                userId.toString(), FIRST_DAY.plusMonths(3).atStartOfDay(), FIRST_DAY.plusMonths(4).atStartOfDay()))
+                .isEqualTo("PRIMARY");
+    }
+
+    // TransactionRepository.sumAmountByCategory, used by the budget alert check
+    @Test
+    void categoryMonthTotalReadsTheUserCategoryDateIndex() {
+        assertThat(indexUsed("transactions", "SELECT COALESCE(SUM(amount), 0) FROM transactions " +
+                        "WHERE user_id = ? AND category_id = ? AND transaction_date >= ? AND transaction_date < ?",
+                userId.toString(), categoryId.toString(),
+                FIRST_DAY.plusMonths(3).atStartOfDay(), FIRST_DAY.plusMonths(4).atStartOfDay()))
+                .isEqualTo("idx_transactions_user_category_date");
+    }
+
+    // BudgetRepository.findBudgetProgressData: one range per budget on the user/category/date index
+    @Test
+    void budgetProgressReadsRollupsByUserCategoryDate() {
+        String sql = "SELECT b.id, c.id, c.name, COALESCE(SUM(r.total_amount), 0), b.budget_amount " +
+                "FROM budgets b JOIN categories c ON c.id = b.category_id " +
+                "LEFT JOIN daily_spending_rollups r ON r.user_id = b.user_id AND r.category_id = c.id " +
+                "AND r.spending_date >= ? AND r.spending_date < ? " +
+                "WHERE b.user_id = ? AND b.budget_month = ? " +
+                "GROUP BY b.id, c.id, c.name, b.budget_amount";
+        LocalDate month = FIRST_DAY.plusMonths(3);
+        Object[] args = {month, month.plusMonths(1), userId.toString(), month};
+
+        assertThat(indexUsed("r", sql, args)).isEqualTo("idx_daily_spending_rollups_user_category_date");
+        assertThat(indexUsed("b", sql, args)).isNotNull();
+    }
+
+    // NotificationRepository.findByUserOrderByCreatedAtDesc
+    @Test
+    void notificationListReadsTheUserCreatedIndex() {
+        assertThat(indexUsed("notifications", "SELECT id, message, is_read, user_id, created_at FROM notifications " +
+                        "WHERE user_id = ? ORDER BY created_at DESC",
+                userId.toString()))
+                .isEqualTo("idx_notifications_user_created");
+    }
+
+    // RecurringTransactionRepository.findDueRecurringTransactions, run by the daily job
+    @Test
+    void dueRecurringTransactionsReadTheActiveNextExecutionIndex() {
+        assertThat(indexUsed("recurring_transactions", "SELECT id FROM recurring_transactions " +
+                        "WHERE is_active = TRUE AND next_execution_date <= ?",
+                FIRST_DAY))
+                .isEqualTo("idx_recurring_transactions_active_next");
+    }
+
+    /**
+     * Returns the index MariaDB picks for the given table of the statement, or null for a full scan.
+     */
+    private String indexUsed(String table, String sql, Object... args) {
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, args);
+        Map<String, Object> tableRow = plan.stream()
+                .filter(row -> table.equals(row.get("table")))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No plan row for " + table + ": " + plan));
+        return (String) tableRow.get("key");
+    }
+
+    private void insertNotifications(UUID userId, int count) {
+        List<Object[]> batch = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            batch.add(new Object[]{UUID.randomUUID().toString(), "Notification " + i, userId.toString(),
+                    LocalDateTime.of(2024, 1, 1, 0, 0).plusHours(i)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO notifications (id, message, is_read, user_id, created_at) " +
+                "VALUES (?, ?, FALSE, ?, ?)", batch);
+    }
+
+    // One in fifty rules is active and due on FIRST_DAY; the rest are paused or due later
+    private void insertRecurringTransactions(UUID userId, UUID categoryId, int count) {
+        List<Object[]> batch = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            boolean due = i % 50 == 0;
+            batch.add(new Object[]{UUID.randomUUID().toString(), "Rule " + i, BigDecimal.TEN, FIRST_DAY,
+                    due ? FIRST_DAY : FIRST_DAY.plusDays(1 + i % 300), due || i % 2 == 0,
+                    userId.toString(), categoryId.toString()});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO recurring_transactions " +
+                "(id, name, amount, start_date, next_execution_date, is_active, schedule_type, user_id, category_id) " +
+                "VALUES (?, ?, ?, ?, ?, ?, 'MONTHLY', ?, ?)", batch);
+    }
+}
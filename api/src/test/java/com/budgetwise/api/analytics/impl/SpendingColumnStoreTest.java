@@ -0,0 +1,95 @@
+package com.budgetwise.api.analytics.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpendingColumnStoreTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 10);
+    private static final UUID GROCERIES = UUID.randomUUID();
+    private static final UUID RENT = UUID.randomUUID();
+
+    @Test
+    void addsInDayOrder() {
+        SpendingColumnStore store = new SpendingColumnStore(1);
+        store.append(day(0), GROCERIES, 100);
+        store.append(day(2), GROCERIES, 300);
+        store.add(day(1), RENT, 200);
+        store.add(day(-1), RENT, 50);
+        store.add(day(2), RENT, 400);
+
+        assertThat(store.size()).isEqualTo(5);
+        assertThat(amounts(store, DAY.minusDays(1), DAY.plusDays(3))).containsExactly(50L, 100L, 200L, 300L, 400L);
+    }
+
+    @Test
+    void removesOneMatchingRow() {
+        SpendingColumnStore store = new SpendingColumnStore(4);
+        store.append(day(0), GROCERIES, 100);
+        store.append(day(0), GROCERIES, 100);
+        store.append(day(0), RENT, 100);
+        store.append(day(1), GROCERIES, 100);
+
+        assertThat(store.remove(day(0), GROCERIES, 100)).isTrue();
+
+        assertThat(store.size()).isEqualTo(3);
+        assertThat(store.sumByCategory(DAY, DAY.plusDays(1))).containsExactly(100L, 100L);
+        assertThat(store.sumByCategory(DAY.plusDays(1), DAY.plusDays(2))).containsExactly(100L, 0L);
+    }
+
+    @Test
+    void reportsARowItDoesNotHold() {
+        SpendingColumnStore store = new SpendingColumnStore(4);
+        store.append(day(0), GROCERIES, 100);
+
+        assertThat(store.remove(day(0), GROCERIES, 99)).isFalse();
+        assertThat(store.remove(day(1), GROCERIES, 100)).isFalse();
+        assertThat(store.remove(day(0), RENT, 100)).isFalse();
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    void readsHalfOpenRanges() {
+        SpendingColumnStore store = new SpendingColumnStore(8);
+        for (int i = 0; i < 5; i++) {
+            store.append(day(i), i % 2 == 0 ? GROCERIES : RENT, (i + 1) * 10L);
+        }
+
+        assertThat(amounts(store, DAY.plusDays(1), DAY.plusDays(4))).containsExactly(20L, 30L, 40L);
+        assertThat(amounts(store, DAY.plusDays(2), DAY.plusDays(2))).isEmpty();
+        assertThat(amounts(store, DAY.minusDays(10), DAY.minusDays(1))).isEmpty();
+        assertThat(amounts(store, DAY.plusDays(5), DAY.plusDays(10))).isEmpty();
+        assertThat(store.sumByCategory(DAY, DAY.plusDays(4))).containsExactly(40L, 60L);
+        assertThat(store.categoryIndex(RENT)).isEqualTo(1);
+        assertThat(store.categoryId(1)).isEqualTo(RENT);
+        assertThat(store.categoryIndex(UUID.randomUUID())).isEqualTo(-1);
+    }
+
+    @Test
+    void countsAllocatedCapacity() {
+        SpendingColumnStore store = new SpendingColumnStore(1000);
+        store.append(day(0), GROCERIES, 100);
+        long allocated = store.bytes();
+
+        store.trimToSize();
+
+        assertThat(store.bytes()).isLessThan(allocated);
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    private static int day(int offset) {
+        return Math.toIntExact(DAY.plusDays(offset).toEpochDay());
+    }
+
+    private static List<Long> amounts(SpendingColumnStore store, LocalDate start, LocalDate endExclusive) {
+        List<Long> amounts = new ArrayList<>();
+        store.scan(start, endExclusive, (epochDay, categoryIndex, amount) -> amounts.add(amount));
+        return amounts;
+    }
+}
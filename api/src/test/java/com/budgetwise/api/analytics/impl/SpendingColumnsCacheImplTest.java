@@ -0,0 +1,103 @@
+package com.budgetwise.api.analytics.impl;
+
+import com.budgetwise.api.analytics.SpendingColumns;
+import com.budgetwise.api.analytics.dto.SpendingColumnRow;
+import com.budgetwise.api.transaction.TransactionRepository;
+import com.budgetwise.api.transaction.event.TransactionWriteTracker;
+import com.budgetwise.api.transaction.event.TransactionsChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SpendingColumnsCacheImplTest {
+
+    private static final int MAX_ROWS = 3;
+    private static final LocalDateTime DAY = LocalDateTime.of(2024, 3, 10, 12, 0);
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID categoryId = UUID.randomUUID();
+
+    private final TransactionRepository transactionRepository = mock(TransactionRepository.class);
+    private final SpendingColumnsCacheImpl cache = new SpendingColumnsCacheImpl(
+            transactionRepository, mock(PlatformTransactionManager.class), new SimpleMeterRegistry(),
+            new TransactionWriteTracker());
+
+    SpendingColumnsCacheImplTest() {
+        ReflectionTestUtils.setField(cache, "maxSize", DataSize.ofMegabytes(1));
+        ReflectionTestUtils.setField(cache, "maxRowsPerUser", MAX_ROWS);
+        ReflectionTestUtils.setField(cache, "ttl", Duration.ofHours(1));
+        ReflectionTestUtils.setField(cache, "oversizedTtl", Duration.ofHours(1));
+        cache.init();
+    }
+
+    @Test
+    void keepsAUserAtTheCap() {
+        when(transactionRepository.streamSpendingColumnRows(eq(userId), any(Limit.class)))
+                .thenAnswer(invocation -> rows(MAX_ROWS));
+
+        assertThat(cache.read(userId, SpendingColumns::size)).contains(MAX_ROWS);
+        assertThat(cache.read(userId, SpendingColumns::size)).contains(MAX_ROWS);
+
+        verify(transactionRepository, times(1)).streamSpendingColumnRows(userId, Limit.of(MAX_ROWS + 1));
+    }
+
+    @Test
+    void stopsLoadingAUserOverTheCapAndRemembersThem() {
+        when(transactionRepository.streamSpendingColumnRows(eq(userId), any(Limit.class)))
+                .thenAnswer(invocation -> rows(MAX_ROWS + 1));
+
+        assertThat(cache.read(userId, SpendingColumns::size)).isEmpty();
+        assertThat(cache.read(userId, SpendingColumns::size)).isEmpty();
+
+        verify(transactionRepository, times(1)).streamSpendingColumnRows(eq(userId), any(Limit.class));
+    }
+
+    @Test
+    void scansAgainOnceTheOversizedTtlHasPassed() {
+        ReflectionTestUtils.setField(cache, "oversizedTtl", Duration.ZERO);
+        when(transactionRepository.streamSpendingColumnRows(eq(userId), any(Limit.class)))
+                .thenAnswer(invocation -> rows(MAX_ROWS + 1))
+                .thenAnswer(invocation -> rows(MAX_ROWS));
+
+        assertThat(cache.read(userId, SpendingColumns::size)).isEmpty();
+        assertThat(cache.read(userId, SpendingColumns::size)).contains(MAX_ROWS);
+    }
+
+    @Test
+    void dropsAStoreThatGrowsPastTheCap() {
+        when(transactionRepository.streamSpendingColumnRows(eq(userId), any(Limit.class)))
+                .thenAnswer(invocation -> rows(MAX_ROWS));
+        assertThat(cache.read(userId, SpendingColumns::size)).contains(MAX_ROWS);
+
+        cache.onTransactionsChanged(new TransactionsChangedEvent(userId, List.of(
+                new TransactionsChangedEvent.Change(categoryId, LocalDate.of(2024, 3, 11), new BigDecimal("5.00"), true, false))));
+
+        assertThat(cache.read(userId, SpendingColumns::size)).isEmpty();
+        verify(transactionRepository, times(1)).streamSpendingColumnRows(eq(userId), any(Limit.class));
+    }
+
+    private Stream<SpendingColumnRow> rows(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new SpendingColumnRow(DAY.plusHours(i), categoryId, 10_000L * (i + 1)));
+    }
+}
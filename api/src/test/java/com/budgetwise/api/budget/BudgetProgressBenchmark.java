@@ -0,0 +1,94 @@
+package com.budgetwise.api.budget;
+
+import com.budgetwise.api.category.enums.CategoryType;
+import com.budgetwise.api.dashboard.dto.BudgetProgress;
+import com.budgetwise.api.global.money.Money;
+import com.budgetwise.api.support.MariaDbTest;
+import com.budgetwise.api.support.TestRows;
+import com.budgetwise.api.support.Timings;
+import com.budgetwise.api.user.User;
+import com.budgetwise.api.user.UserRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latency of {@link BudgetRepository#findBudgetProgressData} for a user with 50 budgets in the
+ * month and 200k transactions over two years, against a target of 50 ms. Not part of the regular
+ * build; run it with {@code mvn test -Dtest=BudgetProgressBenchmark} (needs Docker).
+ */
+@DataJpaTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+// ANALYZE TABLE commits, so the data is loaded once and not rolled back per test
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BudgetProgressBenchmark extends MariaDbTest {
+
+    private static final int BUDGETS = 50;
+    private static final int TRANSACTIONS = 200_000;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2023, 1, 1);
+    private static final LocalDate MONTH = LocalDate.of(2024, 6, 1);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private UUID userId;
+
+    @BeforeAll
+    void loadData() {
+        TestRows rows = new TestRows(jdbcTemplate);
+        userId = rows.user("budget-benchmark");
+        List<UUID> categoryIds = rows.categories(userId, BUDGETS, CategoryType.EXPENSE);
+        rows.transactions(userId, categoryIds, FIRST_DAY, 2 * 366, TRANSACTIONS, List.of("Card payment"));
+        rows.rollupsFromTransactions(userId);
+        for (UUID categoryId : categoryIds) {
+            for (int month = 0; month < 24; month++) {
+                rows.budget(userId, categoryId, FIRST_DAY.plusMonths(month), new BigDecimal("500"));
+            }
+        }
+        rows.analyze("transactions", "daily_spending_rollups", "budgets");
+    }
+
+    @Test
+    void progressOfFiftyBudgetsStaysUnderFiftyMilliseconds() {
+        User user = userRepository.findById(userId).orElseThrow();
+        assertThat(budgetRepository.findBudgetProgressData(user, MONTH, MONTH.plusMonths(1))).hasSize(BUDGETS);
+
+        Timings timings = Timings.measure("budget progress of " + BUDGETS + " budgets", 20, 200, () ->
+                budgetRepository.findBudgetProgressData(user, MONTH, MONTH.plusMonths(1)));
+        System.out.println(timings.summary());
+
+        assertThat(timings.percentileMillis(95)).isLessThan(50.0);
+    }
+
+    @Test
+    void progressMatchesTheTransactionsOfTheMonth() {
+        User user = userRepository.findById(userId).orElseThrow();
+        BigDecimal expected = jdbcTemplate.queryForObject("SELECT COALESCE(SUM(amount), 0) FROM transactions " +
+                        "WHERE user_id = ? AND transaction_date >= ? AND transaction_date < ?",
+                BigDecimal.class, userId.toString(), MONTH.atStartOfDay(), MONTH.plusMonths(1).atStartOfDay());
+
+        long spent = budgetRepository.findBudgetProgressData(user, MONTH, MONTH.plusMonths(1)).stream()
+                .mapToLong(progress -> progress.getAmountSpent().minorUnits())
+                .sum();
+
+        assertThat(spent).isEqualTo(Money.toMinorUnits(expected));
+    }
+}
@@ -0,0 +1,120 @@
+package com.budgetwise.api.budget;
+
+import com.budgetwise.api.category.enums.CategoryType;
+import com.budgetwise.api.dashboard.dto.BudgetProgress;
+import com.budgetwise.api.global.money.Money;
+import com.budgetwise.api.support.MariaDbTest;
+import com.budgetwise.api.support.TestRows;
+import com.budgetwise.api.user.User;
+import com.budgetwise.api.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class BudgetRepositoryTest extends MariaDbTest {
+
+    private static final LocalDate MONTH = LocalDate.of(2024, 3, 1);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private TestRows rows;
+    private UUID userId;
+    private UUID groceries;
+    private UUID rent;
+    private UUID fuel;
+
+    @BeforeEach
+    void setUp() {
+        rows = new TestRows(jdbcTemplate);
+        userId = rows.user("budget-progress");
+        groceries = rows.category(userId, "Groceries", CategoryType.EXPENSE);
+        rent = rows.category(userId, "Rent", CategoryType.EXPENSE);
+        fuel = rows.category(userId, "Fuel", CategoryType.EXPENSE);
+    }
+
+    @Test
+    void sumsTheBudgetMonthsRollupsOfEachCategory() {
+        rows.budget(userId, groceries, MONTH, new BigDecimal("400"));
+        rows.budget(userId, rent, MONTH, new BigDecimal("1000"));
+        rows.rollup(userId, groceries, MONTH, new BigDecimal("25.50"), 2);
+        rows.rollup(userId, groceries, MONTH.withDayOfMonth(31), new BigDecimal("14.50"), 1);
+        rows.rollup(userId, rent, MONTH.withDayOfMonth(2), new BigDecimal("950"), 1);
+
+        Map<UUID, BudgetProgress> progress = findProgress(userId);
+
+        assertThat(progress).containsOnlyKeys(groceries, rent);
+        assertThat(progress.get(groceries).getAmountSpent()).isEqualTo(Money.of(new BigDecimal("40")));
+        assertThat(progress.get(groceries).getBudgetAmount()).isEqualTo(Money.of(new BigDecimal("400")));
+        assertThat(progress.get(groceries).getCategoryName()).isEqualTo("Groceries");
+        assertThat(progress.get(rent).getAmountSpent()).isEqualTo(Money.of(new BigDecimal("950")));
+    }
+
+    @Test
+    void ignoresRollupsOutsideTheHalfOpenMonth() {
+        rows.budget(userId, groceries, MONTH, new BigDecimal("400"));
+        rows.rollup(userId, groceries, MONTH.minusDays(1), new BigDecimal("100"), 1);
+        rows.rollup(userId, groceries, MONTH.plusMonths(1), new BigDecimal("200"), 1);
+        rows.rollup(userId, groceries, MONTH.plusDays(10), new BigDecimal("7"), 1);
+
+        assertThat(findProgress(userId).get(groceries).getAmountSpent()).isEqualTo(Money.of(new BigDecimal("7")));
+    }
+
+    @Test
+    void reportsZeroForABudgetWithoutSpending() {
+        rows.budget(userId, fuel, MONTH, new BigDecimal("80"));
+
+        assertThat(findProgress(userId).get(fuel).getAmountSpent()).isEqualTo(Money.ZERO);
+    }
+
+    @Test
+    void ignoresOtherMonthsBudgetsAndCategoriesWithoutBudget() {
+        rows.budget(userId, groceries, MONTH, new BigDecimal("400"));
+        rows.budget(userId, rent, MONTH.minusMonths(1), new BigDecimal("1000"));
+        rows.rollup(userId, rent, MONTH.plusDays(3), new BigDecimal("950"), 1);
+        rows.rollup(userId, fuel, MONTH.plusDays(3), new BigDecimal("60"), 1);
+
+        assertThat(findProgress(userId)).containsOnlyKeys(groceries);
+    }
+
+    @Test
+    void ignoresOtherUsersData() {
+        UUID otherUserId = rows.user("budget-progress-other");
+        UUID otherCategory = rows.category(otherUserId, "Groceries", CategoryType.EXPENSE);
+        rows.budget(otherUserId, otherCategory, MONTH, new BigDecimal("50"));
+        rows.rollup(otherUserId, otherCategory, MONTH.plusDays(1), new BigDecimal("30"), 1);
+        rows.budget(userId, groceries, MONTH, new BigDecimal("400"));
+
+        Map<UUID, BudgetProgress> progress = findProgress(userId);
+
+        assertThat(progress).containsOnlyKeys(groceries);
+        assertThat(progress.get(groceries).getAmountSpent()).isEqualTo(Money.ZERO);
+        assertThat(findProgress(otherUserId).get(otherCategory).getAmountSpent())
+                .isEqualTo(Money.of(new BigDecimal("30")));
+    }
+
+    private Map<UUID, BudgetProgress> findProgress(UUID userId) {
+        User user = userRepository.getReferenceById(userId);
+        List<BudgetProgress> progress = budgetRepository.findBudgetProgressData(user, MONTH, MONTH.plusMonths(1));
+        return progress.stream().collect(Collectors.toMap(BudgetProgress::getCategoryId, Function.identity()));
+    }
+}
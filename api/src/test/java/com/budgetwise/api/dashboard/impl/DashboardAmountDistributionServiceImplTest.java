@@ -0,0 +1,81 @@
+package com.budgetwise.api.dashboard.impl;
+
+import com.budgetwise.api.dashboard.dto.AmountHistogramBin;
+import com.budgetwise.api.global.money.Money;
+import com.budgetwise.api.rollup.AmountBuckets;
+import com.budgetwise.api.rollup.dto.AmountBucketCount;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DashboardAmountDistributionServiceImplTest {
+
+    private static final UUID CATEGORY = UUID.randomUUID();
+
+    @Test
+    void readsEveryQuantileFromASingleBucket() {
+        List<AmountBucketCount> buckets = List.of(bucket(500, 10));
+        Money estimate = Money.ofMinor(AmountBuckets.estimate(500));
+
+        assertThat(DashboardAmountDistributionServiceImpl.quantile(buckets, 10, 0.50)).isEqualTo(estimate);
+        assertThat(DashboardAmountDistributionServiceImpl.quantile(buckets, 10, 0.99)).isEqualTo(estimate);
+        assertThat(DashboardAmountDistributionServiceImpl.histogram(buckets, 10)).containsExactly(
+                new AmountHistogramBin(
+                        Money.ofMinor(AmountBuckets.lowerBound(500)),
+                        Money.ofMinor(AmountBuckets.upperBound(500)),
+                        10));
+    }
+
+    @Test
+    void takesTheLowerMiddleForAnEvenCount() {
+        List<AmountBucketCount> buckets = List.of(bucket(100, 1), bucket(200, 1), bucket(300, 1), bucket(400, 1));
+
+        assertThat(DashboardAmountDistributionServiceImpl.quantile(buckets, 4, 0.50))
+                .isEqualTo(Money.ofMinor(AmountBuckets.estimate(200)));
+        // Rank 0.99 * 3 falls short of the largest amount
+        assertThat(DashboardAmountDistributionServiceImpl.quantile(buckets, 4, 0.99))
+                .isEqualTo(Money.ofMinor(AmountBuckets.estimate(300)));
+        assertThat(DashboardAmountDistributionServiceImpl.quantile(buckets, 4, 1.0))
+                .isEqualTo(Money.ofMinor(AmountBuckets.estimate(400)));
+    }
+
+    @Test
+    void givesNonPositiveAmountsAZeroBin() {
+        List<AmountBucketCount> buckets = List.of(bucket(AmountBuckets.NON_POSITIVE_BUCKET, 4));
+
+        assertThat(DashboardAmountDistributionServiceImpl.quantile(buckets, 4, 0.90)).isEqualTo(Money.ZERO);
+        assertThat(DashboardAmountDistributionServiceImpl.histogram(buckets, 10))
+                .containsExactly(new AmountHistogramBin(Money.ZERO, Money.ZERO, 4));
+    }
+
+    @Test
+    void groupsAllPositiveBucketsIntoOneBin() {
+        List<AmountBucketCount> buckets = List.of(
+                bucket(AmountBuckets.NON_POSITIVE_BUCKET, 2), bucket(100, 1), bucket(200, 2), bucket(300, 3));
+
+        assertThat(DashboardAmountDistributionServiceImpl.histogram(buckets, 1)).containsExactly(
+                new AmountHistogramBin(Money.ZERO, Money.ZERO, 2),
+                new AmountHistogramBin(
+                        Money.ofMinor(AmountBuckets.lowerBound(100)),
+                        Money.ofMinor(AmountBuckets.upperBound(300)),
+                        6));
+    }
+
+    @Test
+    void keepsEmptyBinsBetweenTheExtremes() {
+        List<AmountBucketCount> buckets = List.of(bucket(100, 1), bucket(109, 2));
+
+        List<AmountHistogramBin> bins = DashboardAmountDistributionServiceImpl.histogram(buckets, 5);
+
+        assertThat(bins).extracting(AmountHistogramBin::transactionCount).containsExactly(1L, 0L, 0L, 0L, 2L);
+        assertThat(bins.get(0).lowerBound()).isEqualTo(Money.ofMinor(AmountBuckets.lowerBound(100)));
+        assertThat(bins.get(4).upperBound()).isEqualTo(Money.ofMinor(AmountBuckets.upperBound(109)));
+    }
+
+    private static AmountBucketCount bucket(int index, long count) {
+        return new AmountBucketCount(CATEGORY, (short) index, count);
+    }
+}
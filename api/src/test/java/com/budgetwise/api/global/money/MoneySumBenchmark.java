@@ -0,0 +1,99 @@
+package com.budgetwise.api.global.money;
+
+import com.budgetwise.api.support.Timings;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Summing a month of spend: {@link BigDecimal} addition, as the dashboard and forecast loops did
+ * before {@link Money}, against adding {@link Money#toMinorUnits} into a {@code long} and against
+ * adding minor units read as {@code long}s, as the projections now deliver them. Reports the time
+ * and the bytes allocated per sum. In memory only; not part of the regular build, run it with
+ * {@code mvn test -Dtest=MoneySumBenchmark}.
+ */
+class MoneySumBenchmark {
+
+    // A heavy month: about 300 transactions a day
+    private static final int ROWS = 10_000;
+    private static final int WARMUPS = 2_000;
+    private static final int RUNS = 5_000;
+
+    private final BigDecimal[] decimals = new BigDecimal[ROWS];
+    private final long[] minorUnits = new long[ROWS];
+
+    // Written by every run so the sums cannot be optimized away
+    private long sink;
+
+    MoneySumBenchmark() {
+        Random random = new Random(42);
+        for (int i = 0; i < ROWS; i++) {
+            // DECIMAL(19,4) values between 0.01 and 500.00, as read from the amount column
+            decimals[i] = BigDecimal.valueOf(1 + random.nextInt(50_000), 2).setScale(Money.SCALE);
+            minorUnits[i] = decimals[i].unscaledValue().longValueExact();
+        }
+    }
+
+    @Test
+    void minorUnitSumsAreFasterAndAllocateNothing() {
+        Result bigDecimal = measure("BigDecimal sum", () -> {
+            BigDecimal total = BigDecimal.ZERO;
+            for (BigDecimal amount : decimals) {
+                total = total.add(amount);
+            }
+            return Money.toMinorUnits(total);
+        });
+        Result converted = measure("toMinorUnits sum", () -> {
+            long total = 0;
+            for (BigDecimal amount : decimals) {
+                total += Money.toMinorUnits(amount);
+            }
+            return total;
+        });
+        Result minor = measure("minor unit sum", () -> {
+            long total = 0;
+            for (long amount : minorUnits) {
+                total += amount;
+            }
+            return total;
+        });
+
+        System.out.println(bigDecimal);
+        System.out.println(converted);
+        System.out.println(minor);
+
+        assertThat(converted.total).isEqualTo(bigDecimal.total);
+        assertThat(minor.total).isEqualTo(bigDecimal.total);
+        assertThat(minor.timings.percentileMillis(50)).isLessThan(bigDecimal.timings.percentileMillis(50));
+        assertThat(minor.bytesPerSum).isLessThan(64L);
+        assertThat(bigDecimal.bytesPerSum).isGreaterThan(ROWS * 16L);
+    }
+
+    private Result measure(String name, LongSupplier sum) {
+        long total = sum.getAsLong();
+        Timings timings = Timings.measure(name + " of " + ROWS + " amounts", WARMUPS, RUNS, () -> sink += sum.getAsLong());
+
+        // Counted separately from the timed runs, after the JIT has compiled the loop
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < RUNS; i++) {
+            sink += sum.getAsLong();
+        }
+        long bytesPerSum = (threads.getCurrentThreadAllocatedBytes() - before) / RUNS;
+        return new Result(timings, total, bytesPerSum);
+    }
+
+    private record Result(Timings timings, long total, long bytesPerSum) {
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%s, %d bytes allocated per sum", timings.summary(), bytesPerSum);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.budgetwise.api.global.money;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class MoneyTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void convertsDecimalsAtFourPlaces() {
+        assertThat(Money.of(new BigDecimal("12.5")).minorUnits()).isEqualTo(125_000L);
+        assertThat(Money.of(new BigDecimal("0.0001")).minorUnits()).isEqualTo(1L);
+        assertThat(Money.of(new BigDecimal("-3")).minorUnits()).isEqualTo(-30_000L);
+        assertThat(Money.of(new BigDecimal("12.5")).toBigDecimal()).isEqualTo(new BigDecimal("12.5000"));
+    }
+
+    @Test
+    void roundsHalfUpBeyondFourPlaces() {
+        assertThat(Money.toMinorUnits(new BigDecimal("1.23455"))).isEqualTo(12_346L);
+        assertThat(Money.toMinorUnits(new BigDecimal("1.23454"))).isEqualTo(12_345L);
+        assertThat(Money.toMinorUnits(new BigDecimal("-1.23455"))).isEqualTo(-12_346L);
+    }
+
+    @Test
+    void treatsNullAsZero() {
+        assertThat(Money.of(null)).isEqualTo(Money.ZERO);
+        assertThat(Money.toMinorUnits(null)).isEqualTo(0L);
+    }
+
+    @Test
+    void rejectsAmountsBeyondLongRange() {
+        assertThatThrownBy(() -> Money.of(new BigDecimal("1e16")))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.toMinorUnits(new BigDecimal("1000000000000000")))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.toMinorUnits(new BigDecimal("922337203685477.5808")))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.ofMinor(Long.MIN_VALUE).minus(Money.ofMinor(1)))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void scalesEveryDecimalPlaceCountLikeRounding() {
+        for (String amount : new String[]{"7", "-7.1", "7.12", "-7.123", "7.1234", "7.12340", "7E+2",
+                "922337203685477.5807", "-922337203685477.5808"}) {
+            BigDecimal decimal = new BigDecimal(amount);
+
+            assertThat(Money.toMinorUnits(decimal))
+                    .isEqualTo(decimal.setScale(Money.SCALE).unscaledValue().longValueExact());
+        }
+    }
+
+    @Test
+    void subtracts() {
+        assertThat(Money.of(new BigDecimal("10")).minus(Money.of(new BigDecimal("12.25"))))
+                .isEqualTo(Money.of(new BigDecimal("-2.25")));
+        assertThat(Money.ofMinor(5).minus(Money.ofMinor(5)).isZero()).isTrue();
+    }
+
+    @Test
+    void dividesRoundingHalfUpToWholeMinorUnits() {
+        assertThat(Money.of(new BigDecimal("10")).dividedBy(3).minorUnits()).isEqualTo(33_333L);
+        assertThat(Money.ofMinor(2).dividedBy(3).minorUnits()).isEqualTo(1L);
+        assertThat(Money.ofMinor(5).dividedBy(2).minorUnits()).isEqualTo(3L);
+        assertThat(Money.ofMinor(-5).dividedBy(2).minorUnits()).isEqualTo(-3L);
+    }
+
+    @Test
+    void computesRatiosAndZeroForAZeroDivisor() {
+        assertThat(Money.ofMinor(50).ratio(Money.ofMinor(200))).isCloseTo(0.25, within(1e-9));
+        assertThat(Money.ofMinor(50).ratio(Money.ZERO)).isEqualTo(0d);
+    }
+
+    @Test
+    void comparesByAmount() {
+        assertThat(Money.ofMinor(-1).compareTo(Money.ZERO)).isLessThan(0);
+        assertThat(Money.ofMinor(1).isNegative()).isFalse();
+        assertThat(Money.ofMinor(-1).isNegative()).isTrue();
+    }
+
+    @Test
+    void keepsTheCurrencyThroughArithmetic() {
+        Money euros = Money.of(new BigDecimal("10"), "EUR");
+
+        assertThat(euros.minus(Money.of(new BigDecimal("2.5"), "EUR"))).isEqualTo(Money.of(new BigDecimal("7.5"), "EUR"));
+        assertThat(euros.dividedBy(4).currency()).isEqualTo("EUR");
+        assertThat(Money.of(new BigDecimal("1")).currency()).isEqualTo(Money.NO_CURRENCY);
+        assertThat(euros.toString()).isEqualTo("10 EUR");
+    }
+
+    @Test
+    void rejectsMixingCurrencies() {
+        Money euros = Money.of(new BigDecimal("10"), "EUR");
+        Money dollars = Money.of(new BigDecimal("10"), "USD");
+
+        assertThatThrownBy(() -> euros.minus(dollars)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> euros.compareTo(dollars)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> euros.ratio(dollars)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void convertsToAndFromTheDecimalColumn() {
+        MoneyConverter converter = new MoneyConverter();
+
+        assertThat(converter.convertToDatabaseColumn(Money.of(new BigDecimal("12.5")))).isEqualTo(new BigDecimal("12.5000"));
+        assertThat(converter.convertToEntityAttribute(new BigDecimal("12.5000"))).isEqualTo(Money.ofMinor(125_000L));
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+
+    @Test
+    void formatsWithoutTrailingZeros() {
+        assertThat(Money.of(new BigDecimal("12.5000")).toPlainString()).isEqualTo("12.5");
+        assertThat(Money.of(new BigDecimal("40")).toPlainString()).isEqualTo("40");
+        assertThat(Money.ZERO.toPlainString()).isEqualTo("0");
+    }
+
+    @Test
+    void serializesAsPlainJsonNumber() throws Exception {
+        assertThat(objectMapper.writeValueAsString(Money.of(new BigDecimal("12.5")))).isEqualTo("12.5000");
+        assertThat(objectMapper.readValue("12.34565", Money.class)).isEqualTo(Money.ofMinor(123_457L));
+        assertThat(objectMapper.readValue("\"-7.5\"", Money.class)).isEqualTo(Money.ofMinor(-75_000L));
+    }
+}
@@ -0,0 +1,75 @@
+package com.budgetwise.api.rollup;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class AmountBucketsTest {
+
+    private static final double LN_GAMMA =
+            Math.log((1 + AmountBuckets.RELATIVE_ACCURACY) / (1 - AmountBuckets.RELATIVE_ACCURACY));
+
+    @Test
+    void sqlUsesTheSameGammaAsTheBounds() {
+        Matcher matcher = Pattern.compile("LN\\(\\?\\) / ([0-9.E-]+)").matcher(AmountBuckets.BUCKET_INDEX_SQL);
+
+        assertThat(matcher.find()).isTrue();
+        assertThat(Double.parseDouble(matcher.group(1))).isEqualTo(LN_GAMMA);
+    }
+
+    @Test
+    void adjacentBucketsShareABound() {
+        for (int bucket = 0; bucket < 2200; bucket++) {
+            assertThat(AmountBuckets.upperBound(bucket)).isEqualTo(AmountBuckets.lowerBound(bucket + 1));
+            assertThat(AmountBuckets.lowerBound(bucket)).isLessThanOrEqualTo(AmountBuckets.estimate(bucket));
+            assertThat(AmountBuckets.estimate(bucket)).isLessThanOrEqualTo(AmountBuckets.upperBound(bucket));
+        }
+    }
+
+    @Test
+    void placesAmountsWithinTheirBucketsBounds() {
+        for (long amount : new long[]{1_000, 12_345, 999_999, 1_000_000, 123_456_789, 10_000_000_000_000L}) {
+            int bucket = bucketOf(amount);
+
+            assertThat(amount).isGreaterThan(AmountBuckets.lowerBound(bucket));
+            assertThat(amount).isLessThanOrEqualTo(AmountBuckets.upperBound(bucket));
+        }
+    }
+
+    @Test
+    void estimatesWithinTheRelativeAccuracy() {
+        for (long amount = 1_000; amount < 100_000_000_000L; amount = amount * 3 + 7) {
+            long estimate = AmountBuckets.estimate(bucketOf(amount));
+
+            assertThat((double) Math.abs(estimate - amount) / amount)
+                    .isLessThanOrEqualTo(AmountBuckets.RELATIVE_ACCURACY);
+        }
+    }
+
+    @Test
+    void placesTheEstimateAtTheRelativeAccuracyFromBothBounds() {
+        int bucket = 1000;
+        double estimate = AmountBuckets.estimate(bucket);
+        double lower = AmountBuckets.lowerBound(bucket);
+        double upper = AmountBuckets.upperBound(bucket);
+
+        assertThat((estimate - lower) / lower).isCloseTo(AmountBuckets.RELATIVE_ACCURACY, within(1e-6));
+        assertThat((upper - estimate) / upper).isCloseTo(AmountBuckets.RELATIVE_ACCURACY, within(1e-6));
+    }
+
+    @Test
+    void mapsNonPositiveAmountsToZero() {
+        assertThat(AmountBuckets.lowerBound(AmountBuckets.NON_POSITIVE_BUCKET)).isEqualTo(0L);
+        assertThat(AmountBuckets.upperBound(AmountBuckets.NON_POSITIVE_BUCKET)).isEqualTo(0L);
+        assertThat(AmountBuckets.estimate(AmountBuckets.NON_POSITIVE_BUCKET)).isEqualTo(0L);
+    }
+
+    // The bucket BUCKET_INDEX_SQL computes for a positive amount
+    private static int bucketOf(long amount) {
+        return (int) Math.ceil(Math.log(amount) / LN_GAMMA);
+    }
+}
@@ -0,0 +1,32 @@
+package com.budgetwise.api.statementimport.impl;
+
+import com.budgetwise.api.category.enums.CategoryType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatementImportFingerprintTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 1, 5);
+
+    @Test
+    void ignoresSpacingCaseAndPunctuationInTheDescription() {
+        assertThat(StatementImportServiceImpl.fingerprint(DAY, CategoryType.EXPENSE, new BigDecimal("12.50"), "COFFEE  shop!"))
+                .isEqualTo(StatementImportServiceImpl.fingerprint(DAY, CategoryType.EXPENSE, new BigDecimal("12.5"), "coffee shop"));
+    }
+
+    @Test
+    void distinguishesIncomeFromExpenseWithTheSameAmount() {
+        assertThat(StatementImportServiceImpl.fingerprint(DAY, CategoryType.INCOME, new BigDecimal("20.00"), "Refund"))
+                .isNotEqualTo(StatementImportServiceImpl.fingerprint(DAY, CategoryType.EXPENSE, new BigDecimal("20.00"), "Refund"));
+    }
+
+    @Test
+    void treatsAMissingDescriptionAsEmpty() {
+        assertThat(StatementImportServiceImpl.fingerprint(DAY, CategoryType.EXPENSE, BigDecimal.ONE, null))
+                .isEqualTo(StatementImportServiceImpl.fingerprint(DAY, CategoryType.EXPENSE, BigDecimal.ONE, "  "));
+    }
+}
@@ -0,0 +1,87 @@
+package com.budgetwise.api.statementimport.parser;
+
+import com.budgetwise.api.statementimport.dto.StatementImportRequest;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvStatementParserTest {
+
+    private final CsvStatementParser parser = new CsvStatementParser();
+
+    @Test
+    void parsesRowsWithDefaultColumns() throws IOException {
+        RecordingRowHandler handler = parse("""
+                Date,Amount,Description,Category
+                2024-01-05,-12.50,Coffee shop,Food
+                2024-01-06,"1,500.00",Salary,
+                """, new StatementImportRequest());
+
+        assertThat(handler.errors).isEmpty();
+        assertThat(handler.rows).containsExactly(
+                new StatementRow(2, LocalDate.of(2024, 1, 5), new BigDecimal("-12.50"), "Coffee shop", "Food"),
+                new StatementRow(3, LocalDate.of(2024, 1, 6), new BigDecimal("1500.00"), "Salary", null)
+        );
+    }
+
+    @Test
+    void matchesHeadersIgnoringCaseAndUsesTheConfiguredColumns() throws IOException {
+        StatementImportRequest options = new StatementImportRequest();
+        options.setDateColumn("Booked");
+        options.setAmountColumn("Value");
+        options.setDescriptionColumn("Text");
+        options.setDateFormat("dd.MM.yyyy");
+
+        RecordingRowHandler handler = parse("""
+                BOOKED,VALUE,TEXT
+                31.12.2023,"-1.234,56",Rent
+                """, options);
+
+        assertThat(handler.rows).hasSize(1);
+        StatementRow row = handler.rows.get(0);
+        assertThat(row.date()).isEqualTo(LocalDate.of(2023, 12, 31));
+        assertThat(row.amount()).isEqualByComparingTo("-1234.56");
+        assertThat(row.description()).isEqualTo("Rent");
+        assertThat(row.categoryName()).isNull();
+    }
+
+    @Test
+    void reportsBadRowsWithTheirLineNumberAndKeepsGoing() throws IOException {
+        RecordingRowHandler handler = parse("""
+                Date,Amount,Description
+                2024-13-01,-1.00,Bad date
+                2024-02-01,lots,Bad amount
+                2024-02-02
+                2024-02-03,-3.00,Good
+                """, new StatementImportRequest());
+
+        assertThat(handler.errors).containsOnlyKeys(2L, 3L, 4L);
+        assertThat(handler.errors.get(2L)).startsWith("Invalid date");
+        assertThat(handler.errors.get(3L)).isEqualTo("Invalid amount: lots");
+        assertThat(handler.errors.get(4L)).startsWith("Row does not match the header");
+        assertThat(handler.rows).extracting(StatementRow::lineNumber).containsExactly(5L);
+    }
+
+    @Test
+    void rejectsFilesWithoutARequiredColumn() {
+        assertThatThrownBy(() -> parse("""
+                Date,Description
+                2024-01-05,Coffee
+                """, new StatementImportRequest()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("CSV file has no 'Amount' column.");
+    }
+
+    private RecordingRowHandler parse(String csv, StatementImportRequest options) throws IOException {
+        RecordingRowHandler handler = new RecordingRowHandler();
+        parser.parse(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), options, handler);
+        return handler;
+    }
+}
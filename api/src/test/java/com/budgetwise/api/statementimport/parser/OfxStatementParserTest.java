@@ -0,0 +1,94 @@
+package com.budgetwise.api.statementimport.parser;
+
+import com.budgetwise.api.statementimport.dto.StatementImportRequest;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OfxStatementParserTest {
+
+    private final OfxStatementParser parser = new OfxStatementParser();
+
+    @Test
+    void parsesSgmlStatementsWithoutClosingTags() throws IOException {
+        RecordingRowHandler handler = parse("""
+                OFXHEADER:100
+                DATA:OFXSGML
+                VERSION:102
+
+                <OFX>
+                <BANKMSGSRSV1><STMTTRNRS><STMTRS>
+                <BANKTRANLIST>
+                <DTSTART>20240101
+                <STMTTRN>
+                <TRNTYPE>DEBIT
+                <DTPOSTED>20240105120000.000[-5:EST]
+                <TRNAMT>-12.50
+                <FITID>1
+                <NAME>Coffee &amp; Co
+                <MEMO>Card payment
+                </STMTTRN>
+                <STMTTRN>
+                <TRNTYPE>CREDIT
+                <DTPOSTED>20240106
+                <TRNAMT>1500.00
+                <MEMO>Salary
+                </STMTTRN>
+                </BANKTRANLIST>
+                </STMTRS></STMTTRNRS></BANKMSGSRSV1>
+                </OFX>
+                """);
+
+        assertThat(handler.errors).isEmpty();
+        assertThat(handler.rows).containsExactly(
+                new StatementRow(1, LocalDate.of(2024, 1, 5), new BigDecimal("-12.50"), "Coffee & Co", null),
+                new StatementRow(2, LocalDate.of(2024, 1, 6), new BigDecimal("1500.00"), "Salary", null)
+        );
+    }
+
+    @Test
+    void parsesXmlStatementsWithClosingTags() throws IOException {
+        RecordingRowHandler handler = parse("""
+                <?xml version="1.0" encoding="UTF-8"?>
+                <?OFX OFXHEADER="200" VERSION="211"?>
+                <OFX><BANKMSGSRSV1><STMTTRNRS><STMTRS><BANKTRANLIST>
+                <STMTTRN><TRNTYPE>DEBIT</TRNTYPE><DTPOSTED>20240301</DTPOSTED><TRNAMT>-3.20</TRNAMT><NAME>Bakery</NAME></STMTTRN>
+                </BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1></OFX>
+                """);
+
+        assertThat(handler.errors).isEmpty();
+        assertThat(handler.rows).containsExactly(
+                new StatementRow(1, LocalDate.of(2024, 3, 1), new BigDecimal("-3.20"), "Bakery", null)
+        );
+    }
+
+    @Test
+    void reportsIncompleteOrInvalidTransactions() throws IOException {
+        RecordingRowHandler handler = parse("""
+                <OFX><BANKTRANLIST>
+                <STMTTRN><DTPOSTED>20240105<NAME>No amount</STMTTRN>
+                <STMTTRN><DTPOSTED>20241305<TRNAMT>-1.00<NAME>Bad date</STMTTRN>
+                <STMTTRN><DTPOSTED>20240105<TRNAMT>abc<NAME>Bad amount</STMTTRN>
+                <STMTTRN><DTPOSTED>20240105<TRNAMT>-4.00<NAME>Good</STMTTRN>
+                </BANKTRANLIST></OFX>
+                """);
+
+        assertThat(handler.errors).containsOnlyKeys(1L, 2L, 3L);
+        assertThat(handler.errors.get(1L)).isEqualTo("Transaction is missing DTPOSTED or TRNAMT");
+        assertThat(handler.errors.get(2L)).isEqualTo("Invalid date: 20241305");
+        assertThat(handler.errors.get(3L)).isEqualTo("Invalid amount: abc");
+        assertThat(handler.rows).extracting(StatementRow::description).containsExactly("Good");
+    }
+
+    private RecordingRowHandler parse(String ofx) throws IOException {
+        RecordingRowHandler handler = new RecordingRowHandler();
+        parser.parse(new ByteArrayInputStream(ofx.getBytes(StandardCharsets.UTF_8)), new StatementImportRequest(), handler);
+        return handler;
+    }
+}
@@ -0,0 +1,24 @@
+package com.budgetwise.api.statementimport.parser;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects what a parser reports so tests can assert on it.
+ */
+class RecordingRowHandler implements StatementRowHandler {
+    final List<StatementRow> rows = new ArrayList<>();
+    final Map<Long, String> errors = new LinkedHashMap<>();
+
+    @Override
+    public void onRow(StatementRow row) {
+        rows.add(row);
+    }
+
+    @Override
+    public void onError(long lineNumber, String message) {
+        errors.put(lineNumber, message);
+    }
+}
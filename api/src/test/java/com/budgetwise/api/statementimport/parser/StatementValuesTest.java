@@ -0,0 +1,60 @@
+package com.budgetwise.api.statementimport.parser;
+
+import com.budgetwise.api.transaction.Transaction;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StatementValuesTest {
+
+    @Test
+    void parseAmountReadsPlainNumbers() {
+        assertThat(StatementValues.parseAmount("42")).isEqualByComparingTo("42");
+        assertThat(StatementValues.parseAmount("-12.50")).isEqualByComparingTo("-12.50");
+        assertThat(StatementValues.parseAmount("+7.1")).isEqualByComparingTo("7.1");
+    }
+
+    @Test
+    void parseAmountTreatsTheLastSeparatorAsDecimal() {
+        assertThat(StatementValues.parseAmount("1,234.56")).isEqualByComparingTo("1234.56");
+        assertThat(StatementValues.parseAmount("1.234,56")).isEqualByComparingTo("1234.56");
+        assertThat(StatementValues.parseAmount("1,234,567")).isEqualByComparingTo("1234567");
+        assertThat(StatementValues.parseAmount("1.234.567")).isEqualByComparingTo("1234567");
+        assertThat(StatementValues.parseAmount("12,5")).isEqualByComparingTo("12.5");
+    }
+
+    @Test
+    void parseAmountIgnoresCurrencySymbolsAndSpaces() {
+        assertThat(StatementValues.parseAmount("$ 1,000.00")).isEqualByComparingTo("1000");
+        assertThat(StatementValues.parseAmount("-45,90 €")).isEqualByComparingTo("-45.90");
+    }
+
+    @Test
+    void parseAmountTreatsParenthesesAsNegative() {
+        assertThat(StatementValues.parseAmount("(12.50)")).isEqualByComparingTo("-12.50");
+        assertThat(StatementValues.parseAmount("($1,200.00)")).isEqualByComparingTo("-1200");
+    }
+
+    @Test
+    void parseAmountKeepsTheScaleOfTheStatement() {
+        assertThat(StatementValues.parseAmount("10.00")).isEqualTo(new BigDecimal("10.00"));
+    }
+
+    @Test
+    void parseAmountRejectsTextWithoutDigits() {
+        assertThatThrownBy(() -> StatementValues.parseAmount("n/a")).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> StatementValues.parseAmount("")).isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    void descriptionTrimsBlanksAndTruncatesLongText() {
+        assertThat(StatementValues.description("  Coffee  ")).isEqualTo("Coffee");
+        assertThat(StatementValues.description("   ")).isNull();
+        assertThat(StatementValues.description(null)).isNull();
+        assertThat(StatementValues.description("x".repeat(Transaction.DESCRIPTION_MAX_LENGTH + 10)))
+                .hasSize(Transaction.DESCRIPTION_MAX_LENGTH);
+    }
+}
@@ -0,0 +1,19 @@
+package com.budgetwise.api.support;
+
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Base class for tests that need a real database: a throwaway MariaDB in Docker, migrated by the
+ * same Flyway scripts as production. Subclasses add a slice annotation such as {@code @JdbcTest}
+ * or {@code @DataJpaTest}. The tests are skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class MariaDbTest {
+
+    @Container
+    @ServiceConnection
+    protected static final MariaDBContainer<?> MARIADB = new MariaDBContainer<>("mariadb:11.4");
+}
@@ -0,0 +1,123 @@
+package com.budgetwise.api.support;
+
+import com.budgetwise.api.category.enums.CategoryType;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Inserts rows straight through JDBC, so database tests can build large data sets quickly and
+ * without the entity listeners that maintain rollups and caches.
+ */
+public final class TestRows {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TestRows(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public UUID user(String username) {
+        jdbcTemplate.update("INSERT IGNORE INTO countries " +
+                "(id, name, alpha_2_code, alpha_3_code, calling_code, flag_url) " +
+                "VALUES (1, 'Testland', 'TL', 'TLD', '+1', 'https://example.invalid/tl.png')");
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO users " +
+                        "(id, email, username, first_name, last_name, password, phone_number, is_active, country_id) " +
+                        "VALUES (?, ?, ?, 'Test', 'User', 'x', '+10000000000', TRUE, 1)",
+                id.toString(), username + "@example.invalid", username);
+        return id;
+    }
+
+    public UUID category(UUID userId, String name, CategoryType type) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO categories (id, name, category_type, user_id) VALUES (?, ?, ?, ?)",
+                id.toString(), name, type.name(), userId.toString());
+        return id;
+    }
+
+    public List<UUID> categories(UUID userId, int count, CategoryType type) {
+        List<UUID> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(category(userId, type.getName() + " " + i, type));
+        }
+        return ids;
+    }
+
+    public UUID budget(UUID userId, UUID categoryId, LocalDate month, BigDecimal amount) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO budgets (id, budget_month, budget_amount, user_id, category_id) " +
+                "VALUES (?, ?, ?, ?, ?)", id.toString(), month, amount, userId.toString(), categoryId.toString());
+        return id;
+    }
+
+    public void rollup(UUID userId, UUID categoryId, LocalDate day, BigDecimal total, int count) {
+        jdbcTemplate.update("INSERT INTO daily_spending_rollups " +
+                        "(user_id, category_id, spending_date, total_amount, transaction_count, max_amount) " +
+                        "VALUES (?, ?, ?, ?, ?, ?)",
+                userId.toString(), categoryId.toString(), day, total, count, total);
+    }
+
+    /**
+     * Builds the daily rollups of a user from the transactions inserted so far, the same way the
+     * V8 migration backfills them.
+     */
+    public void rollupsFromTransactions(UUID userId) {
+        jdbcTemplate.update("INSERT INTO daily_spending_rollups " +
+                "(user_id, category_id, spending_date, total_amount, transaction_count, max_amount) " +
+                "SELECT user_id, category_id, DATE(transaction_date), SUM(amount), COUNT(*), MAX(amount) " +
+                "FROM transactions WHERE user_id = ? " +
+                "GROUP BY user_id, category_id, DATE(transaction_date)", userId.toString());
+    }
+
+    /**
+     * Inserts {@code count} transactions for a user, cycling through the categories and spreading
+     * them evenly over {@code days} days starting at {@code firstDay}. Descriptions cycle through
+     * {@code descriptions}, amounts through 1.00 to 100.00.
+     */
+    public void transactions(UUID userId, List<UUID> categoryIds, LocalDate firstDay, int days, int count,
+                             List<String> descriptions) {
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime date = firstDay.plusDays((long) i * days / count).atTime(12, 0).plusSeconds(i % 3600);
+            batch.add(new Object[]{
+                    UUID.randomUUID().toString(),
+                    descriptions.get(i % descriptions.size()),
+                    BigDecimal.valueOf(100 + (i % 9901), 2),
+                    date,
+                    userId.toString(),
+                    categoryIds.get(i % categoryIds.size()).toString()
+            });
+            if (batch.size() == BATCH_SIZE) {
+                insertTransactions(batch);
+                batch.clear();
+            }
+        }
+        insertTransactions(batch);
+    }
+
+    private void insertTransactions(List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO transactions " +
+                "(id, description, amount, transaction_date, user_id, category_id) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", batch);
+    }
+
+    /**
+     * Refreshes the optimizer statistics after a bulk load so EXPLAIN reflects the new data.
+     */
+    public void analyze(String... tables) {
+        for (String table : tables) {
+            jdbcTemplate.execute("ANALYZE TABLE " + table);
+        }
+    }
+}
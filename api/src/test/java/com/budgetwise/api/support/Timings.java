@@ -0,0 +1,47 @@
+package com.budgetwise.api.support;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Wall-clock samples of a repeated action, for the database benchmarks. The action is run a few
+ * times first so connection setup, the buffer pool and the JIT do not count against it.
+ */
+public final class Timings {
+
+    private final String name;
+    private final long[] nanos;
+
+    private Timings(String name, long[] nanos) {
+        this.name = name;
+        this.nanos = nanos;
+        Arrays.sort(this.nanos);
+    }
+
+    public static Timings measure(String name, int warmups, int runs, Runnable action) {
+        for (int i = 0; i < warmups; i++) {
+            action.run();
+        }
+        long[] samples = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            action.run();
+            samples[i] = System.nanoTime() - start;
+        }
+        return new Timings(name, samples);
+    }
+
+    public double percentileMillis(double percentile) {
+        int index = (int) Math.ceil(percentile / 100 * nanos.length) - 1;
+        return nanos[Math.max(0, Math.min(index, nanos.length - 1))] / 1_000_000.0;
+    }
+
+    public double totalMillis() {
+        return Arrays.stream(nanos).sum() / 1_000_000.0;
+    }
+
+    public String summary() {
+        return String.format(Locale.ROOT, "%s: %d runs, p50 %.2f ms, p95 %.2f ms, max %.2f ms",
+                name, nanos.length, percentileMillis(50), percentileMillis(95), percentileMillis(100));
+    }
+}
@@ -0,0 +1,217 @@
+package com.budgetwise.api.transaction;
+
+import com.budgetwise.api.category.enums.CategoryType;
+import com.budgetwise.api.security.SecurityUtils;
+import com.budgetwise.api.support.MariaDbTest;
+import com.budgetwise.api.support.TestRows;
+import com.budgetwise.api.transaction.dto.TransactionResponse;
+import com.budgetwise.api.transaction.impl.TransactionServiceImpl;
+import com.budgetwise.api.user.User;
+import com.budgetwise.api.user.UserRepository;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Heap needed to export 1M transactions as CSV: {@link TransactionServiceImpl#exportTransactionsToCsv},
+ * which writes rows as they are read from the database cursor, against the previous export, which
+ * loaded the whole history with {@code getTransactions} before writing it. The heap is measured
+ * after each garbage collection during the export, so it counts what the export holds on to rather
+ * than the garbage it leaves behind. Not part of the regular build; run it with
+ * {@code mvn test -Dtest=CsvExportBenchmark} (needs Docker).
+ */
+@DataJpaTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+// The export reads in its own transactions, so the data is committed once and not rolled back
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CsvExportBenchmark extends MariaDbTest {
+
+    private static final int ROWS = 1_000_000;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2015, 1, 1);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionServiceImpl transactionService;
+    private org.springframework.transaction.support.TransactionTemplate readOnlyTransaction;
+
+    @BeforeAll
+    void loadData() {
+        TestRows rows = new TestRows(jdbcTemplate);
+        UUID userId = rows.user("export-benchmark");
+        List<UUID> categoryIds = rows.categories(userId, 20, CategoryType.EXPENSE);
+        rows.transactions(userId, categoryIds, FIRST_DAY, 10 * 365, ROWS,
+                List.of("Card payment", "Groceries at the corner shop", "Monthly rent", "Fuel station"));
+        rows.analyze("transactions");
+
+        User user = userRepository.findById(userId).orElseThrow();
+        SecurityUtils securityUtils = mock(SecurityUtils.class);
+        when(securityUtils.getCurrentUser()).thenReturn(user);
+        transactionService = new TransactionServiceImpl(
+                transactionRepository, null, securityUtils, null, null, null, null, null);
+
+        readOnlyTransaction = new org.springframework.transaction.support.TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Test
+    void streamedExportHoldsAFractionOfTheLoadedExport() {
+        CountingOutputStream streamedOut = new CountingOutputStream();
+        long streamed = LiveHeap.peakDuring(() -> readOnlyTransaction.executeWithoutResult(status -> {
+            try {
+                transactionService.exportTransactionsToCsv(response(streamedOut), null, null, false);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+
+        CountingOutputStream loadedOut = new CountingOutputStream();
+        long loaded = LiveHeap.peakDuring(() -> readOnlyTransaction.executeWithoutResult(status ->
+                exportLoaded(loadedOut)));
+
+        System.out.printf(Locale.ROOT, "streamed export of %d rows: %d bytes written, peak live heap +%.1f MB%n",
+                ROWS, streamedOut.bytes, streamed / 1_048_576.0);
+        System.out.printf(Locale.ROOT, "loaded export of %d rows: %d bytes written, peak live heap +%.1f MB%n",
+                ROWS, loadedOut.bytes, loaded / 1_048_576.0);
+
+        assertThat(streamedOut.bytes).isEqualTo(loadedOut.bytes);
+        assertThat(streamed).isLessThan(loaded / 4);
+    }
+
+    // The export as it was before it streamed: the whole history is read into a list first
+    private void exportLoaded(CountingOutputStream out) {
+        List<TransactionResponse> transactions = transactionService.getTransactions(null, null);
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+             CSVPrinter csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT
+                     .withHeader("ID", "Date", "Description", "Amount", "Category", "Type"))) {
+            for (TransactionResponse tx : transactions) {
+                csvPrinter.printRecord(tx.getId(), tx.getTransactionDate(), tx.getDescription(),
+                        tx.getAmount(), tx.getCategoryName(), tx.getCategoryType().name());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static HttpServletResponse response(CountingOutputStream out) throws IOException {
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        when(response.getOutputStream()).thenReturn(out);
+        return response;
+    }
+
+    // Discards what is written, so the output itself takes no heap
+    private static final class CountingOutputStream extends ServletOutputStream {
+
+        private long bytes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+        }
+    }
+
+    /**
+     * The largest heap in use right after a garbage collection, above the heap in use before the
+     * action started.
+     */
+    private static final class LiveHeap implements NotificationListener {
+
+        private final AtomicLong peak = new AtomicLong();
+
+        static long peakDuring(Runnable action) {
+            System.gc();
+            long baseline = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+            LiveHeap liveHeap = new LiveHeap();
+            List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+            collectors.forEach(gc -> ((NotificationEmitter) gc).addNotificationListener(liveHeap, null, null));
+            try {
+                action.run();
+                // Notifications are delivered asynchronously
+                Thread.sleep(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                for (GarbageCollectorMXBean gc : collectors) {
+                    try {
+                        ((NotificationEmitter) gc).removeNotificationListener(liveHeap);
+                    } catch (ListenerNotFoundException ignored) {
+                        // Never added
+                    }
+                }
+            }
+            return Math.max(0, liveHeap.peak.get() - baseline);
+        }
+
+        @Override
+        public void handleNotification(Notification notification, Object handback) {
+            if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+                return;
+            }
+            GarbageCollectionNotificationInfo info =
+                    GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+            long used = info.getGcInfo().getMemoryUsageAfterGc().values().stream()
+                    .mapToLong(MemoryUsage::getUsed)
+                    .sum();
+            peak.accumulateAndGet(used, Math::max);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.budgetwise.api.transaction;
+
+import com.budgetwise.api.category.enums.CategoryType;
+import com.budgetwise.api.support.MariaDbTest;
+import com.budgetwise.api.support.TestRows;
+import com.budgetwise.api.support.Timings;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latency of {@link TransactionRepository#searchDescriptions} for a user with 100k transactions,
+ * against a target of 50 ms. The FULLTEXT index spans all users, so four other users with the
+ * same vocabulary hold 80% of the matching rows. Not part of the regular build; run it with
+ * {@code mvn test -Dtest=TextSearchBenchmark} (needs Docker).
+ */
+@DataJpaTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+// InnoDB adds rows to the FULLTEXT index on commit, so the corpus must be committed
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TextSearchBenchmark extends MariaDbTest {
+
+    private static final int ROWS_PER_USER = 100_000;
+    private static final int OTHER_USERS = 4;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2020, 1, 1);
+    private static final LocalDateTime MIN_DATE = LocalDateTime.of(1000, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_DATE = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private static final List<String> MERCHANTS = List.of(
+            "Netflix", "Spotify", "Amazon", "Uber", "Lidl", "Tesco", "Shell", "Starbucks", "Ikea", "Zara",
+            "Apple", "Google", "Airbnb", "Deliveroo", "Boots", "Costa", "Aldi", "Primark", "Argos", "Vodafone");
+    private static final List<String> DETAILS = List.of(
+            "subscription", "groceries", "coffee shop", "fuel station", "online order", "monthly plan",
+            "card payment", "refund", "weekend trip", "gift");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    private UUID userId;
+
+    @BeforeAll
+    void loadCorpus() {
+        List<String> descriptions = new ArrayList<>();
+        for (String merchant : MERCHANTS) {
+            for (String detail : DETAILS) {
+                descriptions.add(merchant + " " + detail);
+            }
+        }
+
+        TestRows rows = new TestRows(jdbcTemplate);
+        for (int i = 0; i <= OTHER_USERS; i++) {
+            userId = rows.user("search-benchmark-" + i);
+            List<UUID> categoryIds = rows.categories(userId, 10, CategoryType.EXPENSE);
+            rows.transactions(userId, categoryIds, FIRST_DAY, 5 * 365, ROWS_PER_USER, descriptions);
+        }
+        rows.analyze("transactions");
+    }
+
+    @Test
+    void searchStaysUnderFiftyMilliseconds() {
+        List<String> queries = List.of("+netflix*", "+net*", "+coffee* +shop*", "+refund*", "+star* +card*");
+        for (String query : queries) {
+            Timings timings = Timings.measure("text search '" + query + "'", 20, 200, () ->
+                    transactionRepository.searchDescriptions(userId.toString(), query, MIN_DATE, MAX_DATE, null, 20));
+            System.out.println(timings.summary());
+
+            assertThat(timings.percentileMillis(95)).isLessThan(50.0);
+        }
+    }
+
+    @Test
+    void searchReturnsOnlyTheUsersRows() {
+        List<Object[]> hits = transactionRepository.searchDescriptions(
+                userId.toString(), "+netflix*", MIN_DATE, MAX_DATE, null, 20);
+
+        assertThat(hits).hasSize(20);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM transactions WHERE user_id <> ? AND id IN (" +
+                        String.join(",", hits.stream().map(hit -> "'" + hit[0] + "'").toList()) + ")",
+                Long.class, userId.toString()))
+                .isZero();
+    }
+}
@@ -0,0 +1,90 @@
+package com.budgetwise.api.transaction;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransactionCursorTest {
+
+    @Test
+    void decodeReturnsTheEncodedPosition() {
+        TransactionCursor cursor = new TransactionCursor(
+                LocalDateTime.of(2024, 3, 31, 23, 59, 58, 123_000_000),
+                UUID.fromString("0190f3c2-5b7a-7d3e-9a41-2c8e5f6a7b80")
+        );
+
+        assertThat(TransactionCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void decodeKeepsMidnightTimestamps() {
+        // LocalDateTime.toString() drops zero seconds, so "2024-01-01T00:00" must still parse back.
+        TransactionCursor cursor = new TransactionCursor(LocalDateTime.of(2024, 1, 1, 0, 0), UUID.randomUUID());
+
+        assertThat(TransactionCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void encodedTokenIsUrlSafe() {
+        TransactionCursor cursor = new TransactionCursor(LocalDateTime.of(2024, 5, 6, 7, 8, 9), UUID.randomUUID());
+
+        assertThat(cursor.encode()).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void decodeRejectsNonBase64Token() {
+        assertThatThrownBy(() -> TransactionCursor.decode("not a cursor!"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid pagination cursor.");
+    }
+
+    @Test
+    void decodeRejectsTokenWithoutSeparator() {
+        assertThatThrownBy(() -> TransactionCursor.decode(token("2024-01-01T00:00")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid pagination cursor.");
+    }
+
+    @Test
+    void decodeRejectsMalformedDate() {
+        assertThatThrownBy(() -> TransactionCursor.decode(token("2024-13-01T00:00|" + UUID.randomUUID())))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid pagination cursor.");
+    }
+
+    @Test
+    void decodeRejectsMalformedId() {
+        assertThatThrownBy(() -> TransactionCursor.decode(token("2024-01-01T00:00|not-a-uuid")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid pagination cursor.");
+    }
+
+    @Test
+    void decodeRejectsEveryTruncationOfAValidToken() {
+        String token = new TransactionCursor(LocalDateTime.of(2024, 5, 6, 7, 8, 9), UUID.randomUUID()).encode();
+
+        for (int length = 0; length < token.length(); length++) {
+            String truncated = token.substring(0, length);
+            assertThatThrownBy(() -> TransactionCursor.decode(truncated))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Invalid pagination cursor.");
+        }
+    }
+
+    @Test
+    void decodeRejectsEmptyToken() {
+        assertThatThrownBy(() -> TransactionCursor.decode(""))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid pagination cursor.");
+    }
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,102 @@
+package com.budgetwise.api.transaction;
+
+import com.budgetwise.api.transaction.enums.TransactionSortOrder;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransactionSearchCursorTest {
+
+    private static final UUID ID = UUID.fromString("0190f3c2-5b7a-7d3e-9a41-2c8e5f6a7b80");
+
+    @Test
+    void decodeReturnsTheEncodedDatePosition() {
+        TransactionSearchCursor cursor = new TransactionSearchCursor(
+                TransactionSortOrder.DATE_DESC, LocalDateTime.of(2024, 2, 29, 18, 30).toString(), ID);
+
+        TransactionSearchCursor decoded = TransactionSearchCursor.decode(cursor.encode(), TransactionSortOrder.DATE_DESC);
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.dateValue()).isEqualTo(LocalDateTime.of(2024, 2, 29, 18, 30));
+    }
+
+    @Test
+    void decodeReturnsTheEncodedAmountPosition() {
+        TransactionSearchCursor cursor = new TransactionSearchCursor(TransactionSortOrder.AMOUNT_ASC, "1234.5600", ID);
+
+        TransactionSearchCursor decoded = TransactionSearchCursor.decode(cursor.encode(), TransactionSortOrder.AMOUNT_ASC);
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.amountValue()).isEqualTo(new BigDecimal("1234.5600"));
+    }
+
+    @Test
+    void decodeRejectsCursorIssuedForAnotherSortOrder() {
+        String token = new TransactionSearchCursor(TransactionSortOrder.DATE_DESC, "2024-01-01T00:00", ID).encode();
+
+        assertThatThrownBy(() -> TransactionSearchCursor.decode(token, TransactionSortOrder.DATE_ASC))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The pagination cursor was issued for a different sort order.");
+    }
+
+    @Test
+    void decodeRejectsUnknownSortOrder() {
+        assertInvalid(token("RELEVANCE|2024-01-01T00:00|" + ID), TransactionSortOrder.DATE_DESC);
+    }
+
+    @Test
+    void decodeRejectsBadAmount() {
+        assertInvalid(token("AMOUNT_DESC|12.5x|" + ID), TransactionSortOrder.AMOUNT_DESC);
+    }
+
+    @Test
+    void decodeRejectsBadDate() {
+        assertInvalid(token("DATE_DESC|2024-02-30T00:00|" + ID), TransactionSortOrder.DATE_DESC);
+        assertInvalid(token("DATE_DESC|1234.56|" + ID), TransactionSortOrder.DATE_DESC);
+    }
+
+    @Test
+    void decodeRejectsAmountWhereADateIsExpectedToBeParsed() {
+        // The sort in the token decides how the value is read, so a date under AMOUNT_ASC is invalid
+        assertInvalid(token("AMOUNT_ASC|2024-01-01T00:00|" + ID), TransactionSortOrder.AMOUNT_ASC);
+    }
+
+    @Test
+    void decodeRejectsTokenWithMissingParts() {
+        assertInvalid(token("DATE_DESC|2024-01-01T00:00"), TransactionSortOrder.DATE_DESC);
+        assertInvalid(token("DATE_DESC"), TransactionSortOrder.DATE_DESC);
+        assertInvalid("", TransactionSortOrder.DATE_DESC);
+    }
+
+    @Test
+    void decodeRejectsEveryTruncationOfAValidToken() {
+        String token = new TransactionSearchCursor(TransactionSortOrder.AMOUNT_DESC, "99.9900", ID).encode();
+
+        for (int length = 0; length < token.length(); length++) {
+            assertInvalid(token.substring(0, length), TransactionSortOrder.AMOUNT_DESC);
+        }
+    }
+
+    @Test
+    void decodeRejectsNonBase64Token() {
+        assertInvalid("%%%", TransactionSortOrder.DATE_DESC);
+    }
+
+    private static void assertInvalid(String token, TransactionSortOrder sort) {
+        assertThatThrownBy(() -> TransactionSearchCursor.decode(token, sort))
+                .as("token %s", token)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid pagination cursor.");
+    }
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
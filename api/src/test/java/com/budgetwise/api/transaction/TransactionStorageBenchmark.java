@@ -0,0 +1,130 @@
+package com.budgetwise.api.transaction;
+
+import com.budgetwise.api.category.enums.CategoryType;
+import com.budgetwise.api.global.id.TimeOrderedUuidGenerator;
+import com.budgetwise.api.support.MariaDbTest;
+import com.budgetwise.api.support.TestRows;
+import com.budgetwise.api.support.Timings;
+import org.flywaydb.core.Flyway;
+import org.hibernate.id.uuid.CustomVersionOneStrategy;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Insert and scan cost of the transactions table before and after V7: the V6 layout with
+ * UUIDv1-style ids (Hibernate's TIME style) and a LONGTEXT description, clustered by id, against
+ * the V7 layout with UUIDv7 ids and a VARCHAR description, clustered by (user_id,
+ * transaction_date, id). Both schemas live in the same container and get the same rows, written in
+ * time order with the users interleaved as live traffic would be. Not part of the regular build;
+ * run it with {@code mvn test -Dtest=TransactionStorageBenchmark} (needs Docker).
+ */
+class TransactionStorageBenchmark extends MariaDbTest {
+
+    private static final int USERS = 50;
+    private static final int ROWS = 200_000;
+    private static final int DAYS = 3 * 365;
+    private static final int BATCH_SIZE = 1000;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2022, 1, 1);
+
+    private static final String SCAN_SQL =
+            "SELECT id, amount, description, transaction_date FROM transactions " +
+            "WHERE user_id = ? AND transaction_date >= ? AND transaction_date < ? " +
+            "ORDER BY transaction_date";
+
+    @Test
+    void compactLayoutInsertsAndScansFaster() {
+        CustomVersionOneStrategy versionOne = new CustomVersionOneStrategy();
+        Layout before = load("transactions_v6", "6", () -> versionOne.generateUuid(null));
+        Layout after = load("transactions_v7", "latest", TimeOrderedUuidGenerator::next);
+
+        for (Layout layout : List.of(before, after)) {
+            System.out.println(layout.inserts().summary());
+            System.out.println(layout.scans().summary());
+            System.out.printf("%s: %d bytes of data, %d bytes of indexes%n",
+                    layout.name(), layout.dataBytes(), layout.indexBytes());
+        }
+
+        assertThat(after.inserts().totalMillis()).isLessThan(before.inserts().totalMillis());
+        assertThat(after.scans().percentileMillis(95)).isLessThan(before.scans().percentileMillis(95));
+    }
+
+    /**
+     * Migrates a fresh schema up to {@code target}, inserts the rows with ids from {@code ids} and
+     * times a quarter's history of one user.
+     */
+    private Layout load(String schema, String target, Supplier<UUID> ids) {
+        Flyway.configure()
+                .dataSource(MARIADB.getJdbcUrl(), "root", MARIADB.getPassword())
+                .schemas(schema)
+                .locations("classpath:db/migration")
+                .target(target)
+                .load()
+                .migrate();
+
+        String url = "jdbc:mariadb://" + MARIADB.getHost() + ":" + MARIADB.getFirstMappedPort() + "/" + schema
+                + "?rewriteBatchedStatements=true";
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(url, "root", MARIADB.getPassword()));
+
+        TestRows rows = new TestRows(jdbcTemplate);
+        List<UUID> userIds = new ArrayList<>(USERS);
+        List<List<UUID>> categoryIds = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            UUID userId = rows.user(schema + "-" + i);
+            userIds.add(userId);
+            categoryIds.add(rows.categories(userId, 10, CategoryType.EXPENSE));
+        }
+
+        List<List<Object[]>> batches = new ArrayList<>();
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < ROWS; i++) {
+            int user = i % USERS;
+            List<UUID> categories = categoryIds.get(user);
+            batch.add(new Object[]{
+                    ids.get().toString(),
+                    "Card payment " + (i % 500),
+                    BigDecimal.valueOf(100 + (i % 9901), 2),
+                    FIRST_DAY.plusDays((long) i * DAYS / ROWS).atTime(12, 0).plusSeconds(i % 3600),
+                    userIds.get(user).toString(),
+                    categories.get((i / USERS) % categories.size()).toString()
+            });
+            if (batch.size() == BATCH_SIZE) {
+                batches.add(batch);
+                batch = new ArrayList<>(BATCH_SIZE);
+            }
+        }
+
+        int[] next = {0};
+        Timings inserts = Timings.measure(schema + " insert of " + BATCH_SIZE + " rows", 0, batches.size(), () ->
+                jdbcTemplate.batchUpdate("INSERT INTO transactions " +
+                        "(id, description, amount, transaction_date, user_id, category_id) " +
+                        "VALUES (?, ?, ?, ?, ?, ?)", batches.get(next[0]++)));
+        rows.analyze("transactions");
+
+        String userId = userIds.get(USERS / 2).toString();
+        LocalDateTime from = FIRST_DAY.plusYears(1).atStartOfDay();
+        LocalDateTime to = from.plusMonths(3);
+        Timings scans = Timings.measure(schema + " scan of one user's quarter", 20, 200, () ->
+                jdbcTemplate.queryForList(SCAN_SQL, userId, from, to));
+
+        Map<String, Object> size = jdbcTemplate.queryForMap(
+                "SELECT data_length, index_length FROM information_schema.tables " +
+                        "WHERE table_schema = ? AND table_name = 'transactions'", schema);
+        return new Layout(schema, inserts, scans,
+                ((Number) size.get("data_length")).longValue(), ((Number) size.get("index_length")).longValue());
+    }
+
+    private record Layout(String name, Timings inserts, Timings scans, long dataBytes, long indexBytes) {
+    }
+}
@@ -0,0 +1,81 @@
+package com.budgetwise.api.transaction.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionWriteTrackerTest {
+
+    private final TransactionWriteTracker tracker = new TransactionWriteTracker();
+    private final UUID user = UUID.randomUUID();
+    private final UUID otherUser = UUID.randomUUID();
+
+    @Test
+    void loadWithoutWritesCanBeKept() {
+        TransactionWriteTracker.Load load = tracker.startLoad(user);
+
+        assertThat(tracker.finishLoad(load)).isTrue();
+    }
+
+    @Test
+    void loadStartedDuringAWriteIsDropped() {
+        tracker.writeStarted(user);
+        TransactionWriteTracker.Load load = tracker.startLoad(user);
+        tracker.writeFinished(user);
+
+        assertThat(tracker.finishLoad(load)).isFalse();
+    }
+
+    @Test
+    void loadThatSeesAWriteStartIsDropped() {
+        TransactionWriteTracker.Load load = tracker.startLoad(user);
+        tracker.writeStarted(user);
+
+        assertThat(tracker.finishLoad(load)).isFalse();
+    }
+
+    @Test
+    void loadAfterAFinishedWriteCanBeKept() {
+        tracker.writeStarted(user);
+        tracker.writeFinished(user);
+
+        assertThat(tracker.finishLoad(tracker.startLoad(user))).isTrue();
+    }
+
+    @Test
+    void writeStaysInFlightUntilEveryConcurrentWriteHasFinished() {
+        tracker.writeStarted(user);
+        tracker.writeStarted(user);
+        tracker.writeFinished(user);
+
+        assertThat(tracker.finishLoad(tracker.startLoad(user))).isFalse();
+
+        tracker.writeFinished(user);
+
+        assertThat(tracker.finishLoad(tracker.startLoad(user))).isTrue();
+    }
+
+    @Test
+    void writesOfOtherUsersDoNotAffectTheLoad() {
+        tracker.writeStarted(otherUser);
+        TransactionWriteTracker.Load load = tracker.startLoad(user);
+        tracker.writeStarted(otherUser);
+
+        assertThat(tracker.finishLoad(load)).isTrue();
+    }
+
+    @Test
+    void everyOverlappingLoadOfTheUserIsDropped() {
+        TransactionWriteTracker.Load first = tracker.startLoad(user);
+        TransactionWriteTracker.Load second = tracker.startLoad(user);
+        tracker.writeStarted(user);
+        tracker.writeFinished(user);
+        TransactionWriteTracker.Load third = tracker.startLoad(user);
+
+        assertThat(tracker.finishLoad(first)).isFalse();
+        assertThat(tracker.finishLoad(second)).isFalse();
+        assertThat(tracker.finishLoad(third)).isTrue();
+    }
+}
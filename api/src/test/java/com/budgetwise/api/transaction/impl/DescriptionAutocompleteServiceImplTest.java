@@ -0,0 +1,148 @@
+package com.budgetwise.api.transaction.impl;
+
+import com.budgetwise.api.security.SecurityUtils;
+import com.budgetwise.api.transaction.TransactionRepository;
+import com.budgetwise.api.transaction.dto.DescriptionSuggestion;
+import com.budgetwise.api.transaction.dto.DescriptionUsage;
+import com.budgetwise.api.transaction.event.TransactionWriteTracker;
+import com.budgetwise.api.user.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DescriptionAutocompleteServiceImplTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 1, 12, 0);
+
+    private final User user = User.builder().id(UUID.randomUUID()).build();
+    private final UUID categoryId = UUID.randomUUID();
+    private final List<DescriptionUsage> usages = List.of(new DescriptionUsage("Tesco", categoryId, "Groceries", 3L, NOW));
+
+    private final TransactionRepository transactionRepository = mock(TransactionRepository.class);
+    private final TransactionWriteTracker writeTracker = spy(new TransactionWriteTracker());
+    private final List<TransactionWriteTracker.Load> loads = new CopyOnWriteArrayList<>();
+    private final DescriptionAutocompleteServiceImpl service;
+
+    DescriptionAutocompleteServiceImplTest() {
+        SecurityUtils securityUtils = mock(SecurityUtils.class);
+        when(securityUtils.getCurrentUser()).thenReturn(user);
+        doAnswer(invocation -> {
+            TransactionWriteTracker.Load load = (TransactionWriteTracker.Load) invocation.callRealMethod();
+            loads.add(load);
+            return load;
+        }).when(writeTracker).startLoad(any());
+
+        service = new DescriptionAutocompleteServiceImpl(transactionRepository, securityUtils, writeTracker);
+        ReflectionTestUtils.setField(service, "maxEntries", 1000);
+        ReflectionTestUtils.setField(service, "maxEntriesPerUser", 100);
+    }
+
+    @Test
+    void keepsAnIndexBuiltWithoutWrites() {
+        when(transactionRepository.findDescriptionUsageByUser(user)).thenReturn(usages);
+
+        assertThat(suggest("tes")).containsExactly("Tesco");
+        assertThat(suggest("tes")).containsExactly("Tesco");
+
+        verify(transactionRepository, times(1)).findDescriptionUsageByUser(user);
+        verify(writeTracker).finishLoad(loads.get(0));
+    }
+
+    @Test
+    void finishesTheLoadWhenTheQueryFails() {
+        when(transactionRepository.findDescriptionUsageByUser(user))
+                .thenThrow(new IllegalStateException("connection lost"))
+                .thenReturn(usages);
+
+        assertThatThrownBy(() -> suggest("tes")).isInstanceOf(IllegalStateException.class);
+        verify(writeTracker).finishLoad(loads.get(0));
+
+        assertThat(suggest("tes")).containsExactly("Tesco");
+        verify(writeTracker).finishLoad(loads.get(1));
+    }
+
+    @Test
+    void finishesTheLoadOfABuildThatLostTheRace() throws Exception {
+        CountDownLatch firstQueryStarted = new CountDownLatch(1);
+        CountDownLatch secondBuildDone = new CountDownLatch(1);
+        when(transactionRepository.findDescriptionUsageByUser(user))
+                .thenAnswer(invocation -> {
+                    firstQueryStarted.countDown();
+                    assertThat(secondBuildDone.await(5, TimeUnit.SECONDS)).isTrue();
+                    return usages;
+                })
+                .thenReturn(usages);
+
+        CompletableFuture<List<String>> first = CompletableFuture.supplyAsync(() -> suggest("tes"));
+        assertThat(firstQueryStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(suggest("tes")).containsExactly("Tesco");
+        secondBuildDone.countDown();
+
+        // The first build finds the second one's index installed and serves its own result once
+        assertThat(first.get(5, TimeUnit.SECONDS)).containsExactly("Tesco");
+        assertThat(loads).hasSize(2);
+        verify(writeTracker).finishLoad(loads.get(0));
+        verify(writeTracker).finishLoad(loads.get(1));
+
+        assertThat(suggest("tes")).containsExactly("Tesco");
+        verify(transactionRepository, times(2)).findDescriptionUsageByUser(user);
+    }
+
+    @Test
+    void servesAStaleBuildOnceAndRebuilds() {
+        when(transactionRepository.findDescriptionUsageByUser(user))
+                .thenAnswer(invocation -> {
+                    // A category rename commits while the index is being built
+                    service.invalidate(user.getId());
+                    return usages;
+                })
+                .thenReturn(usages);
+
+        assertThat(suggest("tes")).containsExactly("Tesco");
+        verify(writeTracker).finishLoad(loads.get(0));
+
+        assertThat(suggest("tes")).containsExactly("Tesco");
+        assertThat(suggest("tes")).containsExactly("Tesco");
+        verify(transactionRepository, times(2)).findDescriptionUsageByUser(user);
+    }
+
+    @Test
+    void dropsAnIndexWhoseBuildOverlappedATransactionWrite() {
+        when(transactionRepository.findDescriptionUsageByUser(user))
+                .thenAnswer(invocation -> {
+                    writeTracker.writeStarted(user.getId());
+                    writeTracker.writeFinished(user.getId());
+                    return usages;
+                })
+                .thenReturn(usages);
+
+        assertThat(suggest("tes")).containsExactly("Tesco");
+        assertThat(suggest("tes")).containsExactly("Tesco");
+        assertThat(suggest("tes")).containsExactly("Tesco");
+
+        verify(transactionRepository, times(2)).findDescriptionUsageByUser(user);
+    }
+
+    private List<String> suggest(String prefix) {
+        return service.suggest(prefix, 10).stream()
+                .map(DescriptionSuggestion::getDescription)
+                .toList();
+    }
+}
@@ -0,0 +1,80 @@
+package com.budgetwise.api.transaction.impl;
+
+import com.budgetwise.api.transaction.dto.DescriptionSuggestion;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserDescriptionIndexTest {
+
+    private static final UUID GROCERIES = UUID.randomUUID();
+    private static final UUID DINING = UUID.randomUUID();
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 1, 12, 0);
+
+    private final UserDescriptionIndex index = new UserDescriptionIndex();
+
+    @Test
+    void suggestsByPrefixMostUsedFirst() {
+        index.add("Tesco Express", GROCERIES, "Groceries", 3, NOW);
+        index.add("Tesco  extra", GROCERIES, "Groceries", 5, NOW.minusDays(1));
+        index.add("Taxi", DINING, "Dining", 9, NOW);
+
+        assertThat(index.suggest("tesco ", 10))
+                .extracting(DescriptionSuggestion::getDescription)
+                .containsExactly("Tesco  extra", "Tesco Express");
+    }
+
+    @Test
+    void suggestsTheMostUsedCategory() {
+        index.add("Costa", DINING, "Dining", 1, NOW);
+        index.add("costa", GROCERIES, "Groceries", 2, NOW);
+
+        DescriptionSuggestion suggestion = index.suggest("cos", 1).get(0);
+
+        assertThat(suggestion.getUsageCount()).isEqualTo(3L);
+        assertThat(suggestion.getSuggestedCategoryId()).isEqualTo(GROCERIES);
+        assertThat(suggestion.getSuggestedCategoryName()).isEqualTo("Groceries");
+    }
+
+    @Test
+    void removeDropsTheEntryWithItsLastUse() {
+        index.add("Lidl", GROCERIES, "Groceries", 2, NOW);
+        index.remove("lidl", GROCERIES);
+
+        assertThat(index.size()).isEqualTo(1);
+
+        index.remove("LIDL", GROCERIES);
+
+        assertThat(index.size()).isEqualTo(0);
+    }
+
+    @Test
+    void trimKeepsTheMostUsedEntries() {
+        index.add("a", GROCERIES, "Groceries", 1, NOW);
+        index.add("b", GROCERIES, "Groceries", 4, NOW);
+        index.add("c", GROCERIES, "Groceries", 3, NOW);
+        index.add("d", GROCERIES, "Groceries", 2, NOW);
+
+        index.trimTo(2);
+
+        assertThat(index.suggest("", 10))
+                .extracting(DescriptionSuggestion::getDescription)
+                .containsExactly("b", "c");
+    }
+
+    @Test
+    void trimByOneDropsTheLeastUsedAndOldest() {
+        index.add("old", GROCERIES, "Groceries", 1, NOW.minusDays(10));
+        index.add("new", GROCERIES, "Groceries", 1, NOW);
+        index.add("busy", GROCERIES, "Groceries", 7, NOW.minusDays(30));
+
+        index.trimTo(2);
+
+        assertThat(index.suggest("", 10))
+                .extracting(DescriptionSuggestion::getDescription)
+                .containsExactly("busy", "new");
+    }
+}